@@ -33,4 +33,14 @@ public class DataRetrievalException extends RuntimeException {
     public DataRetrievalException(final String msg) {
         super(msg);
     }
+
+    /**
+     * Construct a DataRetrievalException with the specified detail message and cause.
+     *
+     * @param msg   The detail message.
+     * @param cause The cause.
+     */
+    public DataRetrievalException(final String msg, final Throwable cause) {
+        super(msg, cause);
+    }
 }
@@ -25,14 +25,13 @@ import de.fraunhofer.iais.eis.util.ConstraintViolationException;
 import ids.messaging.core.config.ConfigContainer;
 import ids.messaging.core.config.ConfigUpdateException;
 import ids.messaging.core.config.ssl.keystore.KeyStoreManager;
-import ids.messaging.core.daps.ConnectorMissingCertExtensionException;
-import ids.messaging.core.daps.DapsConnectionException;
-import ids.messaging.core.daps.DapsEmptyResponseException;
-import ids.messaging.core.daps.DapsTokenProvider;
 import io.dataspaceconnector.common.ids.mapping.FromIdsObjectMapper;
+import io.dataspaceconnector.common.ids.mapping.RdfConverter;
 import io.dataspaceconnector.model.configuration.ConnectorStatus;
 import io.dataspaceconnector.model.configuration.DeployMode;
 import io.dataspaceconnector.model.resource.OfferedResource;
+import io.dataspaceconnector.service.cache.DatCache;
+import io.dataspaceconnector.service.cache.IdsDescriptionCache;
 import io.dataspaceconnector.service.resource.ids.builder.IdsCatalogBuilder;
 import io.dataspaceconnector.service.resource.ids.builder.IdsResourceBuilder;
 import io.dataspaceconnector.service.resource.type.CatalogService;
@@ -51,6 +50,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static io.dataspaceconnector.service.resource.ids.builder.base.AbstractIdsBuilder.DEFAULT_DEPTH;
+
 /**
  * This service offers different methods related to the connector configuration, like e.g. getting
  * configuration properties or updating the configuration model.
@@ -66,9 +67,9 @@ public class ConnectorService {
     private final @NonNull ConfigContainer configContainer;
 
     /**
-     * The token provider.
+     * Cache of the connector's DAT.
      */
-    private final @NonNull DapsTokenProvider tokenProvider;
+    private final @NonNull DatCache datCache;
 
     /**
      * Service for persisted catalogs.
@@ -95,6 +96,16 @@ public class ConnectorService {
      */
     private final @NonNull ConfigurationService configurationService;
 
+    /**
+     * Cache of built ids descriptions.
+     */
+    private final @NonNull IdsDescriptionCache descriptionCache;
+
+    /**
+     * Service for deserializing ids objects.
+     */
+    private final @NonNull DeserializationService deserializationService;
+
     /**
      * Get keystore manager from ids messaging services.
      * @return The keystore manager.
@@ -163,25 +174,7 @@ public class ConnectorService {
      * @return The connector's DAT.
      */
     public DynamicAttributeToken getCurrentDat() {
-        try {
-            return tokenProvider.getDAT();
-        } catch (ConnectorMissingCertExtensionException e) {
-            if (log.isWarnEnabled()) {
-                log.warn("Connector certificate is missing aki/ski extensions."
-                        + " [exception=({})]", e.getMessage());
-            }
-        } catch (DapsConnectionException e) {
-            if (log.isWarnEnabled()) {
-                log.warn("Connection to DAPS could not be established. "
-                        + "[exception=({})]", e.getMessage());
-            }
-        } catch (DapsEmptyResponseException e) {
-            if (log.isWarnEnabled()) {
-                log.warn("Received empty response from DAPS. [exception=({})]", e.getMessage());
-            }
-        }
-
-        return null;
+        return datCache.getDat();
     }
 
     /**
@@ -189,6 +182,7 @@ public class ConnectorService {
      *
      * @return The ids base connector object.
      */
+    @Transactional(readOnly = true)
     public BaseConnector getConnectorWithOfferedResources() throws ConstraintViolationException {
         // Get a local copy of the current connector.
         final var connector = configContainer.getConnector();
@@ -271,7 +265,8 @@ public class ConnectorService {
     }
 
     /**
-     * Get offered resource by its id.
+     * Get offered resource by its id. The resource is read from the cached serialization, so
+     * callers may modify it without affecting the cache.
      *
      * @param resourceId The resource id.
      * @return The ids resource.
@@ -282,6 +277,7 @@ public class ConnectorService {
                 .filter(x -> resourceId.toString().contains(x.getId().toString()))
                 .findAny();
 
-        return resource.map(resourceBuilder::create);
+        return resource.map(x -> deserializationService.getResource(descriptionCache.get(x,
+                DEFAULT_DEPTH, () -> resourceBuilder.create(x), RdfConverter::toRdf).getRdf()));
     }
 }
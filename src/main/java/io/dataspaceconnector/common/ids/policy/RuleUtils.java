@@ -132,6 +132,25 @@ public final class RuleUtils {
         return false;
     }
 
+    /**
+     * Get the date after which data has to be deleted according to the post duties of a rule.
+     *
+     * @param rule The ids rule.
+     * @return The deletion date, null if the rule does not require deletion.
+     * @throws DateTimeParseException If the date cannot be parsed.
+     */
+    public static ZonedDateTime getDeletionDate(final Rule rule) throws DateTimeParseException {
+        if (rule instanceof Permission permission && permission.getPostDuty() != null) {
+            for (final var duty : permission.getPostDuty()) {
+                if (duty.getAction().contains(Action.DELETE)) {
+                    return getDate(duty);
+                }
+            }
+        }
+
+        return null;
+    }
+
     /**
      * Check duties for deletion.
      *
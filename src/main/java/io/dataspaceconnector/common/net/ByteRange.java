@@ -0,0 +1,137 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.net;
+
+import de.fraunhofer.iais.eis.Message;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Byte range of an artifact's data, requested by properties of the artifact request header.
+ * Providers not supporting ranges ignore these properties and return all data. The first range
+ * of a transfer starts at zero. The provider's response names the transfer, further ranges of
+ * it are requested with this id.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class ByteRange {
+
+    /**
+     * Property of an artifact request header holding the offset of the first requested byte.
+     */
+    public static final String START_PROPERTY = "https://w3id.org/dsc#rangeStart";
+
+    /**
+     * Property of an artifact request header holding the maximum number of requested bytes.
+     */
+    public static final String LENGTH_PROPERTY = "https://w3id.org/dsc#rangeLength";
+
+    /**
+     * Property of artifact request and response headers holding the id of the transfer.
+     */
+    public static final String TRANSFER_PROPERTY = "https://w3id.org/dsc#transferId";
+
+    /**
+     * Property of an artifact response header holding the CRC32C checksum of the returned range.
+     */
+    public static final String CHUNK_CHECKSUM_PROPERTY = "https://w3id.org/dsc#chunkCheckSum";
+
+    /**
+     * Property of an artifact response header holding the CRC32C checksum of all data of the
+     * transfer.
+     */
+    public static final String DATA_CHECKSUM_PROPERTY = "https://w3id.org/dsc#dataCheckSum";
+
+    /**
+     * Property of an artifact response header holding the size of all data of the transfer.
+     */
+    public static final String DATA_LENGTH_PROPERTY = "https://w3id.org/dsc#dataLength";
+
+    /**
+     * Offset of the first requested byte.
+     */
+    private final long start;
+
+    /**
+     * Maximum number of requested bytes.
+     */
+    private final long length;
+
+    /**
+     * The transfer the range belongs to. Null for the first range.
+     */
+    private final UUID transferId;
+
+    /**
+     * Add the range to the header of an artifact request.
+     *
+     * @param header The header.
+     */
+    public void addTo(final Message header) {
+        header.setProperty(START_PROPERTY, String.valueOf(start));
+        header.setProperty(LENGTH_PROPERTY, String.valueOf(length));
+        if (transferId != null) {
+            header.setProperty(TRANSFER_PROPERTY, transferId.toString());
+        }
+    }
+
+    /**
+     * Read the requested range from the header of an artifact request.
+     *
+     * @param header The header.
+     * @return The range or null, if no range has been requested.
+     * @throws IllegalArgumentException if the properties of the range are invalid.
+     */
+    public static ByteRange from(final Message header) {
+        final var start = getProperty(header, START_PROPERTY);
+        final var length = getProperty(header, LENGTH_PROPERTY);
+        if (start == null || length == null) {
+            return null;
+        }
+
+        final var transferId = getProperty(header, TRANSFER_PROPERTY);
+        return new ByteRange(Long.parseLong(start), Long.parseLong(length),
+                transferId == null ? null : UUID.fromString(transferId));
+    }
+
+    /**
+     * Get the value of a custom header property.
+     *
+     * @param header The header.
+     * @param name   The name of the property.
+     * @return The value or null, if the property is not set.
+     */
+    public static String getProperty(final Message header, final String name) {
+        final var properties = header.getProperties();
+        if (properties == null) {
+            return null;
+        }
+
+        var value = properties.get(name);
+        if (value instanceof Map<?, ?> typed && typed.containsKey("@value")) {
+            value = typed.get("@value");
+        }
+
+        return value == null ? null : value.toString();
+    }
+}
@@ -16,17 +16,19 @@
 package io.dataspaceconnector.common.net;
 
 import java.io.InputStream;
+import java.util.Locale;
+import java.util.Map;
 
 import io.dataspaceconnector.common.routing.dataretrieval.Response;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 
 /**
  * Represents data retrieved via HTTP.
  */
 @Getter
-@RequiredArgsConstructor
+@AllArgsConstructor
 public class HttpResponse implements Response {
 
     /**
@@ -39,4 +41,28 @@ public class HttpResponse implements Response {
      */
     private final @NonNull InputStream data;
 
+    /**
+     * The response headers with lower case names. Holds the first value of each header.
+     */
+    private final @NonNull Map<String, String> headers;
+
+    /**
+     * Constructor for HttpResponse without headers.
+     *
+     * @param code The response code.
+     * @param data The data.
+     */
+    public HttpResponse(final int code, final @NonNull InputStream data) {
+        this(code, data, Map.of());
+    }
+
+    /**
+     * Get the first value of a response header.
+     *
+     * @param name The header name.
+     * @return The value or null if the header is not set.
+     */
+    public String getHeader(final String name) {
+        return headers.get(name.toLowerCase(Locale.ROOT));
+    }
 }
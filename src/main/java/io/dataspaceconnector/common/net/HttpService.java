@@ -30,7 +30,6 @@ import lombok.RequiredArgsConstructor;
 import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.Request;
-import okhttp3.RequestBody;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Service;
 
@@ -40,6 +39,7 @@ import java.io.InputStream;
 import java.net.URL;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -111,7 +111,8 @@ public class HttpService implements DataRetrievalService {
     }
 
     /**
-     * Send post requests using the http service of the messaging services.
+     * Send post requests using the http service of the messaging services. The data is streamed
+     * with chunked transfer encoding.
      *
      * @param target The target url.
      * @param args   Request arguments.
@@ -121,6 +122,22 @@ public class HttpService implements DataRetrievalService {
      */
     public Response post(final URL target, final HttpArgs args, final InputStream data)
             throws IOException {
+        return post(target, args, data, -1);
+    }
+
+    /**
+     * Send post requests using the http service of the messaging services. The data is streamed
+     * and not held in memory.
+     *
+     * @param target        The target url.
+     * @param args          Request arguments.
+     * @param data          The data that should be sent. Closed once it has been sent.
+     * @param contentLength The length of the data or -1 if unknown.
+     * @return The response.
+     * @throws IOException if the request failed.
+     */
+    public Response post(final URL target, final HttpArgs args, final InputStream data,
+                         final long contentLength) throws IOException {
         validateParameter(target, args);
 
         final var urlBuilder = createUrlBuilder(target);
@@ -133,8 +150,8 @@ public class HttpService implements DataRetrievalService {
 
         final var targetUrl = urlBuilder.build();
 
-        final var body = RequestBody.create(data.readAllBytes(),
-                MediaType.get("application/octet-stream"));
+        final var body = new InputStreamRequestBody(
+                MediaType.get("application/octet-stream"), data, contentLength);
 
         final var requestBuilder = new Request.Builder().url(targetUrl).post(body);
 
@@ -142,17 +159,17 @@ public class HttpService implements DataRetrievalService {
             args.getHeaders().forEach(requestBuilder::header);
         }
 
-        final var response = httpSvc.send(requestBuilder.build());
-        final var output = getHttpResponse(response);
-        response.close();
-
-        return output;
+        try (var response = httpSvc.send(requestBuilder.build())) {
+            return new HttpResponse(response.code(), getBody(response));
+        }
     }
 
     /**
      * Perform a get request with query parameters (if given).
      * If a query parameter is already found in the target URL it is ignored,
      * so that the basis url of the target can not be bypassed.
+     * The body of the response is streamed, the connection is released once the returned data
+     * is read to the end or closed.
      *
      * @param target The recipient of the request.
      * @param args   The request arguments.
@@ -193,15 +210,22 @@ public class HttpService implements DataRetrievalService {
             response = httpSvc.getWithHeaders(targetUri, headerCopy);
         }
 
-        final var output = getHttpResponse(response);
-        response.close();
-
-        return output;
+        return getStreamingResponse(response);
     }
 
     @NotNull
-    private HttpResponse getHttpResponse(final okhttp3.Response response) throws IOException {
-        return new HttpResponse(response.code(), getBody(response));
+    private HttpResponse getStreamingResponse(final okhttp3.Response response) {
+        final var headers = new HashMap<String, String>();
+        for (final var name : response.headers().names()) {
+            headers.put(name.toLowerCase(Locale.ROOT), response.header(name));
+        }
+
+        if (response.body() == null) {
+            response.close();
+            return new HttpResponse(response.code(), InputStream.nullInputStream(), headers);
+        }
+
+        return new HttpResponse(response.code(), new ResponseBodyStream(response), headers);
     }
 
     private void validateParameter(final URL target, final HttpArgs args) {
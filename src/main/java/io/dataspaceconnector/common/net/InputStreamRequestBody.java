@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.net;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import okio.Okio;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Request body that streams its content from an input stream instead of holding it in memory.
+ * It can only be written once.
+ */
+class InputStreamRequestBody extends RequestBody {
+
+    /**
+     * The content type.
+     */
+    private final MediaType contentType;
+
+    /**
+     * The content.
+     */
+    private final InputStream content;
+
+    /**
+     * The length of the content. Negative if unknown, which results in a chunked transfer.
+     */
+    private final long contentLength;
+
+    /**
+     * Constructor for InputStreamRequestBody.
+     *
+     * @param type   The content type.
+     * @param data   The content. Closed once it has been written.
+     * @param length The length of the content or -1 if unknown.
+     */
+    InputStreamRequestBody(final MediaType type, final InputStream data, final long length) {
+        super();
+        this.contentType = type;
+        this.content = data;
+        this.contentLength = length;
+    }
+
+    @Override
+    public MediaType contentType() {
+        return contentType;
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public boolean isOneShot() {
+        return true;
+    }
+
+    @Override
+    public void writeTo(@NotNull final BufferedSink sink) throws IOException {
+        try (var source = Okio.source(content)) {
+            sink.writeAll(source);
+        }
+    }
+}
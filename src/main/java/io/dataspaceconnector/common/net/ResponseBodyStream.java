@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.common.net;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+
+/**
+ * Stream on the body of an http response. The response, and with it the connection, is kept
+ * open until the stream is closed or read to the end.
+ */
+class ResponseBodyStream extends FilterInputStream {
+
+    /**
+     * The response.
+     */
+    private final okhttp3.Response response;
+
+    /**
+     * Whether the response has been closed.
+     */
+    private boolean closed;
+
+    /**
+     * Constructor for ResponseBodyStream.
+     *
+     * @param httpResponse The response. Must have a body.
+     */
+    ResponseBodyStream(final okhttp3.Response httpResponse) {
+        super(httpResponse.body().byteStream());
+        this.response = httpResponse;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final var value = super.read();
+        if (value == -1) {
+            close();
+        }
+
+        return value;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        final var count = super.read(b, off, len);
+        if (count == -1) {
+            close();
+        }
+
+        return count;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            response.close();
+        }
+    }
+}
@@ -25,11 +25,23 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.ProducerTemplate;
 import org.apache.camel.builder.ExchangeBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Dispatches data via Camel routes.
@@ -39,6 +51,17 @@ import java.nio.charset.StandardCharsets;
 @Log4j2
 public class RouteDataDispatcher {
 
+    /**
+     * Size of the buffer used when sending the rest of the data to the routes.
+     */
+    private static final int PIPE_SIZE = 64 * 1024;
+
+    /**
+     * Number of chunks buffered between the data source and each route. Reading the source
+     * blocks while the buffer of any route is full.
+     */
+    private static final int PIPE_CHUNKS = 16;
+
     /**
      * Template for triggering Camel routes.
      */
@@ -49,6 +72,17 @@ public class RouteDataDispatcher {
      */
     private final @NonNull CamelContext context;
 
+    /**
+     * Time in millis a route waits for data and the data source waits for a route to read.
+     */
+    @Value("${artifact.transfer.route-timeout:60000}")
+    private long pipeTimeout;
+
+    /**
+     * Runs the routes when dispatching a stream. Created on first use.
+     */
+    private ExecutorService executor;
+
     /**
      * Dispatches data via the specified route. The route will be triggered once with the data
      * as the initial input.
@@ -60,7 +94,7 @@ public class RouteDataDispatcher {
      */
     public void send(final URI routeId, final byte[] bytes) throws IOException,
             DataDispatchException {
-        send(routeId, bytes, null);
+        sendBody(routeId, bytes, null);
     }
 
     /**
@@ -69,14 +103,58 @@ public class RouteDataDispatcher {
      * backend.
      *
      * @param routeId the route ID.
-     * @param bytes the data as byte array.
+     * @param data the data as stream.
      * @param queryInput the query input for the backend.
      * @throws IOException if the data cannot be read.
      * @throws DataDispatchException if an error occurs during route execution.
      */
-    public void send(final URI routeId, final byte[] bytes, final QueryInput queryInput)
+    public void send(final URI routeId, final InputStream data, final QueryInput queryInput)
             throws IOException, DataDispatchException {
-        final var data = new String(bytes, StandardCharsets.UTF_8);
+        try (data) {
+            sendBody(routeId, data, queryInput);
+        }
+    }
+
+    /**
+     * Dispatches data via multiple routes in parallel. The data is read once and streamed to
+     * all routes, which receive it as {@link InputStream}, while the returned stream is read.
+     * Reading blocks while a route has not yet consumed the buffered data. Since the routes run
+     * while the data is returned, their failures are not raised here: reading the end of the
+     * returned stream or closing it throws an {@link IOException} if any route failed. Closing
+     * the stream before its end sends the remaining data to the routes.
+     *
+     * @param routeIds the route IDs.
+     * @param data the data. Closed with the returned stream.
+     * @return the data.
+     * @throws IOException if the data cannot be read.
+     * @throws DataDispatchException if the routes cannot be started.
+     */
+    public InputStream send(final List<URI> routeIds, final InputStream data)
+            throws IOException, DataDispatchException {
+        final var pipes = new ArrayList<RoutePipe>();
+        final var results = new ArrayList<Future<?>>();
+        try {
+            for (final var routeId : routeIds) {
+                final var pipe = new RoutePipe(pipeTimeout);
+                pipes.add(pipe);
+                results.add(getExecutor().submit(() -> {
+                    try (pipe) {
+                        sendBody(routeId, pipe, null);
+                    }
+                    return null;
+                }));
+            }
+
+            return new RouteTeeInputStream(data, pipes, results);
+        } catch (RuntimeException exception) {
+            results.forEach(result -> result.cancel(true));
+            data.close();
+            throw new DataDispatchException("Failed to dispatch data. " + exception.getMessage());
+        }
+    }
+
+    private void sendBody(final URI routeId, final Object body, final QueryInput queryInput)
+            throws DataDispatchException {
         final var routeUuid = UUIDUtils.uuidFromUri(routeId);
         final var camelDirect = "direct:" + routeUuid;
 
@@ -84,7 +162,7 @@ public class RouteDataDispatcher {
             final var result = template
                     .send(camelDirect, ExchangeBuilder.anExchange(context)
                             .withProperty(ParameterUtils.QUERY_INPUT_PARAM, queryInput)
-                            .withBody(data)
+                            .withBody(body)
                             .build());
 
             if (result.getException() != null) {
@@ -97,8 +175,272 @@ public class RouteDataDispatcher {
                 log.debug("Failed to dispatch data. [exception=({})]", e.getMessage(), e);
             }
 
-            throw new DataDispatchException("Failed to dispatch data." + e.getMessage());
+            throw new DataDispatchException("Failed to dispatch data. " + e.getMessage());
+        }
+    }
+
+    private static void awaitAll(final List<Future<?>> results) throws DataDispatchException {
+        for (final var result : results) {
+            try {
+                result.get();
+            } catch (ExecutionException exception) {
+                if (exception.getCause() instanceof DataDispatchException) {
+                    throw (DataDispatchException) exception.getCause();
+                }
+
+                throw new DataDispatchException("Failed to dispatch data. "
+                        + exception.getMessage());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new DataDispatchException("Failed to dispatch data. "
+                        + exception.getMessage());
+            }
+        }
+    }
+
+    private synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = context.getExecutorServiceManager()
+                    .newCachedThreadPool(this, "RouteDataDispatcher");
+        }
+
+        return executor;
+    }
+
+    /**
+     * Bounded buffer between the data source and a route. The route reading and the caller
+     * writing wait at most the timeout for each other, so neither side blocks forever if the
+     * other one stalls.
+     */
+    private static final class RoutePipe extends InputStream {
+
+        /**
+         * Marks the end of the data.
+         */
+        private static final byte[] END = new byte[0];
+
+        /**
+         * The chunks of data not read by the route yet.
+         */
+        private final BlockingQueue<byte[]> chunks = new ArrayBlockingQueue<>(PIPE_CHUNKS);
+
+        /**
+         * Time in millis to wait for the other side.
+         */
+        private final long timeout;
+
+        /**
+         * Whether the route stopped reading.
+         */
+        private volatile boolean closed;
+
+        /**
+         * The chunk that is currently read.
+         */
+        private byte[] current;
+
+        /**
+         * Position of the next byte in the current chunk.
+         */
+        private int position;
+
+        RoutePipe(final long waitTimeout) {
+            this.timeout = waitTimeout;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final var buffer = new byte[1];
+            final var read = read(buffer, 0, 1);
+            return read == -1 ? -1 : buffer[0] & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length)
+                throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+
+            if (current == null || (current != END && position == current.length)) {
+                current = take();
+                position = 0;
+            }
+
+            if (current == END) {
+                return -1;
+            }
+
+            final var read = Math.min(length, current.length - position);
+            System.arraycopy(current, position, buffer, offset, read);
+            position += read;
+            return read;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            chunks.clear();
+        }
+
+        /**
+         * Pass data to the route.
+         *
+         * @throws IOException if the route stopped reading or did not read in time.
+         */
+        void write(final byte[] buffer, final int offset, final int length) throws IOException {
+            put(Arrays.copyOfRange(buffer, offset, offset + length));
+        }
+
+        /**
+         * Signal the end of the data to the route.
+         *
+         * @throws IOException if the route stopped reading or did not read in time.
+         */
+        void end() throws IOException {
+            put(END);
+        }
+
+        private void put(final byte[] chunk) throws IOException {
+            try {
+                if (closed || !chunks.offer(chunk, timeout, TimeUnit.MILLISECONDS)) {
+                    throw new IOException("Route is not reading.");
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while writing to route.");
+            }
+        }
+
+        private byte[] take() throws IOException {
+            try {
+                final var chunk = chunks.poll(timeout, TimeUnit.MILLISECONDS);
+                if (chunk == null) {
+                    throw new IOException("Timed out waiting for data.");
+                }
+                return chunk;
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for data.");
+            }
         }
     }
 
+    /**
+     * Copies the data to the routes while it is read. The outcome of the routes is awaited once
+     * the data has been read completely.
+     */
+    private static final class RouteTeeInputStream extends FilterInputStream {
+
+        /**
+         * The pipes to the routes still reading.
+         */
+        private final List<RoutePipe> pipes;
+
+        /**
+         * The outcome of the routes.
+         */
+        private final List<Future<?>> results;
+
+        /**
+         * Whether the outcome of the routes has been awaited.
+         */
+        private boolean finished;
+
+        RouteTeeInputStream(final InputStream data, final List<RoutePipe> routePipes,
+                            final List<Future<?>> routeResults) {
+            super(data);
+            this.pipes = new ArrayList<>(routePipes);
+            this.results = routeResults;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final var value = super.read();
+            if (value == -1) {
+                finish();
+            } else {
+                copy(new byte[]{(byte) value}, 0, 1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length)
+                throws IOException {
+            final var read = super.read(buffer, offset, length);
+            if (read == -1) {
+                finish();
+            } else {
+                copy(buffer, offset, read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(final long length) throws IOException {
+            final var buffer = new byte[(int) Math.min(PIPE_SIZE, Math.max(length, 0))];
+            long skipped = 0;
+            while (skipped < length) {
+                final var read = read(buffer, 0, (int) Math.min(buffer.length, length - skipped));
+                if (read == -1) {
+                    break;
+                }
+                skipped += read;
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                // Send the rest of the data while any route is reading.
+                final var buffer = new byte[PIPE_SIZE];
+                var read = 0;
+                while (!finished && !pipes.isEmpty() && read != -1) {
+                    read = read(buffer, 0, buffer.length);
+                }
+                finish();
+            } finally {
+                super.close();
+            }
+        }
+
+        private void copy(final byte[] buffer, final int offset, final int length) {
+            for (final var iterator = pipes.iterator(); iterator.hasNext();) {
+                try {
+                    iterator.next().write(buffer, offset, length);
+                } catch (IOException exception) {
+                    // The route completed without reading all data or stalled.
+                    iterator.remove();
+                }
+            }
+        }
+
+        private void finish() throws IOException {
+            if (finished) {
+                return;
+            }
+
+            finished = true;
+            for (final var pipe : pipes) {
+                try {
+                    pipe.end();
+                } catch (IOException ignored) {
+                    // Nothing to do, the route is not reading anymore.
+                }
+            }
+
+            try {
+                awaitAll(results);
+            } catch (DataDispatchException exception) {
+                throw new IOException(exception.getMessage(), exception);
+            }
+        }
+    }
 }
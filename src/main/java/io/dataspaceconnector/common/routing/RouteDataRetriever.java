@@ -27,13 +27,24 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.Message;
+import org.apache.camel.Ordered;
 import org.apache.camel.ProducerTemplate;
+import org.apache.camel.StreamCache;
 import org.apache.camel.builder.ExchangeBuilder;
+import org.apache.camel.support.SynchronizationAdapter;
 import org.springframework.stereotype.Component;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 
 /**
@@ -56,7 +67,11 @@ public class RouteDataRetriever implements DataRetrievalService {
 
     /**
      * Retrieves and returns the data using a Camel route. The route to use is identified by the
-     * access URL, which should be the ID of a route.
+     * access URL, which should be the ID of a route. The body returned by the route is not
+     * converted to a string. Bodies cached by Camel's stream caching are returned directly and
+     * kept until the returned stream is closed, as they are released when the exchange
+     * completes. Other stream bodies are spooled to a file in the stream caching spool
+     * directory.
      *
      * @param accessUrl The route ID.
      * @param input The query input.
@@ -67,18 +82,21 @@ public class RouteDataRetriever implements DataRetrievalService {
             final var routeId = UUIDUtils.uuidFromUri(accessUrl.toURI());
             final var camelDirect = "direct:" + routeId;
 
-            final var result = template.send(camelDirect,
-                    ExchangeBuilder.anExchange(context).build());
+            final var exchange = ExchangeBuilder.anExchange(context).build();
+            final var spooler = new BodySpooler();
+            exchange.adapt(ExtendedExchange.class).addOnCompletion(spooler);
+
+            final var result = template.send(camelDirect, exchange);
 
             if (result.getException() != null) {
+                spooler.discard();
                 throw result.getException();
             } else if (result.getProperty(Exchange.EXCEPTION_CAUGHT) != null) {
+                spooler.discard();
                 throw result.getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class);
             }
 
-            final var data = result.getIn().getBody(String.class);
-            return new RouteResponse(new ByteArrayInputStream(
-                    data.getBytes(StandardCharsets.UTF_8)));
+            return new RouteResponse(spooler.getData(result));
         } catch (Exception e) {
             if (log.isDebugEnabled()) {
                 log.debug("Failed to retrieve data. [exception=({})]", e.getMessage(), e);
@@ -99,4 +117,150 @@ public class RouteDataRetriever implements DataRetrievalService {
         throw new NotImplemented();
     }
 
+    /**
+     * Turns the body of a message into a stream that outlives the exchange.
+     *
+     * @param message The message.
+     * @return The body as stream.
+     * @throws IOException if the body cannot be read or spooled.
+     */
+    private InputStream spool(final Message message) throws IOException {
+        final var body = message.getBody();
+        if (body == null) {
+            return InputStream.nullInputStream();
+        } else if (body instanceof byte[] bytes) {
+            return new ByteArrayInputStream(bytes);
+        } else if (body instanceof StreamCache cache && cache.inMemory()) {
+            final var bytes = new ByteArrayOutputStream();
+            cache.writeTo(bytes);
+            return new ByteArrayInputStream(bytes.toByteArray());
+        } else if (body instanceof StreamCache cache && body instanceof InputStream) {
+            return new CachedBodyStream(cache, ExchangeBuilder.anExchange(context).build());
+        } else if (body instanceof StreamCache || body instanceof InputStream) {
+            final var file = createSpoolFile();
+            try (var out = Files.newOutputStream(file)) {
+                if (body instanceof StreamCache cache) {
+                    cache.writeTo(out);
+                } else {
+                    ((InputStream) body).transferTo(out);
+                }
+            } catch (IOException exception) {
+                Files.deleteIfExists(file);
+                throw exception;
+            }
+
+            return Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE);
+        }
+
+        // Any other body, e.g. a string, is converted by Camel.
+        return new ByteArrayInputStream(message.getBody(byte[].class));
+    }
+
+    private Path createSpoolFile() throws IOException {
+        final var strategy = context.getStreamCachingStrategy();
+        final var directory = strategy == null ? null : strategy.getSpoolDirectory();
+        if (directory != null && directory.isDirectory()) {
+            return Files.createTempFile(directory.toPath(), "route", ".tmp");
+        }
+
+        return Files.createTempFile("route", ".tmp");
+    }
+
+    /**
+     * Reads a body cached by Camel, e.g. in a file of the spool directory. The cache is copied
+     * onto an exchange of its own, so it is not released when the route's exchange completes.
+     * Closing the stream completes that exchange, which releases the cache.
+     */
+    private static final class CachedBodyStream extends FilterInputStream {
+
+        /**
+         * The exchange holding the cache.
+         */
+        private final Exchange holder;
+
+        /**
+         * Whether the cache has been released.
+         */
+        private boolean released;
+
+        CachedBodyStream(final StreamCache cache, final Exchange exchange) throws IOException {
+            super((InputStream) cache.copy(exchange));
+            this.holder = exchange;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (released) {
+                return;
+            }
+
+            released = true;
+            try {
+                super.close();
+            } finally {
+                for (final var completion : holder.adapt(ExtendedExchange.class)
+                        .handoverCompletions()) {
+                    completion.onComplete(holder);
+                }
+            }
+        }
+    }
+
+    /**
+     * Spools the route's result when the exchange completes, before cached bodies are removed.
+     */
+    private final class BodySpooler extends SynchronizationAdapter {
+
+        /**
+         * The spooled body.
+         */
+        private InputStream data;
+
+        /**
+         * The error that occurred while spooling.
+         */
+        private IOException failure;
+
+        @Override
+        public void onComplete(final Exchange exchange) {
+            try {
+                data = spool(exchange.getMessage());
+            } catch (IOException exception) {
+                failure = exception;
+            }
+        }
+
+        @Override
+        public int getOrder() {
+            // Run before the completions removing the stream caches.
+            return Ordered.HIGHEST;
+        }
+
+        /**
+         * Get the spooled body. Spools the body of the result if the exchange completed
+         * without this synchronization.
+         *
+         * @param result The result of the exchange.
+         * @return The body.
+         * @throws IOException if the body could not be spooled.
+         */
+        InputStream getData(final Exchange result) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+
+            return data != null ? data : spool(result.getIn());
+        }
+
+        /**
+         * Release the spooled body of a failed exchange.
+         *
+         * @throws IOException if the body cannot be released.
+         */
+        void discard() throws IOException {
+            if (data != null) {
+                data.close();
+            }
+        }
+    }
 }
@@ -15,7 +15,7 @@
  */
 package io.dataspaceconnector.config.security;
 
-import io.dataspaceconnector.common.ids.ConnectorService;
+import io.dataspaceconnector.service.cache.DatCache;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.ObjectFactory;
@@ -33,9 +33,9 @@ import java.io.Serializable;
 public final class DapsTokenValidator implements PermissionEvaluator {
 
     /**
-     * Service for providing connector information.
+     * Cache of the connector's DAT.
      */
-    private final @NonNull ObjectFactory<ConnectorService> connectorService;
+    private final @NonNull ObjectFactory<DatCache> datCache;
 
     @Override
     public boolean hasPermission(
@@ -58,6 +58,6 @@ public final class DapsTokenValidator implements PermissionEvaluator {
     }
 
     private boolean hasPrivilege() {
-        return connectorService.getObject().getCurrentDat() != null;
+        return datCache.getObject().hasDat();
     }
 }
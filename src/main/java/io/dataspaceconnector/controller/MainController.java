@@ -40,6 +40,7 @@ import io.dataspaceconnector.controller.resource.type.SubscriptionController;
 import io.dataspaceconnector.controller.util.ResponseCode;
 import io.dataspaceconnector.controller.util.ResponseDescription;
 import io.dataspaceconnector.extension.telemetry.TelemetrySpan;
+import io.dataspaceconnector.service.cache.SelfDescriptionCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -71,6 +72,11 @@ public class MainController {
      */
     private final @NonNull ConnectorService connectorService;
 
+    /**
+     * Cache of the self-description with offered resources.
+     */
+    private final @NonNull SelfDescriptionCache selfDescriptionCache;
+
     /**
      * Gets connector self-description without catalogs and resources.
      *
@@ -100,7 +106,7 @@ public class MainController {
     @ResponseBody
     @TelemetrySpan(name = "GET /api/connector")
     public ResponseEntity<Object> getPrivateSelfDescription() {
-        return ResponseEntity.ok(connectorService.getConnectorWithOfferedResources().toRdf());
+        return ResponseEntity.ok(selfDescriptionCache.getSelfDescription());
     }
 
     /**
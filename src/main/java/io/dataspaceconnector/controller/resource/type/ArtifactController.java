@@ -39,18 +39,23 @@ import io.dataspaceconnector.model.artifact.Artifact;
 import io.dataspaceconnector.model.artifact.ArtifactDesc;
 import io.dataspaceconnector.model.route.Route;
 import io.dataspaceconnector.service.ArtifactRetriever;
+import io.dataspaceconnector.service.cache.DownloadMetadataCache;
+import io.dataspaceconnector.service.cache.DownloadMetadataCache.DownloadMetadata;
 import io.dataspaceconnector.service.message.SubscriberNotificationService;
 import io.dataspaceconnector.service.resource.type.ArtifactService;
+import io.dataspaceconnector.service.storage.FileDataStream;
 import io.dataspaceconnector.service.usagecontrol.DataAccessVerifier;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -66,7 +71,6 @@ import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBo
 
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -110,11 +114,20 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
      */
     private final @NonNull RouteViewAssembler routeAssembler;
 
+    /**
+     * The cache for the response headers of artifact downloads.
+     */
+    private final @NonNull DownloadMetadataCache downloadMetadataCache;
+
     /**
      * Returns data from the local database or a remote data source. In case of a remote data
      * source, all headers and query parameters included in this request will be used for the
      * request to the backend.
      * A query parameter is ignored if the same key is already defined in the target accessUrl.
+     * Requests for unchanged data and for unsatisfiable ranges are answered before the data is
+     * accessed, so usage control neither evaluates nor counts them. Every response carrying
+     * data counts as one access, partial content included: a range request cannot be told
+     * apart from a continued download, so access limits bound the number of data requests.
      *
      * @param artifactId   Artifact id.
      * @param download     If the data should be forcefully downloaded.
@@ -141,6 +154,11 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
         headers.remove("authorization");
         headers.remove("host");
 
+        final var answer = answerWithoutData(artifactId, download, routeIds, request);
+        if (answer != null) {
+            return answer;
+        }
+
         final var queryInput = new QueryInput();
         queryInput.setParams(params);
         queryInput.setHeaders(headers);
@@ -166,7 +184,7 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
                 : artifactSvc.getData(accessVerifier, dataReceiver, artifactId,
                 new RetrievalInformation(agreementUri, download, queryInput), routeIds);
 
-        return returnData(artifactId, data);
+        return returnData(artifactId, data, request);
     }
 
     /**
@@ -195,20 +213,26 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
         ValidationUtils.validateQueryInput(queryInput);
         final var data =
                 artifactSvc.getData(accessVerifier, dataReceiver, artifactId, queryInput, routeIds);
-        return returnData(artifactId, data);
+        return returnData(artifactId, data, null);
     }
 
     private ResponseEntity<StreamingResponseBody> returnData(
-            final UUID artifactId, final InputStream data) {
+            final UUID artifactId, final InputStream data, final HttpServletRequest request)
+            throws IOException {
+        if (data instanceof FileDataStream file) {
+            return returnFile(artifactId, file, request);
+        }
+
         final StreamingResponseBody body = outputStream -> {
-            final int blockSize = 1024;
-            int numBytesToWrite;
-            var buffer = new byte[blockSize];
-            while ((numBytesToWrite = data.read(buffer, 0, buffer.length)) != -1) {
-                outputStream.write(buffer, 0, numBytesToWrite);
+            // Close the data even if the client aborts, as it may hold a backend connection.
+            try (data) {
+                final int blockSize = 1024;
+                int numBytesToWrite;
+                var buffer = new byte[blockSize];
+                while ((numBytesToWrite = data.read(buffer, 0, buffer.length)) != -1) {
+                    outputStream.write(buffer, 0, numBytesToWrite);
+                }
             }
-
-            data.close();
         };
 
         final var outputHeader = new HttpHeaders();
@@ -221,22 +245,152 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
                 .body(body);
     }
 
-    private MediaType getMediaTypeOfArtifact(final UUID artifactId) {
-        // Get type to set the correct content type.
-        // NOTE: Assume that an artifact has only one representation.
+    /**
+     * Answers a request that does not need the data: a client already knowing the entity tag
+     * receives 304, an unsatisfiable range 416. Requests forcing a download or dispatching the
+     * data via routes always access the data.
+     *
+     * @param artifactId The artifact id.
+     * @param download   If the data should be forcefully downloaded.
+     * @param routeIds   The routes the data should be sent to.
+     * @param request    The current http request.
+     * @return The response, null if the data has to be accessed.
+     */
+    private ResponseEntity<StreamingResponseBody> answerWithoutData(
+            final UUID artifactId, final Boolean download, final List<URI> routeIds,
+            final HttpServletRequest request) {
+        final var ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        final var rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if ((ifNoneMatch == null && rangeHeader == null) || Boolean.TRUE.equals(download)
+                || (routeIds != null && !routeIds.isEmpty())) {
+            return null;
+        }
+
+        final DownloadMetadata metadata;
+        try {
+            metadata = downloadMetadataCache.get(artifactId);
+        } catch (ResourceNotFoundException exception) {
+            // Reported when accessing the data.
+            return null;
+        }
+
+        final var outputHeader = createFileHeaders(metadata);
+        if (matchesEntityTag(ifNoneMatch, metadata.getEntityTag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(outputHeader).build();
+        }
+
+        if (rangeHeader != null && !isSatisfiable(rangeHeader, metadata.getByteSize())) {
+            outputHeader.set(HttpHeaders.CONTENT_RANGE, "bytes */" + metadata.getByteSize());
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .headers(outputHeader).build();
+        }
+
+        return null;
+    }
+
+    /**
+     * Serves data kept in a file. The file is handed to the response channel directly and
+     * partial downloads are supported via the range header.
+     *
+     * @param artifactId The artifact id.
+     * @param data       The data.
+     * @param request    The current http request. Null if ranges should not be evaluated.
+     * @return The response.
+     * @throws IOException if the file cannot be accessed.
+     */
+    private ResponseEntity<StreamingResponseBody> returnFile(
+            final UUID artifactId, final FileDataStream data, final HttpServletRequest request)
+            throws IOException {
+        final long size;
+        final DownloadMetadata metadata;
         try {
-            final var artifact = getService().get(artifactId);
-            if (artifact.getRepresentations().isEmpty()
-                    || artifact.getRepresentations().get(0) == null
-                    || artifact.getRepresentations().get(0).getMediaType() == null) {
-                if (log.isDebugEnabled()) {
-                    log.debug("No representation found. Return data as stream.");
+            size = data.size();
+            metadata = downloadMetadataCache.get(artifactId);
+        } catch (IOException | ResourceNotFoundException exception) {
+            data.close();
+            throw exception;
+        }
+
+        final var outputHeader = createFileHeaders(metadata);
+        var status = HttpStatus.OK;
+        long position = 0;
+        long count = size;
+        final var rangeHeader = request == null ? null : request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null) {
+            try {
+                final var ranges = HttpRange.parseRanges(rangeHeader);
+                // Multiple ranges are answered with the full content.
+                if (ranges.size() == 1) {
+                    position = ranges.get(0).getRangeStart(size);
+                    count = ranges.get(0).getRangeEnd(size) - position + 1;
+                    outputHeader.set(HttpHeaders.CONTENT_RANGE, "bytes " + position + "-"
+                            + (position + count - 1) + "/" + size);
+                    status = HttpStatus.PARTIAL_CONTENT;
                 }
-            } else {
-                final var mediaType = artifact.getRepresentations().get(0).getMediaType();
-                return MediaType.parseMediaType(mediaType);
+            } catch (IllegalArgumentException exception) {
+                data.close();
+                outputHeader.set(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .headers(outputHeader).build();
+            }
+        }
+
+        final var start = position;
+        final var length = count;
+        final StreamingResponseBody body = outputStream -> {
+            try (data) {
+                data.transferRange(start, length, outputStream);
             }
-        } catch (ResourceNotFoundException | InvalidMediaTypeException e) {
+        };
+
+        outputHeader.setContentLength(length);
+        return ResponseEntity.status(status)
+                .headers(outputHeader)
+                .contentType(metadata.getMediaType())
+                .body(body);
+    }
+
+    private static HttpHeaders createFileHeaders(final DownloadMetadata metadata) {
+        final var outputHeader = new HttpHeaders();
+        outputHeader.setETag(metadata.getEntityTag());
+        outputHeader.set("Content-Disposition", metadata.getContentDisposition());
+        outputHeader.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        return outputHeader;
+    }
+
+    private static boolean isSatisfiable(final String rangeHeader, final long size) {
+        try {
+            final var ranges = HttpRange.parseRanges(rangeHeader);
+            if (ranges.size() == 1) {
+                ranges.get(0).getRangeStart(size);
+            }
+            return true;
+        } catch (IllegalArgumentException exception) {
+            return false;
+        }
+    }
+
+    private static boolean matchesEntityTag(final String ifNoneMatch, final String entityTag) {
+        if (ifNoneMatch == null || entityTag == null) {
+            return false;
+        }
+
+        for (final var candidate : ifNoneMatch.split(",")) {
+            final var tag = candidate.trim();
+            if ("*".equals(tag) || entityTag.equals(tag)
+                    || entityTag.equals(tag.replaceFirst("^W/", ""))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private MediaType getMediaTypeOfArtifact(final UUID artifactId) {
+        // Get type to set the correct content type.
+        try {
+            return downloadMetadataCache.get(artifactId).getMediaType();
+        } catch (ResourceNotFoundException e) {
             if (log.isDebugEnabled()) {
                 log.debug("Could not resolve media type. Return data as stream. [exception=({})]",
                         e.getMessage());
@@ -246,7 +400,8 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
     }
 
     /**
-     * Replace the data of an artifact.
+     * Replace the data of an artifact. The request body is streamed into the data store, so the
+     * upload size is not limited by the available heap.
      *
      * @param artifactId  The artifact whose data should be replaced.
      * @param inputStream The new data.
@@ -258,8 +413,11 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
     @TelemetrySpan(name = "PUT /api/artifacts/{id}/data")
     public ResponseEntity<Void> putData(
             @Valid @PathVariable(name = "id") final UUID artifactId,
-            @RequestBody final byte[] inputStream) throws IOException {
-        artifactSvc.setData(artifactId, new ByteArrayInputStream(inputStream));
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
+                    mediaType = ContentType.OCTET_STREAM,
+                    schema = @Schema(type = "string", format = "binary")))
+            final InputStream inputStream) throws IOException {
+        artifactSvc.setData(artifactId, inputStream);
 
         // Notify subscribers on update event.
         subscriberNotificationSvc.notifyOnUpdate(getService().get(artifactId));
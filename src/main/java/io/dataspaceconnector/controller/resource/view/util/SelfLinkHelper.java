@@ -15,11 +15,20 @@
  */
 package io.dataspaceconnector.controller.resource.view.util;
 
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.hateoas.Link;
 import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 
@@ -29,6 +38,17 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 @Component("utilSelfLinkHelper")
 public class SelfLinkHelper {
 
+    /**
+     * The request mapping path of each controller class. Empty if the path cannot be used as a
+     * plain prefix, e.g. because it contains variables.
+     */
+    private static final Map<Class<?>, Optional<String>> PATHS = new ConcurrentHashMap<>();
+
+    /**
+     * Request attribute holding the base URI of the current request.
+     */
+    private static final String BASE_URI_ATTRIBUTE = SelfLinkHelper.class.getName() + ".baseUri";
+
     /**
      * The HTTP base URL of the application.
      */
@@ -47,7 +67,8 @@ public class SelfLinkHelper {
     /**
      * Builds the complete self-link for an entity. As no request context is available to obtain
      * the application's base URL from when communicating via IDSCPv2, this method then
-     * defaults to using the base URL set in application.properties.
+     * defaults to using the base URL set in application.properties. The path of each controller
+     * is resolved once, the base URI once per request.
      *
      * @param entityId The entity id.
      * @param tClass   The controller class for managing the entity class.
@@ -56,6 +77,25 @@ public class SelfLinkHelper {
      * @throws IllegalArgumentException if the class is null.
      */
     public <T> Link getSelfLink(final UUID entityId, final Class<T> tClass) {
+        final var path = tClass == null ? null : PATHS.computeIfAbsent(tClass,
+                SelfLinkHelper::findPath).orElse(null);
+        if (path == null) {
+            return buildSelfLink(entityId, tClass);
+        }
+
+        // Same link as built by the link builder, without inspecting the controller each time.
+        final var base = getBaseUri();
+        final var href = new StringBuilder(base.length() + path.length() + 37)
+                .append(base)
+                .append(path);
+        if (entityId != null) {
+            href.append('/').append(entityId);
+        }
+
+        return Link.of(href.toString());
+    }
+
+    private <T> Link buildSelfLink(final UUID entityId, final Class<T> tClass) {
         var link = linkTo(tClass).slash(entityId).withSelfRel();
         if (!link.toUri().isAbsolute()) {
             link = Link.of(baseUrl + link.getHref());
@@ -63,4 +103,41 @@ public class SelfLinkHelper {
 
         return link;
     }
+
+    /**
+     * Get the base URI of the current request, or the configured base URL if there is no
+     * request, e.g. when communicating via IDSCPv2. The base URI is kept for the request.
+     *
+     * @return The base URI.
+     */
+    public String getBaseUri() {
+        final var attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return baseUrl;
+        }
+
+        var base = (String) attributes.getAttribute(BASE_URI_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        if (base == null) {
+            base = ServletUriComponentsBuilder.fromCurrentServletMapping().build().toUriString();
+            attributes.setAttribute(BASE_URI_ATTRIBUTE, base, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        return base;
+    }
+
+    private static Optional<String> findPath(final Class<?> tClass) {
+        final var mapping = AnnotatedElementUtils.findMergedAnnotation(tClass,
+                RequestMapping.class);
+        if (mapping == null || mapping.path().length != 1) {
+            return Optional.empty();
+        }
+
+        final var path = mapping.path()[0];
+        if (path.contains("{") || path.contains("*")) {
+            return Optional.empty();
+        }
+
+        return Optional.of(path.startsWith("/") ? path : "/" + path);
+    }
 }
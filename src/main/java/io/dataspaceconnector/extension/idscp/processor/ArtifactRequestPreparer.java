@@ -20,6 +20,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.routing.ParameterUtils;
 import io.dataspaceconnector.extension.idscp.processor.base.Idscp2MappingProcessor;
+import io.dataspaceconnector.service.message.handler.dto.DataResponse;
 import io.dataspaceconnector.service.message.handler.dto.Request;
 import org.apache.camel.Message;
 import org.springframework.stereotype.Component;
@@ -39,7 +40,8 @@ public class ArtifactRequestPreparer extends Idscp2MappingProcessor {
 
     /**
      * Prepares a {@link Request} with an ArtifactRequestMessage as header and a query input as body
-     * for communication over IDSCPv2.
+     * for communication over IDSCPv2. The header states that the data may be returned as binary
+     * payload.
      *
      * @param in the in-message of the exchange.
      * @throws JsonProcessingException if writing the query input to JSON fails.
@@ -48,6 +50,7 @@ public class ArtifactRequestPreparer extends Idscp2MappingProcessor {
     protected void processInternal(final Message in) throws JsonProcessingException {
         final var request = in.getBody(Request.class);
         final var queryInput = (QueryInput) request.getBody();
+        request.getHeader().setProperty(DataResponse.BINARY_PAYLOAD_PROPERTY, "true");
 
         in.setHeader(ParameterUtils.IDSCP_HEADER, request.getHeader());
         if (queryInput != null) {
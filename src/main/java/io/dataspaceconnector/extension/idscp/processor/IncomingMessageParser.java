@@ -17,10 +17,10 @@ package io.dataspaceconnector.extension.idscp.processor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import ids.messaging.core.daps.ClaimsException;
-import ids.messaging.core.daps.DapsValidator;
 import ids.messaging.handler.message.MessagePayloadInputstream;
 import io.dataspaceconnector.common.routing.ParameterUtils;
 import io.dataspaceconnector.extension.idscp.processor.base.Idscp2MappingProcessor;
+import io.dataspaceconnector.service.cache.VerifiedClaimsCache;
 import io.dataspaceconnector.service.message.handler.dto.Request;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
@@ -41,9 +41,9 @@ import java.util.Optional;
 public class IncomingMessageParser extends Idscp2MappingProcessor {
 
     /**
-     * Service for validating DATs.
+     * Cache of verified DAT claims.
      */
-    private final @NonNull DapsValidator dapsValidator;
+    private final @NonNull VerifiedClaimsCache claimsCache;
 
     /**
      * Creates a {@link Request} with the header and payload from the IDSCPv2 message. Also gets the
@@ -60,7 +60,7 @@ public class IncomingMessageParser extends Idscp2MappingProcessor {
 
         Optional<Jws<Claims>> claims;
         try {
-            claims = Optional.of(dapsValidator.getClaims(header.getSecurityToken()));
+            claims = Optional.of(claimsCache.getClaims(header.getSecurityToken()));
         } catch (ClaimsException | ExpiredJwtException exception) {
             claims = Optional.empty();
         }
@@ -18,6 +18,7 @@ package io.dataspaceconnector.extension.idscp.processor;
 import ids.messaging.response.ErrorResponse;
 import io.dataspaceconnector.common.routing.ParameterUtils;
 import io.dataspaceconnector.extension.idscp.processor.base.Idscp2MappingProcessor;
+import io.dataspaceconnector.service.message.handler.dto.DataResponse;
 import io.dataspaceconnector.service.message.handler.dto.Response;
 import org.apache.camel.Message;
 import org.springframework.stereotype.Component;
@@ -31,7 +32,8 @@ import java.nio.charset.StandardCharsets;
 public class OutgoingMessageParser extends Idscp2MappingProcessor {
 
     /**
-     * Creates an IDSCPv2 message with header and payload from a {@link Response}.
+     * Creates an IDSCPv2 message with header and payload from a {@link Response}. The data of a
+     * {@link DataResponse} is sent as is.
      *
      * @param in the in-message of the exchange.
      */
@@ -39,7 +41,10 @@ public class OutgoingMessageParser extends Idscp2MappingProcessor {
     protected void processInternal(final Message in) {
         final var response = in.getBody(Response.class);
 
-        if (response != null) {
+        if (response instanceof DataResponse) {
+            in.setHeader(ParameterUtils.IDSCP_HEADER, response.getHeader());
+            in.setBody(((DataResponse) response).getData());
+        } else if (response != null) {
             in.setHeader(ParameterUtils.IDSCP_HEADER, response.getHeader());
             in.setBody(response.getBody().getBytes(StandardCharsets.UTF_8));
         } else {
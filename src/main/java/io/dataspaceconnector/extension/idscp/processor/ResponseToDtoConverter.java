@@ -17,6 +17,7 @@ package io.dataspaceconnector.extension.idscp.processor;
 
 import io.dataspaceconnector.common.routing.ParameterUtils;
 import io.dataspaceconnector.extension.idscp.processor.base.Idscp2MappingProcessor;
+import io.dataspaceconnector.service.message.handler.dto.DataResponse;
 import io.dataspaceconnector.service.message.handler.dto.Response;
 import org.apache.camel.Message;
 import org.springframework.stereotype.Component;
@@ -30,7 +31,8 @@ import java.nio.charset.StandardCharsets;
 public class ResponseToDtoConverter extends Idscp2MappingProcessor {
 
     /**
-     * Converts an incoming response message to q {@link Response}.
+     * Converts an incoming response message to q {@link Response}. Binary payloads are kept as
+     * a {@link DataResponse}.
      *
      * @param in the in-message of the exchange.
      */
@@ -38,9 +40,13 @@ public class ResponseToDtoConverter extends Idscp2MappingProcessor {
     protected void processInternal(final Message in) {
         final var header = in.getHeader(ParameterUtils.IDSCP_HEADER,
                 de.fraunhofer.iais.eis.Message.class);
-        final var payload = new String(in.getBody(byte[].class), StandardCharsets.UTF_8);
+        final var payload = in.getBody(byte[].class);
 
-        in.setBody(new Response(header, payload));
+        if (header != null && DataResponse.isBinaryPayload(header)) {
+            in.setBody(new DataResponse(header, payload));
+        } else {
+            in.setBody(new Response(header, new String(payload, StandardCharsets.UTF_8)));
+        }
     }
 
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.model.agreement;
+
+import io.dataspaceconnector.model.util.UriConverter;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.io.Serializable;
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import static io.dataspaceconnector.model.config.DatabaseConstants.URI_COLUMN_LENGTH;
+
+/**
+ * The date after which the data of an artifact has to be deleted according to an agreement.
+ * Every indexed agreement has at least one deadline, agreements without deletion duties have a
+ * deadline without target and date.
+ */
+@Entity
+@Table(name = "deletion_deadline", indexes = {
+        @Index(name = "deletion_deadline_due_idx", columnList = "done, deadline"),
+        @Index(name = "deletion_deadline_agreement_idx", columnList = "agreement_id"),
+        @Index(name = "deletion_deadline_target_idx", columnList = "target")})
+@Getter
+@Setter(AccessLevel.NONE)
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DeletionDeadline implements Serializable {
+
+    /**
+     * Serial version uid.
+     **/
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The primary key of the deadline.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @ToString.Exclude
+    @SuppressWarnings("PMD.ShortVariable")
+    private Long id;
+
+    /**
+     * The agreement requiring the deletion.
+     */
+    @Column(name = "agreement_id", nullable = false)
+    private UUID agreementId;
+
+    /**
+     * The remote id of the artifact whose data has to be deleted.
+     */
+    @Convert(converter = UriConverter.class)
+    @Column(name = "target", length = URI_COLUMN_LENGTH)
+    private URI target;
+
+    /**
+     * The date after which the data has to be deleted.
+     */
+    @Column(name = "deadline")
+    private ZonedDateTime deadline;
+
+    /**
+     * Whether the data has been deleted since the deadline passed.
+     */
+    @Column(name = "done", nullable = false)
+    private boolean done;
+
+    /**
+     * Create a deadline.
+     *
+     * @param agreement The agreement requiring the deletion.
+     * @param artifact  The remote id of the artifact, null if nothing has to be deleted.
+     * @param date      The date after which the data has to be deleted, null if nothing has to
+     *                  be deleted.
+     */
+    public DeletionDeadline(final UUID agreement, final URI artifact, final ZonedDateTime date) {
+        this.agreementId = agreement;
+        this.target = artifact;
+        this.deadline = date;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.model.agreement;
+
+import io.dataspaceconnector.model.util.UriConverter;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import java.io.Serializable;
+import java.net.URI;
+import java.time.ZonedDateTime;
+
+import static io.dataspaceconnector.model.config.DatabaseConstants.URI_COLUMN_LENGTH;
+
+/**
+ * A data access that still has to be logged or reported according to the duties of an
+ * agreement. Entries are removed once they have been delivered.
+ */
+@Entity
+@Table(name = "pending_duty", indexes = {
+        @Index(name = "pending_duty_next_attempt_idx", columnList = "next_attempt")})
+@Getter
+@Setter(AccessLevel.NONE)
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PendingDuty implements Serializable {
+
+    /**
+     * Serial version uid.
+     **/
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The kind of duty.
+     */
+    public enum Type {
+        /**
+         * Log the access at the clearing house.
+         */
+        USAGE_LOGGING,
+
+        /**
+         * Send a notification message to an endpoint.
+         */
+        USAGE_NOTIFICATION
+    }
+
+    /**
+     * The primary key of the duty.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @ToString.Exclude
+    @SuppressWarnings("PMD.ShortVariable")
+    private Long id;
+
+    /**
+     * The kind of duty.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private Type type;
+
+    /**
+     * The agreement for logging, the endpoint for notifications.
+     */
+    @Convert(converter = UriConverter.class)
+    @Column(name = "recipient", length = URI_COLUMN_LENGTH, nullable = false)
+    private URI recipient;
+
+    /**
+     * The log line describing the access.
+     */
+    @Lob
+    @Column(name = "log_item", columnDefinition = "TEXT", nullable = false)
+    private String logItem;
+
+    /**
+     * The number of failed deliveries.
+     */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /**
+     * The date after which the next delivery is due.
+     */
+    @Column(name = "next_attempt", nullable = false)
+    private ZonedDateTime nextAttempt;
+
+    /**
+     * Create a duty that is due immediately.
+     *
+     * @param type      The kind of duty.
+     * @param recipient The agreement for logging, the endpoint for notifications.
+     * @param logItem   The log line describing the access.
+     * @param now       The current date.
+     */
+    public PendingDuty(final Type type, final URI recipient, final String logItem,
+                       final ZonedDateTime now) {
+        this.type = type;
+        this.recipient = recipient;
+        this.logItem = logItem;
+        this.nextAttempt = now;
+    }
+}
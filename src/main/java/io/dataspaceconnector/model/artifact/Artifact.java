@@ -26,9 +26,12 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Convert;
 import javax.persistence.Inheritance;
@@ -46,6 +49,8 @@ import static io.dataspaceconnector.model.config.DatabaseConstants.URI_COLUMN_LE
 @Inheritance
 @javax.persistence.Entity
 @Table(name = "artifact")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @SQLDelete(sql = "UPDATE artifact SET deleted=true WHERE id=?")
 @Where(clause = "deleted = false")
 @Getter
@@ -74,8 +79,10 @@ public abstract class Artifact extends NamedEntity implements RemoteObject {
     private URI remoteAddress;
 
     /**
-     * The counter of how often the underlying data has been accessed.
+     * The counter of how often the underlying data has been accessed. Only changed by adding
+     * to the stored value, so saving an artifact does not overwrite concurrent accesses.
      */
+    @Column(updatable = false)
     private long numAccessed;
 
     /**
@@ -96,6 +103,7 @@ public abstract class Artifact extends NamedEntity implements RemoteObject {
     /**
      * The representations in which this artifact is used.
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ManyToMany(mappedBy = "artifacts")
     private List<Representation> representations;
 
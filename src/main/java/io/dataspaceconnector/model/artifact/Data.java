@@ -34,6 +34,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Inheritance;
 import javax.persistence.Table;
 import java.io.Serializable;
@@ -43,7 +44,8 @@ import java.io.Serializable;
  */
 @Entity
 @Inheritance
-@Table(name = "data")
+@Table(name = "data", indexes = @Index(name = "data_localdata_handle_idx",
+        columnList = "localdata_handle"))
 @SQLDelete(sql = "UPDATE data SET deleted=true WHERE id=?")
 @Where(clause = "deleted = false")
 @Getter
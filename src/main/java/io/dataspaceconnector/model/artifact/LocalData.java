@@ -21,6 +21,7 @@ package io.dataspaceconnector.model.artifact;
 
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.SQLDelete;
@@ -53,6 +54,14 @@ public class LocalData extends Data {
     @Column(name = "localdata_value", columnDefinition = "TEXT")
     private byte[] value;
 
+    /**
+     * The handle of the data in an external data store. Null if the data is kept in the
+     * value column.
+     */
+    @Getter
+    @Column(name = "localdata_handle")
+    private String handle;
+
     /**
      * Get the data.
      *
@@ -23,9 +23,12 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
+import javax.persistence.Cacheable;
 import javax.persistence.ManyToMany;
 import javax.persistence.Table;
 import java.util.List;
@@ -35,6 +38,8 @@ import java.util.List;
  */
 @javax.persistence.Entity
 @Table(name = "catalog")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @SQLDelete(sql = "UPDATE catalog SET deleted=true WHERE id=?")
 @Where(clause = "deleted = false")
 @Getter
@@ -51,12 +56,14 @@ public class Catalog extends NamedEntity {
     /**
      * The offered resources grouped by the catalog.
      **/
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ManyToMany
     private List<OfferedResource> offeredResources;
 
     /**
      * The requested resources grouped by the catalog.
      **/
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ManyToMany
     private List<RequestedResource> requestedResources;
 }
@@ -29,11 +29,14 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.LazyCollection;
 import org.hibernate.annotations.LazyCollectionOption;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
+import javax.persistence.Cacheable;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Convert;
@@ -54,6 +57,8 @@ import static io.dataspaceconnector.model.config.DatabaseConstants.URI_COLUMN_LE
  */
 @javax.persistence.Entity
 @Table(name = "configuration")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @SQLDelete(sql = "UPDATE configuration SET deleted=true WHERE id=?")
 @Where(clause = "deleted = false")
 @Getter
@@ -110,6 +115,7 @@ public class Configuration extends NamedEntity {
     /**
      * The list of inbound model version.
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ElementCollection(fetch = FetchType.EAGER)
     @LazyCollection(LazyCollectionOption.FALSE)
     private List<String> inboundModelVersion;
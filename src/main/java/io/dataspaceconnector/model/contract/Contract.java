@@ -25,9 +25,12 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Convert;
 import javax.persistence.ManyToMany;
@@ -43,6 +46,8 @@ import static io.dataspaceconnector.model.config.DatabaseConstants.URI_COLUMN_LE
  */
 @javax.persistence.Entity
 @Table(name = "contract")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @SQLDelete(sql = "UPDATE contract SET deleted=true WHERE id=?")
 @Where(clause = "deleted = false")
 @Getter
@@ -92,12 +97,14 @@ public class Contract extends NamedEntity implements RemoteObject {
     /**
      * The rules used by this contract.
      **/
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ManyToMany
     private List<ContractRule> rules;
 
     /**
      * The representations in which this contract is used.
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ManyToMany(mappedBy = "contracts")
     private List<Resource> resources;
 }
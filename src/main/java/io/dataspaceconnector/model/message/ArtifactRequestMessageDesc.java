@@ -15,6 +15,7 @@
  */
 package io.dataspaceconnector.model.message;
 
+import io.dataspaceconnector.common.net.ByteRange;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
@@ -39,6 +40,11 @@ public final class ArtifactRequestMessageDesc extends MessageDesc {
      */
     private URI transferContract;
 
+    /**
+     * The requested byte range of the artifact's data. Null for all data.
+     */
+    private ByteRange range;
+
     /**
      * All args constructor.
      *
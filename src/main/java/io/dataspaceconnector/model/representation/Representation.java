@@ -25,9 +25,12 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Convert;
 import javax.persistence.ManyToMany;
@@ -43,6 +46,8 @@ import static io.dataspaceconnector.model.config.DatabaseConstants.URI_COLUMN_LE
  */
 @javax.persistence.Entity
 @Table(name = "representation")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @SQLDelete(sql = "UPDATE representation SET deleted=true WHERE id=?")
 @Where(clause = "deleted = false")
 @Getter
@@ -82,12 +87,14 @@ public class Representation extends NamedEntity {
     /**
      * The artifacts associated with this representation.
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ManyToMany
     private List<Artifact> artifacts;
 
     /**
      * The resources associated with this representation.
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ManyToMany(mappedBy = "representations")
     private List<Resource> resources;
 
@@ -28,10 +28,13 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 import org.springframework.data.annotation.Version;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Convert;
 import javax.persistence.ElementCollection;
@@ -54,6 +57,8 @@ import static io.dataspaceconnector.model.config.DatabaseConstants.URI_COLUMN_LE
 @Getter
 @Setter(AccessLevel.PACKAGE)
 @EqualsAndHashCode(callSuper = true)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @SQLDelete(sql = "UPDATE resource SET deleted=true WHERE id=?")
 @Where(clause = "deleted = false")
 @Table(name = "resource")
@@ -68,6 +73,7 @@ public class Resource extends NamedEntity {
     /**
      * The keywords of the resource.
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ElementCollection
     private List<String> keywords;
 
@@ -119,6 +125,7 @@ public class Resource extends NamedEntity {
     /**
      * Links to sample resources.
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ElementCollection
     @Convert(converter = UriConverter.class)
     @Column(length = URI_COLUMN_LENGTH)
@@ -127,12 +134,14 @@ public class Resource extends NamedEntity {
     /**
      * The representation available for the resource.
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ManyToMany
     private List<Representation> representations;
 
     /**
      * The contracts available for the resource.
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ManyToMany
     private List<Contract> contracts;
 
@@ -28,9 +28,12 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Convert;
 import javax.persistence.Lob;
@@ -46,6 +49,8 @@ import static io.dataspaceconnector.model.config.DatabaseConstants.URI_COLUMN_LE
  */
 @javax.persistence.Entity
 @Table(name = "contractrule")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @SQLDelete(sql = "UPDATE contractrule SET deleted=true WHERE id=?")
 @Where(clause = "deleted = false")
 @Getter
@@ -76,6 +81,7 @@ public class ContractRule extends NamedEntity implements RemoteObject {
     /**
      * The contracts in which this rule is used.
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @ManyToMany(mappedBy = "rules")
     private List<Contract> contracts;
 }
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.repository;
+
+import java.util.UUID;
+
+/**
+ * Updates the data access counters of artifacts without invalidating the cached artifacts and
+ * queries depending on them.
+ */
+public interface ArtifactCounterRepository {
+
+    /**
+     * Add accesses to the data access counter of an artifact.
+     *
+     * @param artifactId The artifact.
+     * @param delta      The number of accesses to add.
+     * @return The number of updated artifacts.
+     */
+    int incrementAccessCounter(UUID artifactId, long delta);
+}
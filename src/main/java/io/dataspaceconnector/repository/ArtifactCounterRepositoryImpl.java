@@ -0,0 +1,66 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.repository;
+
+import io.dataspaceconnector.model.artifact.Artifact;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.UUID;
+
+/**
+ * Implements {@link ArtifactCounterRepository}. A bulk update of artifacts would make
+ * Hibernate evict all cached artifacts and all cached queries on artifacts. The counter is
+ * updated by a native query instead, whose query space is not used by any entity, and only the
+ * updated artifact is evicted.
+ */
+public class ArtifactCounterRepositoryImpl implements ArtifactCounterRepository {
+
+    /**
+     * Query space of the counter update. Does not match any table, so no cached query is
+     * invalidated.
+     */
+    private static final String COUNTER_QUERY_SPACE = "artifact_access_counter";
+
+    /**
+     * The entity manager.
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public int incrementAccessCounter(final UUID artifactId, final long delta) {
+        final var updated = entityManager.createNativeQuery("UPDATE artifact "
+                        + "SET num_accessed = num_accessed + :delta "
+                        + "WHERE id = :artifactId "
+                        + "AND deleted = false")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(COUNTER_QUERY_SPACE)
+                .setParameter("delta", delta)
+                .setParameter("artifactId", artifactId)
+                .executeUpdate();
+
+        // Views of the artifact show the stored counter.
+        entityManager.getEntityManagerFactory().getCache().evict(Artifact.class, artifactId);
+        return updated;
+    }
+}
@@ -29,7 +29,8 @@ import java.util.UUID;
  * The repository containing all objects of type {@link Artifact}.
  */
 @Repository
-public interface ArtifactRepository extends RemoteEntityRepository<Artifact> {
+public interface ArtifactRepository extends RemoteEntityRepository<Artifact>,
+        ArtifactCounterRepository {
 
     /**
      * Finds all artifacts of a specific resource.
@@ -92,6 +93,18 @@ public interface ArtifactRepository extends RemoteEntityRepository<Artifact> {
             + "AND a.deleted = false")
     void setArtifactData(UUID artifactId, long checkSum, long size);
 
+    /**
+     * Get the stored data access counter of an artifact.
+     *
+     * @param artifactId The artifact.
+     * @return The counter, null if the artifact does not exist.
+     */
+    @Query("SELECT a.numAccessed "
+            + "FROM Artifact a "
+            + "WHERE a.id = :artifactId "
+            + "AND a.deleted = false")
+    Long findNumAccessed(UUID artifactId);
+
     /**
      * Finds all artifacts with a specific bootstrap ID.
      *
@@ -22,12 +22,16 @@ package io.dataspaceconnector.repository;
 import io.dataspaceconnector.model.configuration.Configuration;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 /**
  * Repository for the configuration.
  */
@@ -39,6 +43,7 @@ public interface ConfigurationRepository extends BaseEntityRepository<Configurat
      *
      * @return UUIDs of Configurations that are marked as selected.
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     @Query("SELECT a "
             + "FROM #{#entityName} a "
             + "WHERE a.active = true "
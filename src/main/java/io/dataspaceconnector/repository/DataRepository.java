@@ -22,6 +22,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Set;
+
 /**
  * The repository containing all objects of type {@link Data}.
  */
@@ -36,10 +38,34 @@ public interface DataRepository extends JpaRepository<Data, Long> {
     @Transactional
     @Modifying
     @Query("UPDATE LocalData a "
-            + "SET a.value = :data "
+            + "SET a.value = :data, a.handle = null "
             + "WHERE a.id = :entityId")
     void setLocalData(Long entityId, byte[] data);
 
+    /**
+     * Set the handle of local data kept in an external data store. The value column is cleared.
+     *
+     * @param entityId The entity id.
+     * @param handle   The new handle.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE LocalData a "
+            + "SET a.handle = :handle, a.value = null "
+            + "WHERE a.id = :entityId")
+    void setLocalDataHandle(Long entityId, String handle);
+
+    /**
+     * Finds all handles of an external data store that are referenced by data.
+     *
+     * @return The referenced handles.
+     */
+    @Query("SELECT DISTINCT a.handle "
+            + "FROM LocalData a "
+            + "WHERE a.handle IS NOT NULL "
+            + "AND a.deleted = false")
+    Set<String> findAllHandles();
+
     /**
      * Removes a RemoteData object from the database.
      *
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.repository;
+
+import io.dataspaceconnector.model.agreement.DeletionDeadline;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The repository containing all objects of type {@link DeletionDeadline}.
+ */
+@Repository
+public interface DeletionDeadlineRepository extends JpaRepository<DeletionDeadline, Long> {
+
+    /**
+     * Finds the deadlines that passed and whose data has not been deleted since, oldest first.
+     *
+     * @param now      The current date.
+     * @param pageable The page.
+     * @return The due deadlines.
+     */
+    @Query("SELECT d "
+            + "FROM DeletionDeadline d "
+            + "WHERE d.done = false "
+            + "AND d.deadline < :now "
+            + "ORDER BY d.deadline, d.id")
+    List<DeletionDeadline> findDue(ZonedDateTime now, Pageable pageable);
+
+    /**
+     * Finds the deadlines that passed and whose data has not been deleted since, ordered after
+     * a given deadline. Used for paging through the due deadlines, as deadlines that could not
+     * be handled stay due.
+     *
+     * @param now          The current date.
+     * @param lastDeadline The date of the last deadline of the previous page.
+     * @param lastId       The id of the last deadline of the previous page.
+     * @param pageable     The page.
+     * @return The due deadlines.
+     */
+    @Query("SELECT d "
+            + "FROM DeletionDeadline d "
+            + "WHERE d.done = false "
+            + "AND d.deadline < :now "
+            + "AND (d.deadline > :lastDeadline "
+            + "OR (d.deadline = :lastDeadline AND d.id > :lastId)) "
+            + "ORDER BY d.deadline, d.id")
+    List<DeletionDeadline> findDueAfter(ZonedDateTime now, ZonedDateTime lastDeadline,
+                                        Long lastId, Pageable pageable);
+
+    /**
+     * Finds the ids of all agreements without deadlines.
+     *
+     * @param pageable The page.
+     * @return The agreement ids.
+     */
+    @Query("SELECT a.id "
+            + "FROM Agreement a "
+            + "WHERE a.deleted = false "
+            + "AND NOT EXISTS (SELECT d FROM DeletionDeadline d WHERE d.agreementId = a.id)")
+    List<UUID> findUnindexedAgreements(Pageable pageable);
+
+    /**
+     * Marks deadlines as done.
+     *
+     * @param deadlineIds The deadlines.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE DeletionDeadline d "
+            + "SET d.done = true "
+            + "WHERE d.id IN :deadlineIds")
+    void markDone(Collection<Long> deadlineIds);
+
+    /**
+     * Marks the passed deadlines of an artifact as due again, e.g. as its data changed.
+     *
+     * @param target The remote id of the artifact.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE DeletionDeadline d "
+            + "SET d.done = false "
+            + "WHERE d.target = :target "
+            + "AND d.done = true")
+    void markDue(URI target);
+
+    /**
+     * Removes all deadlines of an agreement.
+     *
+     * @param agreementId The agreement.
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM DeletionDeadline d "
+            + "WHERE d.agreementId = :agreementId")
+    void deleteByAgreement(UUID agreementId);
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.repository;
+
+import io.dataspaceconnector.model.agreement.PendingDuty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.hibernate.cfg.AvailableSettings.JPA_LOCK_TIMEOUT;
+
+/**
+ * The repository containing all objects of type {@link PendingDuty}.
+ */
+@Repository
+public interface PendingDutyRepository extends JpaRepository<PendingDuty, Long> {
+
+    /**
+     * Claims the duties whose delivery is due, oldest first. Claimed duties are not due again
+     * before the claim expired, so connectors sharing the database do not deliver them twice.
+     *
+     * @param now      The current date.
+     * @param until    The date at which the claim expires.
+     * @param pageable The page.
+     * @return The claimed duties.
+     */
+    @Transactional
+    default List<PendingDuty> claimDue(final ZonedDateTime now, final ZonedDateTime until,
+                                       final Pageable pageable) {
+        final var due = findDueForUpdate(now, pageable);
+        if (!due.isEmpty()) {
+            claim(due.stream().map(PendingDuty::getId).toList(), until);
+        }
+        return due;
+    }
+
+    /**
+     * Finds and locks the duties whose delivery is due, oldest first. Duties locked by another
+     * transaction are skipped (lock timeout -2, i.e. SKIP LOCKED).
+     *
+     * @param now      The current date.
+     * @param pageable The page.
+     * @return The due duties.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = JPA_LOCK_TIMEOUT, value = "-2"))
+    @Query("SELECT p "
+            + "FROM PendingDuty p "
+            + "WHERE p.nextAttempt <= :now "
+            + "ORDER BY p.nextAttempt, p.id")
+    List<PendingDuty> findDueForUpdate(ZonedDateTime now, Pageable pageable);
+
+    /**
+     * Defers the next delivery of duties without counting an attempt.
+     *
+     * @param dutyIds The duties.
+     * @param until   The date of the next delivery.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PendingDuty p "
+            + "SET p.nextAttempt = :until "
+            + "WHERE p.id IN :dutyIds")
+    void claim(Collection<Long> dutyIds, ZonedDateTime until);
+
+    /**
+     * Postpones the delivery of a duty after a failed attempt.
+     *
+     * @param dutyId      The duty.
+     * @param nextAttempt The date of the next attempt.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE PendingDuty p "
+            + "SET p.attempts = p.attempts + 1, p.nextAttempt = :nextAttempt "
+            + "WHERE p.id = :dutyId")
+    void postpone(Long dutyId, ZonedDateTime nextAttempt);
+}
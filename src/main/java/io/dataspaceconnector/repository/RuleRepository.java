@@ -17,11 +17,15 @@ package io.dataspaceconnector.repository;
 
 import io.dataspaceconnector.model.rule.ContractRule;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.UUID;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 /**
  * The repository containing all objects of type {@link ContractRule}.
  */
@@ -33,6 +37,7 @@ public interface RuleRepository extends BaseEntityRepository<ContractRule> {
      * @param contractId The contract's id.
      * @return A list of all rules in the contract.
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     @Query("SELECT r "
             + "FROM ContractRule r INNER JOIN Contract c ON r MEMBER OF c.rules "
             + "WHERE c.id = :contractId "
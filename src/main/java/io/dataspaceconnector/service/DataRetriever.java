@@ -22,24 +22,26 @@ package io.dataspaceconnector.service;
 import io.dataspaceconnector.common.exception.DataRetrievalException;
 import io.dataspaceconnector.common.exception.UnreachableLineException;
 import io.dataspaceconnector.common.net.ApiReferenceHelper;
-import io.dataspaceconnector.common.net.HttpAuthentication;
+import io.dataspaceconnector.common.net.HttpResponse;
 import io.dataspaceconnector.common.net.HttpService;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.routing.RouteDataRetriever;
 import io.dataspaceconnector.common.routing.dataretrieval.DataRetrievalService;
+import io.dataspaceconnector.common.routing.dataretrieval.Response;
 import io.dataspaceconnector.model.artifact.ArtifactImpl;
 import io.dataspaceconnector.model.artifact.LocalData;
 import io.dataspaceconnector.model.artifact.RemoteData;
+import io.dataspaceconnector.service.cache.BackendResponseCache;
+import io.dataspaceconnector.service.storage.LocalDataStore;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
-import java.util.List;
 
 /**
  * Retrieves data from the local database, remote HTTP services and Camel routes.
@@ -64,6 +66,16 @@ public class DataRetriever {
      */
     private final @NonNull ApiReferenceHelper apiReferenceHelper;
 
+    /**
+     * Keeps the payload of local data.
+     */
+    private final @NonNull LocalDataStore localDataStore;
+
+    /**
+     * Caches responses of http backends.
+     */
+    private final @NonNull BackendResponseCache backendCache;
+
     /**
      * Retrieves the data for an artifact using the specified query input.
      *
@@ -109,17 +121,10 @@ public class DataRetriever {
      *
      * @param data The data container.
      * @return The stored data.
+     * @throws IOException if the data cannot be read from the store.
      */
-    private InputStream getData(final LocalData data) {
-        return toInputStream(data.getValue());
-    }
-
-    private InputStream toInputStream(final byte[] data) {
-        if (data == null) {
-            return ByteArrayInputStream.nullInputStream();
-        } else {
-            return new ByteArrayInputStream(data);
-        }
+    private InputStream getData(final LocalData data) throws IOException {
+        return localDataStore.read(data);
     }
 
     /**
@@ -149,28 +154,32 @@ public class DataRetriever {
         if (apiReferenceHelper.isRouteReference(data.getAccessUrl())) {
             backendData = getData(routeRetriever, data.getAccessUrl(), queryInput);
         } else {
-            if (!data.getAuthentication().isEmpty()) {
-                backendData = getData(httpSvc, data.getAccessUrl(), queryInput,
-                        data.getAuthentication());
-            } else {
-                backendData = getData(httpSvc, data.getAccessUrl(), queryInput);
-            }
+            backendData = backendCache.get(data, queryInput, query -> fetch(data, query));
         }
 
         return backendData;
     }
 
-    private InputStream getData(final DataRetrievalService service, final URL target,
-                                final QueryInput queryInput)
-            throws IOException, DataRetrievalException {
-        return service.get(target, queryInput).getData();
+    private HttpResponse fetch(final RemoteData data, final QueryInput queryInput)
+            throws IOException {
+        final Response response;
+        if (!data.getAuthentication().isEmpty()) {
+            response = httpSvc.get(data.getAccessUrl(), queryInput, data.getAuthentication());
+        } else {
+            response = httpSvc.get(data.getAccessUrl(), queryInput);
+        }
+
+        if (response instanceof HttpResponse httpResponse) {
+            return httpResponse;
+        }
+
+        return new HttpResponse(HttpStatus.OK.value(), response.getData());
     }
 
     private InputStream getData(final DataRetrievalService service, final URL target,
-                                final QueryInput queryInput,
-                                final List<? extends HttpAuthentication> authentications)
+                                final QueryInput queryInput)
             throws IOException, DataRetrievalException {
-        return service.get(target, queryInput, authentications).getData();
+        return service.get(target, queryInput).getData();
     }
 
 }
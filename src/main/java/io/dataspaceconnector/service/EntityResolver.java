@@ -37,7 +37,9 @@ import io.dataspaceconnector.model.resource.OfferedResourceDesc;
 import io.dataspaceconnector.model.resource.RequestedResource;
 import io.dataspaceconnector.model.resource.RequestedResourceDesc;
 import io.dataspaceconnector.model.rule.ContractRule;
-import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.service.cache.DeserializationCache;
+import io.dataspaceconnector.service.cache.IdsDescriptionCache;
+import io.dataspaceconnector.service.cache.IdsDescriptionCache.CachedDescription;
 import io.dataspaceconnector.service.resource.ids.builder.IdsArtifactBuilder;
 import io.dataspaceconnector.service.resource.ids.builder.IdsCatalogBuilder;
 import io.dataspaceconnector.service.resource.ids.builder.IdsContractBuilder;
@@ -63,9 +65,10 @@ import java.io.InputStream;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 
+import static io.dataspaceconnector.service.resource.ids.builder.base.AbstractIdsBuilder.DEFAULT_DEPTH;
+
 /**
  * This service offers methods for finding entities by their identifying URI.
  */
@@ -150,9 +153,14 @@ public class EntityResolver {
     private final @NonNull ArtifactRetriever artifactReceiver;
 
     /**
-     * Service for deserialization.
+     * Cache of deserialized ids objects.
+     */
+    private final @NonNull DeserializationCache deserializationCache;
+
+    /**
+     * Cache of built ids descriptions.
      */
-    private final @NonNull DeserializationService deserializationService;
+    private final @NonNull IdsDescriptionCache descriptionCache;
 
     /**
      * Return any connector entity by its id.
@@ -200,31 +208,44 @@ public class EntityResolver {
      * @param entity The connector's entity.
      * @return A rdf string of an ids object.
      */
+    public <T extends Entity> String getEntityAsRdfString(final T entity)
+            throws InvalidResourceException {
+        return getEntityDescription(entity).getRdf();
+    }
+
+    /**
+     * Translate a connector entity to an ids description. Descriptions are cached per entity.
+     *
+     * @param <T>    Type of the entity.
+     * @param entity The connector's entity.
+     * @return The description with its rdf string and entity tag.
+     */
     @SuppressFBWarnings(value = "REC_CATCH_EXCEPTION",
             justification = "exceptions are checked at a higher level")
-    public <T extends Entity> String getEntityAsRdfString(final T entity)
+    public <T extends Entity> CachedDescription<?> getEntityDescription(final T entity)
             throws InvalidResourceException {
         // NOTE Maybe the builder class could be found without the ugly if array?
         try {
             if (entity instanceof Artifact artifactEntity) {
-                final var artifact = artifactBuilder.create(artifactEntity);
-                return RdfConverter.toRdf(Objects.requireNonNull(artifact));
+                return describe(descriptionCache.get(artifactEntity, DEFAULT_DEPTH,
+                        () -> artifactBuilder.create(artifactEntity), RdfConverter::toRdf));
             } else if (entity instanceof OfferedResource offeredResource) {
-                final var resource = offerBuilder.create(offeredResource);
-                return RdfConverter.toRdf(Objects.requireNonNull(resource));
+                return describe(descriptionCache.get(offeredResource, DEFAULT_DEPTH,
+                        () -> offerBuilder.create(offeredResource), RdfConverter::toRdf));
             } else if (entity instanceof Representation representationEntity) {
-                final var representation = representationBuilder.create(representationEntity);
-                return RdfConverter.toRdf(Objects.requireNonNull(representation));
+                return describe(descriptionCache.get(representationEntity, DEFAULT_DEPTH,
+                        () -> representationBuilder.create(representationEntity),
+                        RdfConverter::toRdf));
             } else if (entity instanceof Catalog catalogEntity) {
-                final var catalog = catalogBuilder.create(catalogEntity);
-                return RdfConverter.toRdf(Objects.requireNonNull(catalog));
+                return describe(descriptionCache.get(catalogEntity, DEFAULT_DEPTH,
+                        () -> catalogBuilder.create(catalogEntity), RdfConverter::toRdf));
             } else if (entity instanceof Contract contract) {
-                final var contractOffer = contractBuilder.create(contract);
-                return RdfConverter.toRdf(Objects.requireNonNull(contractOffer));
+                return describe(descriptionCache.get(contract, DEFAULT_DEPTH,
+                        () -> contractBuilder.create(contract), RdfConverter::toRdf));
             } else if (entity instanceof Agreement agreement) {
-                return agreement.getValue();
+                return CachedDescription.of(agreement.getValue());
             } else if (entity instanceof ContractRule contractRule) {
-                return contractRule.getValue();
+                return CachedDescription.of(contractRule.getValue());
             }
         } catch (Exception exception) {
             // If we do not allow requesting an object type, respond with exception.
@@ -242,6 +263,12 @@ public class EntityResolver {
         throw new InvalidResourceException("No provided description for requested element.");
     }
 
+    private static CachedDescription<?> describe(final CachedDescription<?> description) {
+        // Serialize here, so that failures are handled like failures of the builder.
+        description.getRdf();
+        return description;
+    }
+
     /**
      * Return artifact by uri. This will skip the access control.
      *
@@ -265,16 +292,21 @@ public class EntityResolver {
      * @return The respective contract agreement.
      */
     public List<ContractAgreement> getContractAgreementsByTarget(final URI target) {
-        final var uuid = EndpointUtils.getUUIDFromPath(target);
-        final var artifact = artifactService.get(uuid);
-
-        final var agreements = artifact.getAgreements();
         final var agreementList = new ArrayList<ContractAgreement>();
-        for (final var agreement : agreements) {
-            final var value = agreement.getValue();
-            final var idsAgreement = deserializationService.getContractAgreement(value);
-            agreementList.add(idsAgreement);
+        for (final var agreement : getAgreementsByTarget(target)) {
+            agreementList.add(deserializationCache.getContractAgreement(agreement));
         }
         return agreementList;
     }
+
+    /**
+     * Get stored agreements for requested element.
+     *
+     * @param target The requested element.
+     * @return The respective agreements.
+     */
+    public List<Agreement> getAgreementsByTarget(final URI target) {
+        final var uuid = EndpointUtils.getUUIDFromPath(target);
+        return artifactService.get(uuid).getAgreements();
+    }
 }
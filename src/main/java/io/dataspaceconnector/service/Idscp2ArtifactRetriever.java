@@ -22,6 +22,7 @@ import java.util.UUID;
 
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.routing.ParameterUtils;
+import io.dataspaceconnector.service.message.handler.dto.DataResponse;
 import io.dataspaceconnector.service.message.handler.dto.Response;
 import io.dataspaceconnector.service.resource.type.ArtifactService;
 import lombok.NonNull;
@@ -82,9 +83,11 @@ public class Idscp2ArtifactRetriever implements ArtifactRetriever {
                         .build());
 
         final var response = result.getIn().getBody(Response.class);
-        final var data = response.getBody();
+        if (response instanceof DataResponse) {
+            return new ByteArrayInputStream(((DataResponse) response).getData());
+        }
 
-        return new ByteArrayInputStream(Base64Utils.decodeFromString(data));
+        return new ByteArrayInputStream(Base64Utils.decodeFromString(response.getBody()));
     }
 
 }
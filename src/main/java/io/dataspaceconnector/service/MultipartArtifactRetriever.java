@@ -15,9 +15,15 @@
  */
 package io.dataspaceconnector.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import de.fraunhofer.iais.eis.RejectionReason;
 import io.dataspaceconnector.common.exception.ErrorMessage;
+import io.dataspaceconnector.common.exception.MessageException;
+import io.dataspaceconnector.common.exception.MessageResponseException;
 import io.dataspaceconnector.common.ids.message.MessageUtils;
+import io.dataspaceconnector.common.net.ByteRange;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.exception.DataRetrievalException;
 import io.dataspaceconnector.common.exception.PolicyRestrictionException;
@@ -27,19 +33,26 @@ import io.dataspaceconnector.service.resource.type.ArtifactService;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Base64Utils;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.util.Map;
 import java.util.UUID;
+import java.util.zip.CRC32C;
 
 /**
  * Performs an artifact request for an artifact via Multipart. All functions will block till the
- * request is completed.
+ * request is completed. If a chunk size is configured, the data is requested in byte ranges of
+ * this size while the returned stream is read. Each range is verified by its checksum and
+ * requested again on failure, so that an interrupted transfer resumes at the failed range. All
+ * ranges belong to the transfer started by the first one, which pins the provider's data and its
+ * checksum. Providers not supporting ranges return all data at once.
  */
 @Component
 @Log4j2
@@ -58,6 +71,18 @@ public class MultipartArtifactRetriever implements ArtifactRetriever {
      */
     private final @NonNull ArtifactService artifactService;
 
+    /**
+     * Size of the requested byte ranges. Data is requested as a whole if not positive.
+     */
+    @Value("${artifact.transfer.chunk-size:0}")
+    private long chunkSize;
+
+    /**
+     * Number of attempts for requesting a single byte range.
+     */
+    @Value("${artifact.transfer.chunk-attempts:3}")
+    private int chunkAttempts;
+
     /**
      * {@inheritDoc}
      */
@@ -76,29 +101,294 @@ public class MultipartArtifactRetriever implements ArtifactRetriever {
                                 final QueryInput queryInput)
             throws PolicyRestrictionException {
         final var artifact = artifactService.get(artifactId);
+        if (chunkSize <= 0) {
+            final var response = requestData(recipient, artifact.getRemoteId(),
+                    transferContract, queryInput, null);
+            return new ByteArrayInputStream(decodePayload(response));
+        }
+
+        final var stream = new ChunkedDataStream(recipient, artifact.getRemoteId(),
+                transferContract, queryInput);
+        try {
+            // Request the first range right away, so that rejections surface here.
+            stream.fetchChunk();
+        } catch (IOException exception) {
+            if (log.isDebugEnabled()) {
+                log.debug("Data could not be loaded. [exception=({})]", exception.getMessage());
+            }
+            throw new DataRetrievalException(exception.getMessage(), exception);
+        }
+        return stream;
+    }
 
-        Map<String, String> response;
+    private Map<String, String> requestData(final URI recipient, final URI remoteId,
+                                            final URI transferContract,
+                                            final QueryInput queryInput,
+                                            final ByteRange range) {
         try {
-            response = artifactReqSvc.sendMessage(recipient,
-                    artifact.getRemoteId(), transferContract, queryInput);
+            if (range == null) {
+                return artifactReqSvc.sendMessage(recipient, remoteId, transferContract,
+                        queryInput);
+            }
+
+            return artifactReqSvc.sendMessage(recipient, remoteId, transferContract, queryInput,
+                    range);
         } catch (UnexpectedResponseException exception) {
             final var content = exception.getContent();
             if (log.isDebugEnabled()) {
                 log.debug("Data could not be loaded. [content=({})]", content);
             }
 
-        if (content.containsKey("reason")) {
-            final var reason = content.get("reason");
-            if (reason.equals(RejectionReason.NOT_AUTHORIZED)) {
-                throw new PolicyRestrictionException(ErrorMessage.POLICY_RESTRICTION);
+            if (content.containsKey("reason")) {
+                final var reason = content.get("reason");
+                if (reason.equals(RejectionReason.NOT_AUTHORIZED)) {
+                    throw new PolicyRestrictionException(ErrorMessage.POLICY_RESTRICTION);
+                }
             }
-        }
 
             throw new DataRetrievalException(content.toString());
         }
+    }
+
+    private static byte[] decodePayload(final Map<String, String> response) {
+        return Base64Utils.decodeFromString(
+                MessageUtils.extractPayloadFromMultipartMessage(response));
+    }
+
+    /**
+     * Read the header of a response.
+     *
+     * @param response The response.
+     * @return The header or null, if the response has none.
+     * @throws JsonProcessingException if the header cannot be parsed.
+     */
+    private static JsonNode readHeader(final Map<String, String> response)
+            throws JsonProcessingException {
+        final var header = MessageUtils.extractHeaderFromMultipartMessage(response);
+        return header == null ? null : new ObjectMapper().readTree(header);
+    }
+
+    /**
+     * Read a custom property from a response header.
+     *
+     * @param header The header.
+     * @param name   The name of the property.
+     * @return The value or null, if the property is not set.
+     */
+    private static String getProperty(final JsonNode header, final String name) {
+        if (header == null) {
+            return null;
+        }
+
+        var node = header.path(name);
+        if (node.has("@value")) {
+            node = node.get("@value");
+        }
+
+        return node.isMissingNode() || node.isNull() ? null : node.asText();
+    }
+
+    private static Long getLongProperty(final JsonNode header, final String name) {
+        final var value = getProperty(header, name);
+        return value == null ? null : Long.valueOf(value);
+    }
+
+    /**
+     * Stream requesting the data range by range while being read.
+     */
+    private final class ChunkedDataStream extends InputStream {
+
+        /**
+         * The provider.
+         */
+        private final URI recipient;
+
+        /**
+         * The artifact at the provider.
+         */
+        private final URI remoteId;
+
+        /**
+         * The transfer contract.
+         */
+        private final URI transferContract;
+
+        /**
+         * The query for the provider's backend.
+         */
+        private final QueryInput queryInput;
+
+        /**
+         * Offset of the next range to request.
+         */
+        private long position;
+
+        /**
+         * Whether the last range has been received.
+         */
+        private boolean complete;
+
+        /**
+         * The transfer at the provider, set by the response to the first range.
+         */
+        private UUID transferId;
 
-        final var data = MessageUtils.extractPayloadFromMultipartMessage(response);
+        /**
+         * The checksum of all data, set by the response to the first range.
+         */
+        private Long dataCheckSum;
 
-        return new ByteArrayInputStream(Base64Utils.decodeFromString(data));
+        /**
+         * The size of all data, set by the response to the first range.
+         */
+        private long dataLength;
+
+        /**
+         * The checksum of the data received so far.
+         */
+        private final CRC32C receivedCheckSum = new CRC32C();
+
+        /**
+         * The range that is currently read.
+         */
+        private ByteArrayInputStream chunk = new ByteArrayInputStream(new byte[0]);
+
+        ChunkedDataStream(final URI provider, final URI artifact, final URI contract,
+                          final QueryInput query) {
+            super();
+            this.recipient = provider;
+            this.remoteId = artifact;
+            this.transferContract = contract;
+            this.queryInput = query;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return hasRemaining() ? chunk.read() : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+
+            return hasRemaining() ? chunk.read(b, off, len) : -1;
+        }
+
+        @Override
+        public int available() {
+            return chunk.available();
+        }
+
+        private boolean hasRemaining() throws IOException {
+            while (chunk.available() == 0) {
+                if (complete) {
+                    return false;
+                }
+
+                fetchChunk();
+            }
+
+            return true;
+        }
+
+        /**
+         * Request the next range. Failed transfers and ranges not matching their checksum are
+         * requested again, rejections are passed on. Once all data has been received, it is
+         * verified by the checksum of the transfer.
+         *
+         * @throws IOException if the range could not be transferred.
+         */
+        void fetchChunk() throws IOException {
+            final var range = new ByteRange(position, chunkSize, transferId);
+            for (var attempt = 1; ; attempt++) {
+                try {
+                    acceptChunk(requestRange(range));
+                    break;
+                } catch (MessageException | MessageResponseException
+                        | IllegalArgumentException | IOException exception) {
+                    if (attempt >= chunkAttempts) {
+                        throw new IOException("Failed to transfer data. [position=(" + position
+                                + ")]", exception);
+                    }
+
+                    if (log.isDebugEnabled()) {
+                        log.debug("Failed to transfer data. Retrying. [position=({}), "
+                                + "attempt=({})]", position, attempt, exception);
+                    }
+                }
+            }
+
+            if (complete && dataCheckSum != null
+                    && dataCheckSum != receivedCheckSum.getValue()) {
+                throw new IOException("Checksum mismatch of the transferred data.");
+            }
+        }
+
+        private Map<String, String> requestRange(final ByteRange range) {
+            try {
+                return requestData(recipient, remoteId, transferContract, queryInput, range);
+            } catch (DataRetrievalException exception) {
+                if (range.getStart() != 0) {
+                    throw exception;
+                }
+
+                if (log.isDebugEnabled()) {
+                    log.debug("Provider rejected byte range, requesting all data. "
+                            + "[exception=({})]", exception.getMessage());
+                }
+                return requestData(recipient, remoteId, transferContract, queryInput, null);
+            }
+        }
+
+        private void acceptChunk(final Map<String, String> response) throws IOException {
+            final var data = decodePayload(response);
+            final var header = readHeader(response);
+            final var chunkCheckSum = getLongProperty(header, ByteRange.CHUNK_CHECKSUM_PROPERTY);
+            if (chunkCheckSum == null) {
+                if (position != 0) {
+                    throw new IOException("Provider did not return the requested range.");
+                }
+
+                // The provider does not support ranges and returned all data.
+                complete = true;
+                position = data.length;
+                chunk = new ByteArrayInputStream(data);
+                return;
+            }
+
+            final var actual = new CRC32C();
+            actual.update(data);
+            if (actual.getValue() != chunkCheckSum) {
+                throw new IOException("Checksum mismatch.");
+            }
+
+            final var checkSum = getLongProperty(header, ByteRange.DATA_CHECKSUM_PROPERTY);
+            final var length = getLongProperty(header, ByteRange.DATA_LENGTH_PROPERTY);
+            if (checkSum == null || length == null) {
+                throw new IOException("Provider did not return the checksum of the data.");
+            }
+
+            if (position != 0 && (!checkSum.equals(dataCheckSum) || length != dataLength)) {
+                throw new IOException("Data changed during the transfer.");
+            }
+
+            if (position + data.length < length && data.length == 0) {
+                throw new IOException("Provider returned an empty range.");
+            }
+
+            if (position == 0) {
+                final var transfer = getProperty(header, ByteRange.TRANSFER_PROPERTY);
+                transferId = transfer == null ? null : UUID.fromString(transfer);
+                dataCheckSum = checkSum;
+                dataLength = length;
+            }
+
+            receivedCheckSum.update(data);
+            position += data.length;
+            complete = position >= dataLength;
+            chunk = new ByteArrayInputStream(data);
+        }
     }
 }
@@ -0,0 +1,347 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import io.dataspaceconnector.common.net.HttpResponse;
+import io.dataspaceconnector.common.net.QueryInput;
+import io.dataspaceconnector.model.artifact.RemoteData;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches responses of http backends of remote data. Responses are fresh for a configurable
+ * time, afterwards they are revalidated with the backend using their entity tag or last
+ * modification date. Small responses are kept in memory, larger ones on disk. Both are bounded
+ * in size, the least recently used responses are evicted first.
+ */
+@Log4j2
+@Component
+public class BackendResponseCache {
+
+    /**
+     * Fetches data from the backend.
+     */
+    @FunctionalInterface
+    public interface Fetcher {
+        /**
+         * Send a request to the backend.
+         *
+         * @param queryInput The query input, including conditional headers on revalidation.
+         * @return The response.
+         * @throws IOException if the request failed.
+         */
+        HttpResponse fetch(QueryInput queryInput) throws IOException;
+    }
+
+    /**
+     * Whether responses are cached.
+     */
+    private final boolean enabled;
+
+    /**
+     * Time in millis for which a response is served without revalidation.
+     */
+    private final long timeToLive;
+
+    /**
+     * Maximum number of bytes kept in memory.
+     */
+    private final long memorySize;
+
+    /**
+     * Maximum number of bytes kept on disk.
+     */
+    private final long diskSize;
+
+    /**
+     * Responses up to this size are kept in memory.
+     */
+    private final long memoryThreshold;
+
+    /**
+     * Directory for responses kept on disk. Null for the default temporary directory.
+     */
+    private final Path directory;
+
+    /**
+     * The cached responses in access order.
+     */
+    private final LinkedHashMap<String, CachedResponse> entries =
+            new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Bytes currently held in memory.
+     */
+    private long memoryUsed;
+
+    /**
+     * Bytes currently held on disk.
+     */
+    private long diskUsed;
+
+    /**
+     * Constructor for BackendResponseCache.
+     *
+     * @param enable    Whether responses are cached.
+     * @param ttl       Time in millis for which a response is served without revalidation.
+     * @param memory    Maximum number of bytes kept in memory.
+     * @param disk      Maximum number of bytes kept on disk.
+     * @param threshold Responses up to this size are kept in memory.
+     * @param path      Directory for responses kept on disk. Empty for the default temporary
+     *                  directory.
+     * @throws IOException if the directory cannot be created.
+     */
+    public BackendResponseCache(
+            @Value("${backend.cache.enabled:false}") final boolean enable,
+            @Value("${backend.cache.ttl:30000}") final long ttl,
+            @Value("${backend.cache.memory-size:16777216}") final long memory,
+            @Value("${backend.cache.disk-size:1073741824}") final long disk,
+            @Value("${backend.cache.memory-threshold:262144}") final long threshold,
+            @Value("${backend.cache.path:}") final String path) throws IOException {
+        this.enabled = enable;
+        this.timeToLive = ttl;
+        this.memorySize = memory;
+        this.diskSize = disk;
+        this.memoryThreshold = Math.min(threshold, memory);
+        if (enable && !path.isBlank()) {
+            this.directory = Files.createDirectories(Path.of(path));
+        } else {
+            this.directory = null;
+        }
+    }
+
+    /**
+     * Get the backend data of remote data. Fresh cached responses are served directly, stale
+     * ones are revalidated. Other requests are sent to the backend and successful responses are
+     * cached while they are read.
+     *
+     * @param data       The remote data.
+     * @param queryInput The query input.
+     * @param fetcher    Sends the request to the backend.
+     * @return The data.
+     * @throws IOException if the request failed.
+     */
+    public InputStream get(final RemoteData data, final QueryInput queryInput,
+                           final Fetcher fetcher) throws IOException {
+        if (!enabled) {
+            return fetcher.fetch(queryInput).getData();
+        }
+
+        final var key = getKey(data, queryInput);
+        final var cached = getEntry(key);
+        if (cached != null) {
+            final var fresh = openIfFresh(key, cached);
+            if (fresh != null) {
+                return fresh;
+            }
+
+            if (cached.isRevalidatable()) {
+                final var response = fetcher.fetch(withConditions(queryInput, cached));
+                if (response.getCode() == HttpStatus.NOT_MODIFIED.value()) {
+                    response.getData().close();
+                    final var revalidated = openRevalidated(key, cached);
+                    if (revalidated != null) {
+                        return revalidated;
+                    }
+
+                    // Evicted meanwhile, load it again.
+                    return store(key, fetcher.fetch(queryInput));
+                }
+
+                return store(key, response);
+            }
+        }
+
+        return store(key, fetcher.fetch(queryInput));
+    }
+
+    /**
+     * Remove all cached responses.
+     */
+    public synchronized void clear() {
+        for (final var entry : entries.values()) {
+            release(entry);
+        }
+
+        entries.clear();
+        memoryUsed = 0;
+        diskUsed = 0;
+    }
+
+    private InputStream store(final String key, final HttpResponse response) {
+        final var cacheControl = response.getHeader(HttpHeaders.CACHE_CONTROL);
+        if (response.getCode() != HttpStatus.OK.value()
+                || (cacheControl != null && cacheControl.contains("no-store"))) {
+            return response.getData();
+        }
+
+        final var entityTag = response.getHeader(HttpHeaders.ETAG);
+        final var lastModified = response.getHeader(HttpHeaders.LAST_MODIFIED);
+        return new CachingInputStream(response.getData(), memoryThreshold, diskSize, directory,
+                (bytes, file, size) -> new CachedResponse(bytes, file, size, entityTag,
+                        lastModified, System.currentTimeMillis() + timeToLive),
+                entry -> put(key, entry));
+    }
+
+    private synchronized CachedResponse getEntry(final String key) {
+        return entries.get(key);
+    }
+
+    private synchronized InputStream openIfFresh(final String key, final CachedResponse cached) {
+        if (entries.get(key) != cached || !cached.isFresh(System.currentTimeMillis())) {
+            return null;
+        }
+
+        return open(key, cached);
+    }
+
+    private synchronized InputStream openRevalidated(final String key,
+                                                     final CachedResponse cached) {
+        if (entries.get(key) != cached) {
+            return null;
+        }
+
+        cached.refresh(System.currentTimeMillis() + timeToLive);
+        return open(key, cached);
+    }
+
+    private InputStream open(final String key, final CachedResponse cached) {
+        try {
+            return cached.open();
+        } catch (IOException exception) {
+            // The file is gone, forget the entry.
+            remove(key);
+            return null;
+        }
+    }
+
+    private synchronized void put(final String key, final CachedResponse entry) {
+        remove(key);
+        entries.put(key, entry);
+        if (entry.isInMemory()) {
+            memoryUsed += entry.getSize();
+        } else {
+            diskUsed += entry.getSize();
+        }
+
+        final var iterator = entries.values().iterator();
+        while ((memoryUsed > memorySize || diskUsed > diskSize) && iterator.hasNext()) {
+            final var eldest = iterator.next();
+            iterator.remove();
+            account(eldest);
+            release(eldest);
+        }
+    }
+
+    private synchronized void remove(final String key) {
+        final var previous = entries.remove(key);
+        if (previous != null) {
+            account(previous);
+            release(previous);
+        }
+    }
+
+    private void account(final CachedResponse entry) {
+        if (entry.isInMemory()) {
+            memoryUsed -= entry.getSize();
+        } else {
+            diskUsed -= entry.getSize();
+        }
+    }
+
+    private void release(final CachedResponse entry) {
+        try {
+            entry.release();
+        } catch (IOException exception) {
+            if (log.isDebugEnabled()) {
+                log.debug("Failed to delete cached backend data. [file=({})]",
+                        entry.getFile());
+            }
+        }
+    }
+
+    private static QueryInput withConditions(final QueryInput queryInput,
+                                             final CachedResponse cached) {
+        final var query = new QueryInput();
+        if (queryInput != null) {
+            if (queryInput.getHeaders() != null) {
+                query.setHeaders(new HashMap<>(queryInput.getHeaders()));
+            }
+            query.setParams(queryInput.getParams());
+            query.setPathVariables(queryInput.getPathVariables());
+            query.setOptional(queryInput.getOptional());
+        }
+
+        if (cached.getEntityTag() != null) {
+            query.getHeaders().put(HttpHeaders.IF_NONE_MATCH, cached.getEntityTag());
+        }
+        if (cached.getLastModified() != null) {
+            query.getHeaders().put(HttpHeaders.IF_MODIFIED_SINCE, cached.getLastModified());
+        }
+
+        return query;
+    }
+
+    /**
+     * Build the cache key. Identical queries map to the same key regardless of the order of
+     * their entries and the case of header names.
+     *
+     * @param data       The remote data.
+     * @param queryInput The query input.
+     * @return The key.
+     */
+    static String getKey(final RemoteData data, final QueryInput queryInput) {
+        final var key = new StringBuilder()
+                .append(data.getId()).append('\n')
+                .append(data.getAccessUrl());
+        if (queryInput != null) {
+            final var headers = new TreeMap<String, String>();
+            if (queryInput.getHeaders() != null) {
+                queryInput.getHeaders().forEach((name, value) ->
+                        headers.put(name.toLowerCase(Locale.ROOT), value));
+            }
+
+            append(key, "headers", headers);
+            append(key, "params", queryInput.getParams());
+            append(key, "pathVariables", queryInput.getPathVariables());
+            if (queryInput.getOptional() != null) {
+                key.append("\noptional=").append(queryInput.getOptional());
+            }
+        }
+
+        return key.toString();
+    }
+
+    private static void append(final StringBuilder key, final String name,
+                               final Map<String, String> values) {
+        if (values != null && !values.isEmpty()) {
+            key.append('\n').append(name).append('=').append(new TreeMap<>(values));
+        }
+    }
+}
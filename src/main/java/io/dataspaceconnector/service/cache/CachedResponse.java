@@ -0,0 +1,119 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import lombok.Getter;
+
+/**
+ * A backend response kept by the {@link BackendResponseCache}. The data is held either in
+ * memory or in a file.
+ */
+@Getter
+final class CachedResponse {
+
+    /**
+     * The data, if kept in memory.
+     */
+    private final byte[] data;
+
+    /**
+     * The file holding the data, if kept on disk.
+     */
+    private final Path file;
+
+    /**
+     * The size of the data in bytes.
+     */
+    private final long size;
+
+    /**
+     * The entity tag sent by the backend.
+     */
+    private final String entityTag;
+
+    /**
+     * The last modification date sent by the backend.
+     */
+    private final String lastModified;
+
+    /**
+     * Point in time (millis) until which the response may be served without revalidation.
+     */
+    private volatile long expiresAt;
+
+    /**
+     * Constructor for CachedResponse.
+     *
+     * @param bytes    The data if kept in memory, else null.
+     * @param path     The file holding the data if kept on disk, else null.
+     * @param length   The size of the data.
+     * @param eTag     The entity tag. May be null.
+     * @param modified The last modification date. May be null.
+     * @param expiry   Point in time until which the response is fresh.
+     */
+    CachedResponse(final byte[] bytes, final Path path, final long length, final String eTag,
+                   final String modified, final long expiry) {
+        this.data = bytes;
+        this.file = path;
+        this.size = length;
+        this.entityTag = eTag;
+        this.lastModified = modified;
+        this.expiresAt = expiry;
+    }
+
+    boolean isFresh(final long now) {
+        return now < expiresAt;
+    }
+
+    boolean isRevalidatable() {
+        return entityTag != null || lastModified != null;
+    }
+
+    boolean isInMemory() {
+        return data != null;
+    }
+
+    void refresh(final long expiry) {
+        this.expiresAt = expiry;
+    }
+
+    /**
+     * Open a stream on the data.
+     *
+     * @return The data.
+     * @throws IOException if the file cannot be opened.
+     */
+    InputStream open() throws IOException {
+        return data != null ? new ByteArrayInputStream(data) : Files.newInputStream(file);
+    }
+
+    /**
+     * Delete the file holding the data, if any.
+     *
+     * @throws IOException if the file cannot be deleted.
+     */
+    void release() throws IOException {
+        if (file != null) {
+            Files.deleteIfExists(file);
+        }
+    }
+}
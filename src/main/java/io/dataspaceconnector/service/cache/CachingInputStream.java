@@ -0,0 +1,254 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Copies the data of a backend response while it is read. Once the data has been read to the
+ * end, a {@link CachedResponse} is handed to the cache. Data exceeding the in-memory limit is
+ * written to a file, data exceeding the file limit is not cached.
+ */
+@Log4j2
+final class CachingInputStream extends FilterInputStream {
+
+    /**
+     * Creates entries from the copied data.
+     */
+    interface EntryFactory {
+        /**
+         * Create an entry.
+         *
+         * @param data The data if kept in memory, else null.
+         * @param file The file if the data has been written to disk, else null.
+         * @param size The size of the data.
+         * @return The entry.
+         */
+        CachedResponse create(byte[] data, Path file, long size);
+    }
+
+    /**
+     * Maximum number of bytes kept in memory.
+     */
+    private final long memoryLimit;
+
+    /**
+     * Maximum number of bytes written to a file.
+     */
+    private final long fileLimit;
+
+    /**
+     * Directory for files. Null for the default temporary directory.
+     */
+    private final Path directory;
+
+    /**
+     * Creates the entry.
+     */
+    private final EntryFactory factory;
+
+    /**
+     * Receives the entry.
+     */
+    private final Consumer<CachedResponse> target;
+
+    /**
+     * The copy while it is small.
+     */
+    private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+    /**
+     * The file once the copy exceeded the memory limit.
+     */
+    private Path file;
+
+    /**
+     * Stream on the file.
+     */
+    private OutputStream fileStream;
+
+    /**
+     * Number of copied bytes.
+     */
+    private long size;
+
+    /**
+     * Whether the data is still copied.
+     */
+    private boolean copying = true;
+
+    /**
+     * Constructor for CachingInputStream.
+     *
+     * @param data       The backend data.
+     * @param memory     Maximum number of bytes kept in memory.
+     * @param disk       Maximum number of bytes written to a file.
+     * @param path       Directory for files, null for the default temporary directory.
+     * @param create     Creates the entry.
+     * @param onComplete Receives the entry once the data has been read to the end.
+     */
+    CachingInputStream(final InputStream data, final long memory, final long disk,
+                       final Path path, final EntryFactory create,
+                       final Consumer<CachedResponse> onComplete) {
+        super(data);
+        this.memoryLimit = memory;
+        this.fileLimit = disk;
+        this.directory = path;
+        this.factory = create;
+        this.target = onComplete;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final var value = super.read();
+        if (value == -1) {
+            complete();
+        } else {
+            copy(new byte[]{(byte) value}, 0, 1);
+        }
+
+        return value;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        final var count = super.read(b, off, len);
+        if (count == -1) {
+            complete();
+        } else {
+            copy(b, off, count);
+        }
+
+        return count;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        // Skipped bytes would be missing in the copy.
+        abandon();
+        return super.skip(n);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            // Closed before the end, the copy is incomplete.
+            abandon();
+        }
+    }
+
+    private void copy(final byte[] b, final int off, final int len) {
+        if (!copying || len == 0) {
+            return;
+        }
+
+        try {
+            size += len;
+            if (fileStream == null && size > memoryLimit) {
+                if (size > fileLimit) {
+                    abandon();
+                    return;
+                }
+
+                file = directory == null ? Files.createTempFile("backend", ".tmp")
+                        : Files.createTempFile(directory, "backend", ".tmp");
+                fileStream = Files.newOutputStream(file);
+                buffer.writeTo(fileStream);
+                buffer = null;
+            }
+
+            if (fileStream != null) {
+                if (size > fileLimit) {
+                    abandon();
+                    return;
+                }
+
+                fileStream.write(b, off, len);
+            } else {
+                buffer.write(b, off, len);
+            }
+        } catch (IOException exception) {
+            if (log.isDebugEnabled()) {
+                log.debug("Failed to cache backend data. [exception=({})]",
+                        exception.getMessage());
+            }
+            abandon();
+        }
+    }
+
+    private void complete() {
+        if (!copying) {
+            return;
+        }
+
+        copying = false;
+        try {
+            if (fileStream != null) {
+                fileStream.close();
+                target.accept(factory.create(null, file, size));
+            } else {
+                target.accept(factory.create(buffer.toByteArray(), null, size));
+            }
+        } catch (IOException exception) {
+            copying = true;
+            abandon();
+        } finally {
+            buffer = null;
+            fileStream = null;
+            file = null;
+        }
+    }
+
+    private void abandon() {
+        if (!copying) {
+            return;
+        }
+
+        copying = false;
+        buffer = null;
+        try {
+            if (fileStream != null) {
+                fileStream.close();
+            }
+            if (file != null) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException exception) {
+            if (log.isDebugEnabled()) {
+                log.debug("Failed to discard cached backend data. [file=({})]", file);
+            }
+        } finally {
+            fileStream = null;
+            file = null;
+        }
+    }
+}
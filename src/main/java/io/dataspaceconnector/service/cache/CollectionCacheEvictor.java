@@ -0,0 +1,64 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.cache;
+
+import javax.persistence.EntityManagerFactory;
+
+import io.dataspaceconnector.model.artifact.Artifact;
+import io.dataspaceconnector.model.catalog.Catalog;
+import io.dataspaceconnector.model.configuration.Configuration;
+import io.dataspaceconnector.model.contract.Contract;
+import io.dataspaceconnector.model.representation.Representation;
+import io.dataspaceconnector.model.resource.Resource;
+import io.dataspaceconnector.model.rule.ContractRule;
+import io.dataspaceconnector.service.resource.base.EntityChangedEvent;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts the cached relations of the second-level cache once an entity that may be part of a
+ * cached relation has been deleted. Hibernate keeps cached relations up to date when the owning
+ * side changes, but not when an entity referenced by them is soft-deleted. A cached relation
+ * still listing a deleted entity would fail to load, as deleted entities are filtered.
+ */
+@Component
+@RequiredArgsConstructor
+public class CollectionCacheEvictor {
+
+    /**
+     * The entity manager factory holding the second-level cache.
+     */
+    private final @NonNull EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Evicts all cached relations after the deletion has been committed.
+     *
+     * @param event The change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleEntityChange(final EntityChangedEvent event) {
+        final var entity = event.getEntity();
+        if (event.isRemoved() && (entity instanceof Catalog || entity instanceof Resource
+                || entity instanceof Representation || entity instanceof Artifact
+                || entity instanceof Contract || entity instanceof ContractRule
+                || entity instanceof Configuration)) {
+            entityManagerFactory.getCache().unwrap(Cache.class).evictCollectionData();
+        }
+    }
+}
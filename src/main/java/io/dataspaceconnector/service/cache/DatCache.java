@@ -0,0 +1,341 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.cache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.fraunhofer.iais.eis.DynamicAttributeToken;
+import ids.messaging.core.daps.ConnectorMissingCertExtensionException;
+import ids.messaging.core.daps.DapsConnectionException;
+import ids.messaging.core.daps.DapsEmptyResponseException;
+import ids.messaging.core.daps.DapsTokenProvider;
+import io.dataspaceconnector.model.configuration.Configuration;
+import io.dataspaceconnector.service.resource.base.EntityChangedEvent;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the connector's DAT until it expires. The token is refreshed in the background shortly
+ * before it expires, so requests do not wait for the DAPS. If the DAPS is not reachable, the
+ * current token is served until it expires and requests without a valid token do not retry the
+ * DAPS more often than the retry delay allows.
+ */
+@Log4j2
+@Component
+public class DatCache {
+
+    /**
+     * Mapper for reading the token payload.
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * The token provider.
+     */
+    private final @NonNull DapsTokenProvider tokenProvider;
+
+    /**
+     * Whether the token is cached.
+     */
+    private final boolean enabled;
+
+    /**
+     * Time in millis before the expiry at which the token is refreshed.
+     */
+    private final long refreshBefore;
+
+    /**
+     * Time in millis between attempts to reach the DAPS after a failure.
+     */
+    private final long retryDelay;
+
+    /**
+     * Time in millis a token is kept if its expiry cannot be read.
+     */
+    private final long fallbackTtl;
+
+    /**
+     * Refreshes the token in the background.
+     */
+    private final ScheduledExecutorService executor =
+            Executors.newSingleThreadScheduledExecutor(task -> {
+                final var thread = new Thread(task, "DatCache");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * The current token. Null until the first request or after an invalidation.
+     */
+    private volatile CachedToken current;
+
+    /**
+     * Point in time (millis) of the last failed attempt to reach the DAPS.
+     */
+    private volatile long failedAt = Long.MIN_VALUE;
+
+    /**
+     * The scheduled refresh. Guarded by this.
+     */
+    private ScheduledFuture<?> refresh;
+
+    /**
+     * Constructor for DatCache.
+     *
+     * @param provider The token provider.
+     * @param enable   Whether the token is cached.
+     * @param before   Time in millis before the expiry at which the token is refreshed.
+     * @param retry    Time in millis between attempts to reach the DAPS after a failure.
+     * @param ttl      Time in millis a token is kept if its expiry cannot be read.
+     */
+    public DatCache(@NonNull final DapsTokenProvider provider,
+                    @Value("${dat.cache.enabled:true}") final boolean enable,
+                    @Value("${dat.cache.refresh-before:60000}") final long before,
+                    @Value("${dat.cache.retry-delay:10000}") final long retry,
+                    @Value("${dat.cache.fallback-ttl:60000}") final long ttl) {
+        this.tokenProvider = provider;
+        this.enabled = enable;
+        this.refreshBefore = before;
+        this.retryDelay = retry;
+        this.fallbackTtl = ttl;
+    }
+
+    /**
+     * Get the connector's DAT. Does not reach out to the DAPS while a valid token is cached or
+     * the last attempt failed within the retry delay.
+     *
+     * @return The DAT or null if none could be received.
+     */
+    public DynamicAttributeToken getDat() {
+        if (!enabled) {
+            return fetch();
+        }
+
+        final var now = System.currentTimeMillis();
+        final var cached = current;
+        if (cached != null && cached.isValidAt(now)) {
+            return cached.getToken();
+        }
+
+        if (now - failedAt < retryDelay) {
+            return null;
+        }
+
+        return load();
+    }
+
+    /**
+     * Check whether the connector has a DAT. Does not reach out to the DAPS while a valid token
+     * is cached or the last attempt failed within the retry delay.
+     *
+     * @return True if a valid DAT is available.
+     */
+    public boolean hasDat() {
+        if (!enabled) {
+            return fetch() != null;
+        }
+
+        final var now = System.currentTimeMillis();
+        final var cached = current;
+        if (cached != null && cached.isValidAt(now)) {
+            return true;
+        }
+
+        if (now - failedAt < retryDelay) {
+            return false;
+        }
+
+        return load() != null;
+    }
+
+    /**
+     * Drops the token if the connector configuration changed, as the new configuration may use
+     * other keys or another DAPS.
+     *
+     * @param event The change.
+     */
+    @EventListener
+    public void handleEntityChange(final EntityChangedEvent event) {
+        if (event.getEntity() instanceof Configuration) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Drop the current token.
+     */
+    public synchronized void invalidate() {
+        current = null;
+        failedAt = Long.MIN_VALUE;
+        cancelRefresh();
+    }
+
+    /**
+     * Stop refreshing tokens.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private synchronized DynamicAttributeToken load() {
+        // Another thread may have loaded the token or failed to do so while this one waited.
+        final var now = System.currentTimeMillis();
+        final var cached = current;
+        if (cached != null && cached.isValidAt(now)) {
+            return cached.getToken();
+        }
+
+        if (now - failedAt < retryDelay) {
+            return null;
+        }
+
+        final var token = fetch();
+        if (token == null) {
+            failedAt = System.currentTimeMillis();
+            return null;
+        }
+
+        store(token);
+        return token;
+    }
+
+    private synchronized void refreshInBackground() {
+        final var token = fetch();
+        if (token != null) {
+            store(token);
+            return;
+        }
+
+        // Keep serving the current token and try again while it is still valid.
+        final var now = System.currentTimeMillis();
+        failedAt = now;
+        final var cached = current;
+        if (cached != null && cached.isValidAt(now + retryDelay)) {
+            schedule(retryDelay);
+        }
+    }
+
+    private void store(final DynamicAttributeToken token) {
+        final var now = System.currentTimeMillis();
+        final var expiry = readExpiry(token, now);
+        current = new CachedToken(token, expiry);
+        failedAt = Long.MIN_VALUE;
+
+        final var delay = expiry - refreshBefore - now;
+        if (delay > 0) {
+            schedule(delay);
+        } else {
+            // Too short-lived for a refresh ahead of time, the next request after expiry loads.
+            cancelRefresh();
+        }
+    }
+
+    private void schedule(final long delay) {
+        cancelRefresh();
+        if (!executor.isShutdown()) {
+            refresh = executor.schedule(this::refreshInBackground, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void cancelRefresh() {
+        if (refresh != null) {
+            refresh.cancel(false);
+            refresh = null;
+        }
+    }
+
+    private long readExpiry(final DynamicAttributeToken token, final long now) {
+        try {
+            final var parts = token.getTokenValue().split("\\.");
+            final var payload = Base64.getUrlDecoder().decode(parts[1]);
+            final var exp = MAPPER.readTree(new String(payload, StandardCharsets.UTF_8))
+                    .path("exp");
+            if (exp.canConvertToLong()) {
+                return exp.asLong() * 1000;
+            }
+        } catch (IOException | RuntimeException exception) {
+            if (log.isDebugEnabled()) {
+                log.debug("Could not read expiry of DAT. [exception=({})]",
+                        exception.getMessage());
+            }
+        }
+
+        return now + fallbackTtl;
+    }
+
+    private DynamicAttributeToken fetch() {
+        try {
+            return tokenProvider.getDAT();
+        } catch (ConnectorMissingCertExtensionException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Connector certificate is missing aki/ski extensions."
+                        + " [exception=({})]", e.getMessage());
+            }
+        } catch (DapsConnectionException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Connection to DAPS could not be established. "
+                        + "[exception=({})]", e.getMessage());
+            }
+        } catch (DapsEmptyResponseException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Received empty response from DAPS. [exception=({})]", e.getMessage());
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * A DAT and its expiry.
+     */
+    private static final class CachedToken {
+
+        /**
+         * The token.
+         */
+        private final DynamicAttributeToken token;
+
+        /**
+         * Point in time (millis) the token expires at.
+         */
+        private final long expiresAt;
+
+        CachedToken(final DynamicAttributeToken value, final long expiry) {
+            this.token = value;
+            this.expiresAt = expiry;
+        }
+
+        DynamicAttributeToken getToken() {
+            return token;
+        }
+
+        boolean isValidAt(final long time) {
+            return time < expiresAt;
+        }
+    }
+}
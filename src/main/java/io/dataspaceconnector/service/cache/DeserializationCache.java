@@ -0,0 +1,169 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.cache;
+
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+import de.fraunhofer.iais.eis.ContractAgreement;
+import de.fraunhofer.iais.eis.Rule;
+import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.model.agreement.Agreement;
+import io.dataspaceconnector.model.base.Entity;
+import io.dataspaceconnector.model.rule.ContractRule;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches the ids objects deserialized from agreements and contract rules. Entries are bound to
+ * the modification date of the entity, a changed entity is deserialized again and replaces the
+ * previous entry. The returned objects are shared and must not be modified.
+ */
+@Component
+public class DeserializationCache {
+
+    /**
+     * Service for ids deserialization.
+     */
+    private final @NonNull DeserializationService deserializationService;
+
+    /**
+     * The deserialized agreements in access order.
+     */
+    private final Map<UUID, CachedObject<ContractAgreement>> agreements;
+
+    /**
+     * The deserialized rules in access order.
+     */
+    private final Map<UUID, CachedObject<Rule>> rules;
+
+    /**
+     * Constructor for DeserializationCache.
+     *
+     * @param deserializationSvc The deserialization service.
+     * @param size               Maximum number of agreements and of rules kept.
+     */
+    public DeserializationCache(@NonNull final DeserializationService deserializationSvc,
+                                @Value("${deserialization.cache.size:1000}") final int size) {
+        this.deserializationService = deserializationSvc;
+        this.agreements = createCache(size);
+        this.rules = createCache(size);
+    }
+
+    /**
+     * Get the ids contract agreement of an agreement.
+     *
+     * @param agreement The agreement.
+     * @return The ids contract agreement.
+     * @throws IllegalArgumentException If deserialization fails.
+     */
+    public ContractAgreement getContractAgreement(final Agreement agreement)
+            throws IllegalArgumentException {
+        return get(agreements, agreement, agreement.getValue(),
+                deserializationService::getContractAgreement);
+    }
+
+    /**
+     * Get the ids rule of a contract rule.
+     *
+     * @param rule The contract rule.
+     * @return The ids rule.
+     * @throws IllegalArgumentException If deserialization fails.
+     */
+    public Rule getRule(final ContractRule rule) throws IllegalArgumentException {
+        return get(rules, rule, rule.getValue(), deserializationService::getRule);
+    }
+
+    private static <T> T get(final Map<UUID, CachedObject<T>> cache, final Entity entity,
+                             final String value, final Function<String, T> deserializer) {
+        final var entityId = entity.getId();
+        final var modified = entity.getModificationDate();
+        if (entityId == null || modified == null) {
+            // Not persisted, there is nothing to bind the entry to.
+            return deserializer.apply(value);
+        }
+
+        synchronized (cache) {
+            final var cached = cache.get(entityId);
+            if (cached != null && cached.isValidFor(modified)) {
+                return cached.getObject();
+            }
+        }
+
+        // Deserialize outside the lock, concurrent misses at worst parse twice.
+        final var object = deserializer.apply(value);
+        synchronized (cache) {
+            final var cached = cache.get(entityId);
+            if (cached == null || cached.isOlderThan(modified)) {
+                cache.put(entityId, new CachedObject<>(modified, object));
+            }
+        }
+
+        return object;
+    }
+
+    private static <T> Map<UUID, CachedObject<T>> createCache(final int maxSize) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(
+                    final Map.Entry<UUID, CachedObject<T>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * A deserialized object and the modification date of its entity.
+     *
+     * @param <T> The type of the object.
+     */
+    private static final class CachedObject<T> {
+
+        /**
+         * The modification date of the entity the object was deserialized from.
+         */
+        private final ZonedDateTime modificationDate;
+
+        /**
+         * The deserialized object.
+         */
+        private final T object;
+
+        CachedObject(final ZonedDateTime modified, final T value) {
+            this.modificationDate = modified;
+            this.object = value;
+        }
+
+        T getObject() {
+            return object;
+        }
+
+        boolean isValidFor(final ZonedDateTime modified) {
+            return Objects.equals(modificationDate.toInstant(), modified.toInstant());
+        }
+
+        boolean isOlderThan(final ZonedDateTime modified) {
+            return modificationDate.isBefore(modified);
+        }
+    }
+}
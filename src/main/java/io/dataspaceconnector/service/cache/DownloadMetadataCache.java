@@ -0,0 +1,220 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.dataspaceconnector.common.exception.ResourceNotFoundException;
+import io.dataspaceconnector.model.artifact.Artifact;
+import io.dataspaceconnector.model.representation.Representation;
+import io.dataspaceconnector.service.resource.base.EntityChangedEvent;
+import io.dataspaceconnector.service.resource.type.ArtifactService;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Caches the metadata needed for the response headers of artifact downloads. Entries are
+ * loaded on first use and dropped whenever the artifact or a representation changes, so serving
+ * data does not query the artifact and its representations again.
+ */
+@Log4j2
+@Component
+public class DownloadMetadataCache {
+
+    /**
+     * The service managing artifacts.
+     */
+    private final ArtifactService artifactService;
+
+    /**
+     * The metadata in access order.
+     */
+    private final Map<UUID, DownloadMetadata> cache;
+
+    /**
+     * Incremented on every change of an artifact or representation.
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Constructor for DownloadMetadataCache.
+     *
+     * @param service The service managing artifacts.
+     * @param size    Maximum number of artifacts kept.
+     */
+    public DownloadMetadataCache(final ArtifactService service,
+                                 @Value("${download-metadata.cache.size:1000}") final int size) {
+        this.artifactService = service;
+        this.cache = createCache(size);
+    }
+
+    /**
+     * Get the download metadata of an artifact. On a miss, the metadata is loaded and kept.
+     *
+     * @param artifactId The artifact id.
+     * @return The download metadata.
+     * @throws ResourceNotFoundException if the artifact does not exist.
+     */
+    public DownloadMetadata get(final UUID artifactId) {
+        synchronized (cache) {
+            final var cached = cache.get(artifactId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // Load outside the lock. Entries loaded while the artifact or a representation changed
+        // are not kept, as they may describe the previous state.
+        final var currentVersion = version.get();
+        final var metadata = load(artifactId);
+        synchronized (cache) {
+            if (version.get() == currentVersion) {
+                cache.put(artifactId, metadata);
+            }
+        }
+
+        return metadata;
+    }
+
+    /**
+     * Drops the metadata affected by a changed artifact or representation. The change is
+     * handled after its commit, so metadata loaded afterwards reflects the new data.
+     *
+     * @param event The change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleEntityChange(final EntityChangedEvent event) {
+        final var entity = event.getEntity();
+        if (entity instanceof Artifact artifact) {
+            synchronized (cache) {
+                version.incrementAndGet();
+                cache.remove(artifact.getId());
+            }
+        } else if (entity instanceof Representation) {
+            // The media type of any artifact may come from this representation.
+            synchronized (cache) {
+                version.incrementAndGet();
+                cache.clear();
+            }
+        }
+    }
+
+    /**
+     * Remove all metadata.
+     */
+    public void clear() {
+        synchronized (cache) {
+            version.incrementAndGet();
+            cache.clear();
+        }
+    }
+
+    private DownloadMetadata load(final UUID artifactId) {
+        final var artifact = artifactService.get(artifactId);
+        return new DownloadMetadata(getMediaType(artifact), artifact.getByteSize(),
+                artifact.getCheckSum(), artifactId.toString());
+    }
+
+    private static MediaType getMediaType(final Artifact artifact) {
+        // NOTE: Assume that an artifact has only one representation.
+        final var representations = artifact.getRepresentations();
+        if (representations == null || representations.isEmpty()
+                || representations.get(0) == null
+                || representations.get(0).getMediaType() == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("No representation found. Return data as stream.");
+            }
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+
+        try {
+            return MediaType.parseMediaType(representations.get(0).getMediaType());
+        } catch (InvalidMediaTypeException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Could not resolve media type. Return data as stream. "
+                        + "[exception=({})]", e.getMessage());
+            }
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+
+    private static Map<UUID, DownloadMetadata> createCache(final int maxSize) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<UUID, DownloadMetadata> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * The metadata sent along with the data of an artifact.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class DownloadMetadata {
+
+        /**
+         * The media type of the data.
+         */
+        private final @NonNull MediaType mediaType;
+
+        /**
+         * The size of the data in bytes.
+         */
+        private final long byteSize;
+
+        /**
+         * The checksum of the data.
+         */
+        private final long checkSum;
+
+        /**
+         * The filename offered to the client.
+         */
+        private final @NonNull String filename;
+
+        /**
+         * Get the strong entity tag of the data.
+         *
+         * @return The quoted entity tag.
+         */
+        public String getEntityTag() {
+            return "\"" + Long.toHexString(checkSum) + "-" + Long.toHexString(byteSize) + "\"";
+        }
+
+        /**
+         * Get the content disposition header value.
+         *
+         * @return The content disposition.
+         */
+        public String getContentDisposition() {
+            return "attachment;filename=" + filename;
+        }
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZonedDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import io.dataspaceconnector.model.artifact.Artifact;
+import io.dataspaceconnector.controller.resource.view.util.SelfLinkHelper;
+import io.dataspaceconnector.model.base.Entity;
+import io.dataspaceconnector.model.catalog.Catalog;
+import io.dataspaceconnector.model.contract.Contract;
+import io.dataspaceconnector.model.representation.Representation;
+import io.dataspaceconnector.model.resource.OfferedResource;
+import io.dataspaceconnector.model.rule.ContractRule;
+import io.dataspaceconnector.service.resource.base.EntityChangedEvent;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Caches the ids descriptions built from catalogs, resources, representations, artifacts and
+ * contracts together with their serialization. Entries are keyed by base URI, entity and depth,
+ * as descriptions contain self-links, and bound to the modification date of the entity. As descriptions contain child entities, any change of
+ * a described entity invalidates all entries. The returned objects are shared and must not be
+ * modified.
+ */
+@Component
+public class IdsDescriptionCache {
+
+    /**
+     * Property of a description response header holding the entity tag of the payload.
+     */
+    public static final String ENTITY_TAG_PROPERTY = "https://w3id.org/dsc#entityTag";
+
+    /**
+     * The descriptions in access order.
+     */
+    private final Map<String, CachedDescription<?>> cache;
+
+    /**
+     * Incremented on every change of an entity that is part of a description.
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Resolves the base URI the self-links are built with.
+     */
+    private final SelfLinkHelper selfLinkHelper;
+
+    /**
+     * Constructor for IdsDescriptionCache.
+     *
+     * @param linkHelper Resolves the base URI of self-links.
+     * @param size       Maximum number of descriptions kept.
+     */
+    public IdsDescriptionCache(@Qualifier("utilSelfLinkHelper") final SelfLinkHelper linkHelper,
+                               @Value("${description.cache.size:1000}") final int size) {
+        this.selfLinkHelper = linkHelper;
+        this.cache = createCache(size);
+    }
+
+    /**
+     * Builds an ids object with its serialization.
+     *
+     * @param <T> The type of the ids object.
+     */
+    @FunctionalInterface
+    public interface Builder<T> {
+        /**
+         * Build the ids object.
+         *
+         * @return The ids object.
+         */
+        T build();
+    }
+
+    /**
+     * Get the description of an entity. On a miss, the description is built and kept.
+     *
+     * @param <T>        The type of the ids object.
+     * @param entity     The entity.
+     * @param depth      The depth the description is built with.
+     * @param builder    Builds the ids object.
+     * @param serializer Serializes the ids object, applied once on first use.
+     * @return The description.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CachedDescription<T> get(final Entity entity, final int depth,
+                                        final Builder<T> builder,
+                                        final Function<T, String> serializer) {
+        final var entityId = entity.getId();
+        final var modified = entity.getModificationDate();
+        if (entityId == null || modified == null) {
+            // Not persisted, there is nothing to bind the entry to.
+            return new CachedDescription<>(build(builder), serializer, modified, 0);
+        }
+
+        final var key = selfLinkHelper.getBaseUri() + " " + entityId + ":" + depth;
+        final var currentVersion = version.get();
+        synchronized (cache) {
+            final var cached = cache.get(key);
+            if (cached != null && cached.isValidFor(modified, currentVersion)) {
+                return (CachedDescription<T>) cached;
+            }
+        }
+
+        // Build outside the lock, concurrent misses at worst build twice. Changes during the
+        // build leave an entry with an outdated version.
+        final var description = new CachedDescription<>(build(builder), serializer, modified,
+                currentVersion);
+        synchronized (cache) {
+            cache.put(key, description);
+        }
+
+        return description;
+    }
+
+    /**
+     * Invalidates all descriptions if the changed entity is part of a description. The change
+     * is handled after its commit, so descriptions built afterwards contain the new data.
+     *
+     * @param event The change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleEntityChange(final EntityChangedEvent event) {
+        final var entity = event.getEntity();
+        if (entity instanceof Catalog || entity instanceof OfferedResource
+                || entity instanceof Representation || entity instanceof Artifact
+                || entity instanceof Contract || entity instanceof ContractRule) {
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * Remove all descriptions.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    private static <T> T build(final Builder<T> builder) {
+        return Objects.requireNonNull(builder.build());
+    }
+
+    private static Map<String, CachedDescription<?>> createCache(final int maxSize) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(
+                    final Map.Entry<String, CachedDescription<?>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * An ids description with its serialization and entity tag.
+     *
+     * @param <T> The type of the ids object.
+     */
+    public static final class CachedDescription<T> {
+
+        /**
+         * The ids object.
+         */
+        private final T object;
+
+        /**
+         * Serializes the ids object.
+         */
+        private final Function<T, String> serializer;
+
+        /**
+         * The modification date of the entity the description was built from.
+         */
+        private final ZonedDateTime modificationDate;
+
+        /**
+         * The change version the description was built at.
+         */
+        private final long version;
+
+        /**
+         * The serialized ids object. Null until first requested.
+         */
+        private String rdf;
+
+        /**
+         * The strong entity tag of the serialization. Null until first requested.
+         */
+        private String entityTag;
+
+        CachedDescription(final T value, final Function<T, String> toRdf,
+                          final ZonedDateTime modified, final long buildVersion) {
+            this.object = value;
+            this.serializer = toRdf;
+            this.modificationDate = modified;
+            this.version = buildVersion;
+        }
+
+        /**
+         * Create an uncached description of an already serialized object.
+         *
+         * @param rdf The rdf string.
+         * @return The description.
+         */
+        public static CachedDescription<String> of(final String rdf) {
+            return new CachedDescription<>(rdf, Function.identity(), null, 0);
+        }
+
+        /**
+         * Get the ids object.
+         *
+         * @return The ids object.
+         */
+        public T getObject() {
+            return object;
+        }
+
+        /**
+         * Get the serialized ids object.
+         *
+         * @return The ids object as rdf string.
+         */
+        public synchronized String getRdf() {
+            if (rdf == null) {
+                rdf = serializer.apply(object);
+            }
+
+            return rdf;
+        }
+
+        /**
+         * Get the strong entity tag of the serialization. Equal serializations have equal tags.
+         *
+         * @return The quoted entity tag.
+         */
+        public synchronized String getEntityTag() {
+            if (entityTag == null) {
+                entityTag = "\"" + hash(getRdf()) + "\"";
+            }
+
+            return entityTag;
+        }
+
+        boolean isValidFor(final ZonedDateTime modified, final long currentVersion) {
+            return version == currentVersion
+                    && Objects.equals(modificationDate.toInstant(), modified.toInstant());
+        }
+
+        private static String hash(final String value) {
+            try {
+                final var digest = MessageDigest.getInstance("SHA-256");
+                return HexFormat.of().formatHex(
+                        digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+            } catch (NoSuchAlgorithmException exception) {
+                // Every Java platform has to support SHA-256.
+                throw new IllegalStateException(exception);
+            }
+        }
+    }
+}
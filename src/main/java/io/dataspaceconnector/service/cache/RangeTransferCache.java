@@ -0,0 +1,268 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.cache;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+
+/**
+ * Keeps the data of artifacts transferred in byte ranges on disk. The data is retrieved once
+ * for the first range, further ranges are read from this copy. So they neither access the data
+ * again nor mix versions of data changing during the transfer. Transfers are closed after their
+ * last range or expire after a time without requests. Open transfers are never removed for new
+ * ones, callers check whether the cache is full before opening a transfer.
+ */
+@Log4j2
+@Component
+public class RangeTransferCache {
+
+    /**
+     * The data of a transfer.
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Transfer {
+
+        /**
+         * The id of the transfer.
+         */
+        private final UUID id;
+
+        /**
+         * The connector requesting the data.
+         */
+        private final URI issuer;
+
+        /**
+         * The requested artifact.
+         */
+        private final URI artifact;
+
+        /**
+         * The file holding the data.
+         */
+        private final Path file;
+
+        /**
+         * The size of the data.
+         */
+        private final long size;
+
+        /**
+         * The CRC32C checksum of the data.
+         */
+        private final long checkSum;
+
+        /**
+         * The date in millis at which the transfer expires.
+         */
+        @Getter(AccessLevel.NONE)
+        private long expiresAt;
+    }
+
+    /**
+     * Time in millis after which a transfer without requests expires.
+     */
+    private final long timeout;
+
+    /**
+     * Maximum number of open transfers.
+     */
+    private final int maxTransfers;
+
+    /**
+     * The open transfers.
+     */
+    private final Map<UUID, Transfer> transfers = new HashMap<>();
+
+    /**
+     * Constructor for RangeTransferCache.
+     *
+     * @param transferTimeout Time in millis after which a transfer without requests expires.
+     * @param maxOpen         Maximum number of open transfers.
+     */
+    public RangeTransferCache(
+            @Value("${artifact.transfer.timeout:600000}") final long transferTimeout,
+            @Value("${artifact.transfer.max-open:100}") final int maxOpen) {
+        this.timeout = transferTimeout;
+        this.maxTransfers = Math.max(1, maxOpen);
+    }
+
+    /**
+     * Start a transfer by copying the data to disk. The data stream is closed afterwards.
+     *
+     * @param issuer   The connector requesting the data.
+     * @param artifact The requested artifact.
+     * @param data     The data.
+     * @return The transfer.
+     * @throws IOException if the data could not be copied.
+     */
+    public Transfer open(final URI issuer, final URI artifact, final InputStream data)
+            throws IOException {
+        final var file = Files.createTempFile("transfer", ".tmp");
+        final var checkSum = new CRC32C();
+        final long size;
+        try (var input = new CheckedInputStream(data, checkSum)) {
+            size = Files.copy(input, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException exception) {
+            delete(file);
+            throw exception;
+        }
+
+        final var transfer = new Transfer(UUID.randomUUID(), issuer, artifact, file, size,
+                checkSum.getValue());
+        put(transfer);
+        return transfer;
+    }
+
+    /**
+     * Check whether the maximum number of transfers is open. Expired transfers are removed
+     * first. Concurrent callers may exceed the maximum by the number of transfers they open.
+     *
+     * @return True if no further transfer should be opened.
+     */
+    public synchronized boolean isFull() {
+        removeExpired(System.currentTimeMillis());
+        return transfers.size() >= maxTransfers;
+    }
+
+    /**
+     * Get an open transfer and extend its expiry.
+     *
+     * @param transferId The id of the transfer.
+     * @param issuer     The connector requesting the data.
+     * @param artifact   The requested artifact.
+     * @return The transfer or null, if it is unknown, expired or belongs to another connector or
+     *         artifact.
+     */
+    public synchronized Transfer get(final UUID transferId, final URI issuer,
+                                     final URI artifact) {
+        final var now = System.currentTimeMillis();
+        removeExpired(now);
+
+        final var transfer = transfers.get(transferId);
+        if (transfer == null || !Objects.equals(transfer.issuer, issuer)
+                || !Objects.equals(transfer.artifact, artifact)) {
+            return null;
+        }
+
+        transfer.expiresAt = now + timeout;
+        return transfer;
+    }
+
+    /**
+     * Read a byte range of a transfer's data. The range is shorter than requested if the data
+     * ends before.
+     *
+     * @param transfer The transfer.
+     * @param start    Offset of the first byte.
+     * @param length   Maximum number of bytes.
+     * @return The bytes of the range.
+     * @throws IOException if the data cannot be read.
+     */
+    public byte[] read(final Transfer transfer, final long start, final int length)
+            throws IOException {
+        if (start >= transfer.size) {
+            return new byte[0];
+        }
+
+        final var buffer = ByteBuffer.allocate((int) Math.min(length, transfer.size - start));
+        try (var channel = FileChannel.open(transfer.file, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, start + buffer.position()) < 0) {
+                    break;
+                }
+            }
+        }
+
+        return buffer.hasRemaining()
+                ? Arrays.copyOf(buffer.array(), buffer.position()) : buffer.array();
+    }
+
+    /**
+     * End a transfer and remove its data.
+     *
+     * @param transfer The transfer.
+     */
+    public synchronized void close(final Transfer transfer) {
+        if (transfers.remove(transfer.id, transfer)) {
+            delete(transfer.file);
+        }
+    }
+
+    /**
+     * End all transfers and remove their data.
+     */
+    @PreDestroy
+    public synchronized void clear() {
+        for (final var transfer : transfers.values()) {
+            delete(transfer.file);
+        }
+
+        transfers.clear();
+    }
+
+    private synchronized void put(final Transfer transfer) {
+        final var now = System.currentTimeMillis();
+        removeExpired(now);
+
+        transfer.expiresAt = now + timeout;
+        transfers.put(transfer.id, transfer);
+    }
+
+    private void removeExpired(final long now) {
+        final var iterator = transfers.values().iterator();
+        while (iterator.hasNext()) {
+            final var transfer = iterator.next();
+            if (transfer.expiresAt <= now) {
+                iterator.remove();
+                delete(transfer.file);
+            }
+        }
+    }
+
+    private static void delete(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException exception) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to delete transferred data. [file=({})]", file);
+            }
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.cache;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PreDestroy;
+
+import io.dataspaceconnector.common.ids.ConnectorService;
+import io.dataspaceconnector.common.ids.mapping.RdfConverter;
+import io.dataspaceconnector.model.artifact.Artifact;
+import io.dataspaceconnector.model.catalog.Catalog;
+import io.dataspaceconnector.model.configuration.Configuration;
+import io.dataspaceconnector.model.contract.Contract;
+import io.dataspaceconnector.model.representation.Representation;
+import io.dataspaceconnector.model.resource.OfferedResource;
+import io.dataspaceconnector.model.rule.ContractRule;
+import io.dataspaceconnector.service.resource.base.EntityChangedEvent;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the serialized self-description with all offered resources. The first request builds
+ * it, later requests are served the kept snapshot. Once an entity that is part of the
+ * self-description changes or the snapshot exceeds its maximum age, the snapshot is still
+ * served while a new one is built in the background.
+ */
+@Log4j2
+@Component
+public class SelfDescriptionCache {
+
+    /**
+     * Service for the current connector configuration.
+     */
+    private final @NonNull ConnectorService connectorService;
+
+    /**
+     * Whether the self-description is cached.
+     */
+    private final boolean enabled;
+
+    /**
+     * Time in millis after which a snapshot is rebuilt even without changes.
+     */
+    private final long maxAge;
+
+    /**
+     * Builds snapshots in the background.
+     */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(task -> {
+        final var thread = new Thread(task, "SelfDescriptionCache");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Incremented on every change of an entity that is part of the self-description.
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Whether a snapshot is being built in the background.
+     */
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    /**
+     * The current snapshot. Null until the first request.
+     */
+    private volatile Snapshot snapshot;
+
+    /**
+     * Constructor for SelfDescriptionCache.
+     *
+     * @param connectorSvc The connector service.
+     * @param enable       Whether the self-description is cached.
+     * @param age          Time in millis after which a snapshot is rebuilt.
+     */
+    public SelfDescriptionCache(
+            @NonNull final ConnectorService connectorSvc,
+            @Value("${self-description.cache.enabled:true}") final boolean enable,
+            @Value("${self-description.cache.max-age:60000}") final long age) {
+        this.connectorService = connectorSvc;
+        this.enabled = enable;
+        this.maxAge = age;
+    }
+
+    /**
+     * Get the self-description with all offered resources as JSON-LD.
+     *
+     * @return The self-description.
+     * @throws io.dataspaceconnector.common.exception.RdfBuilderException if the connector
+     *                                                                    cannot be serialized.
+     */
+    public String getSelfDescription() {
+        if (!enabled) {
+            return build().getRdf();
+        }
+
+        final var current = snapshot;
+        if (current == null) {
+            return buildInitial().getRdf();
+        }
+
+        if (current.isStale(version.get(), System.currentTimeMillis(), maxAge)) {
+            revalidate();
+        }
+
+        return current.getRdf();
+    }
+
+    /**
+     * Marks the snapshot as stale if the changed entity is part of the self-description. The
+     * change is handled after its commit, so a rebuild started afterwards sees the new data.
+     *
+     * @param event The change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleEntityChange(final EntityChangedEvent event) {
+        final var entity = event.getEntity();
+        if (entity instanceof Catalog || entity instanceof OfferedResource
+                || entity instanceof Representation || entity instanceof Artifact
+                || entity instanceof Contract || entity instanceof ContractRule
+                || entity instanceof Configuration) {
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * Stop building snapshots.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private synchronized Snapshot buildInitial() {
+        if (snapshot == null) {
+            snapshot = build();
+        }
+
+        return snapshot;
+    }
+
+    private void revalidate() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    snapshot = build();
+                } catch (RuntimeException exception) {
+                    // Keep serving the previous snapshot, the next request tries again.
+                    if (log.isWarnEnabled()) {
+                        log.warn("Failed to rebuild self-description. [exception=({})]",
+                                exception.getMessage());
+                    }
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        } catch (RuntimeException exception) {
+            rebuilding.set(false);
+            throw exception;
+        }
+    }
+
+    private Snapshot build() {
+        // Read the version first, changes during the build mark the snapshot as stale.
+        final var buildVersion = version.get();
+        final var connector = connectorService.getConnectorWithOfferedResources();
+        return new Snapshot(RdfConverter.toRdf(connector), buildVersion,
+                System.currentTimeMillis());
+    }
+
+    /**
+     * A serialized self-description.
+     */
+    private static final class Snapshot {
+
+        /**
+         * The self-description as JSON-LD.
+         */
+        private final String rdf;
+
+        /**
+         * The change version the snapshot was built at.
+         */
+        private final long version;
+
+        /**
+         * Point in time (millis) the snapshot was built at.
+         */
+        private final long createdAt;
+
+        Snapshot(final String value, final long buildVersion, final long created) {
+            this.rdf = value;
+            this.version = buildVersion;
+            this.createdAt = created;
+        }
+
+        String getRdf() {
+            return rdf;
+        }
+
+        boolean isStale(final long currentVersion, final long now, final long age) {
+            return version != currentVersion || now - createdAt > age;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import de.fraunhofer.iais.eis.DynamicAttributeToken;
+import ids.messaging.core.daps.ClaimsException;
+import ids.messaging.core.daps.DapsValidator;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.NonNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches the verified claims of incoming DATs by the hash of the token. Consumers send the same
+ * token with every message during its lifetime, so the signature is verified once per token.
+ * Entries are kept until the token expires, tokens without expiry are not cached. Hits and
+ * misses are published as the meter {@code dsc.claims.cache.requests}.
+ */
+@Component
+public class VerifiedClaimsCache {
+
+    /**
+     * Service for validating DATs.
+     */
+    private final @NonNull DapsValidator dapsValidator;
+
+    /**
+     * Whether verified claims are cached.
+     */
+    private final boolean enabled;
+
+    /**
+     * The verified claims by token hash in access order.
+     */
+    private final Map<String, CachedClaims> cache;
+
+    /**
+     * Number of requests served from the cache.
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * Number of requests that needed a verification.
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructor for VerifiedClaimsCache.
+     *
+     * @param validator The DAT validator.
+     * @param registry  Registry for the cache metrics, if available.
+     * @param enable    Whether verified claims are cached.
+     * @param size      Maximum number of tokens kept.
+     */
+    public VerifiedClaimsCache(@NonNull final DapsValidator validator,
+                               final ObjectProvider<MeterRegistry> registry,
+                               @Value("${claims.cache.enabled:true}") final boolean enable,
+                               @Value("${claims.cache.size:1000}") final int size) {
+        this.dapsValidator = validator;
+        this.enabled = enable;
+        this.cache = createCache(size);
+        registry.ifAvailable(this::registerMetrics);
+    }
+
+    /**
+     * Get the verified claims of a DAT.
+     *
+     * @param token The DAT.
+     * @return The verified claims.
+     * @throws ClaimsException If the token could not be verified.
+     */
+    public Jws<Claims> getClaims(final DynamicAttributeToken token) throws ClaimsException {
+        if (!enabled || token == null || token.getTokenValue() == null) {
+            return dapsValidator.getClaims(token);
+        }
+
+        final var key = hash(token.getTokenValue());
+        final var now = System.currentTimeMillis();
+        synchronized (cache) {
+            final var cached = cache.get(key);
+            if (cached != null) {
+                if (cached.isValidAt(now)) {
+                    hits.increment();
+                    return cached.getClaims();
+                }
+
+                cache.remove(key);
+            }
+        }
+
+        // Verify outside the lock, concurrent misses at worst verify twice.
+        misses.increment();
+        final var claims = dapsValidator.getClaims(token);
+        final var expiration = claims.getBody().getExpiration();
+        if (expiration != null && expiration.getTime() > now) {
+            synchronized (cache) {
+                cache.put(key, new CachedClaims(claims, expiration.getTime()));
+            }
+        }
+
+        return claims;
+    }
+
+    /**
+     * Get the number of requests served from the cache.
+     *
+     * @return The number of hits.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of requests that needed a verification.
+     *
+     * @return The number of misses.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private void registerMetrics(final MeterRegistry registry) {
+        FunctionCounter.builder("dsc.claims.cache.requests", hits, LongAdder::sum)
+                .description("Verifications of incoming DATs served from the cache")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("dsc.claims.cache.requests", misses, LongAdder::sum)
+                .description("Verifications of incoming DATs served from the cache")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("dsc.claims.cache.size", cache, map -> {
+            synchronized (map) {
+                return map.size();
+            }
+        }).description("Number of verified DATs in the cache").register(registry);
+    }
+
+    private static String hash(final String value) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException exception) {
+            // Every Java platform has to support SHA-256.
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static Map<String, CachedClaims> createCache(final int maxSize) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CachedClaims> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Verified claims and the expiry of their token.
+     */
+    private static final class CachedClaims {
+
+        /**
+         * The verified claims.
+         */
+        private final Jws<Claims> claims;
+
+        /**
+         * Point in time (millis) the token expires at.
+         */
+        private final long expiresAt;
+
+        CachedClaims(final Jws<Claims> value, final long expiry) {
+            this.claims = value;
+            this.expiresAt = expiry;
+        }
+
+        Jws<Claims> getClaims() {
+            return claims;
+        }
+
+        boolean isValidAt(final long time) {
+            return time < expiresAt;
+        }
+    }
+}
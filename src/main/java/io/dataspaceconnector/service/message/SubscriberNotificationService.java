@@ -54,6 +54,9 @@ import org.springframework.stereotype.Service;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -197,10 +200,11 @@ public class SubscriberNotificationService {
 
         // Only send data if entity is of type artifact.
         if (!recipientsWithData.isEmpty()) {
-            if (entity instanceof Artifact) {
-                sendNotification(recipientsWithData, notification, retrieveDataByArtifact(entity));
-            } else {
-                sendNotification(recipientsWithData, notification, InputStream.nullInputStream());
+            final var data = retrieveDataByArtifact(entity);
+            try {
+                sendNotification(recipientsWithData, notification, data);
+            } finally {
+                deleteSpooledData(data);
             }
         }
     }
@@ -298,45 +302,60 @@ public class SubscriberNotificationService {
     }
 
     /**
-     * Retrieve data if the entity is of type {@link Artifact}.
+     * Retrieve data if the entity is of type {@link Artifact}. The data is spooled to a temporary
+     * file, as it is sent to every recipient.
      *
      * @param entity The database entity.
-     * @return Data as input stream.
+     * @return The file holding the data or null if there is no data.
      */
-    private InputStream retrieveDataByArtifact(final Entity entity) {
+    private Path retrieveDataByArtifact(final Entity entity) {
         if (entity instanceof Artifact) {
             final var id = entity.getId();
-            try {
-                return artifactSvc.getData(accessVerifier, dataReceiver, id, new QueryInput(),
-                        null);
+            try (var data = artifactSvc.getData(accessVerifier, dataReceiver, id,
+                    new QueryInput(), null)) {
+                if (data != null) {
+                    final var file = Files.createTempFile("notification", ".tmp");
+                    try {
+                        Files.copy(data, file, StandardCopyOption.REPLACE_EXISTING);
+                    } catch (IOException exception) {
+                        Files.deleteIfExists(file);
+                        throw exception;
+                    }
+
+                    return file;
+                }
             } catch (IOException exception) {
                 if (log.isDebugEnabled()) {
                     log.debug("Failed to retrieve data. [exception=({})]", exception.getMessage());
                 }
             }
         }
-        return InputStream.nullInputStream();
+        return null;
     }
 
-    private void sendNotification(final List<URI> recipients,
-                                  final Map<String, String> notification, final InputStream data) {
-        for (final var recipient : recipients) {
+    private void deleteSpooledData(final Path data) {
+        if (data != null) {
             try {
-                InputStream dataCopy;
-                if (data == null) {
-                    dataCopy = InputStream.nullInputStream();
-                } else {
-                    // Reset the input stream to first position before each read.
-                    if (0 <= data.available()) {
-                        data.reset();
-                    }
-                    dataCopy = data;
+                Files.deleteIfExists(data);
+            } catch (IOException exception) {
+                if (log.isWarnEnabled()) {
+                    log.warn("Failed to delete spooled data. [file=({})]", data);
                 }
+            }
+        }
+    }
 
+    private void sendNotification(final List<URI> recipients,
+                                  final Map<String, String> notification, final Path data) {
+        for (final var recipient : recipients) {
+            // Every recipient reads the data from the start.
+            try (var dataCopy = data == null
+                    ? InputStream.nullInputStream() : Files.newInputStream(data)) {
                 if (apiReferenceHelper.isRouteReference(recipient.toURL())) {
                     sendNotificationViaCamel(recipient, notification, dataCopy);
                 } else {
-                    sendNotificationViaHttp(recipient, notification, dataCopy);
+                    final var length = data == null ? 0 : Files.size(data);
+                    sendNotificationViaHttp(recipient, notification, dataCopy, length);
                 }
             } catch (IOException exception) {
                 if (log.isWarnEnabled()) {
@@ -353,7 +372,7 @@ public class SubscriberNotificationService {
         try {
             final var queryInput = new QueryInput();
             queryInput.setHeaders(notification);
-            routeDataDispatcher.send(recipient, data.readAllBytes(), queryInput);
+            routeDataDispatcher.send(recipient, data, queryInput);
         } catch (DataDispatchException | IOException exception) {
             if (log.isWarnEnabled()) {
                 log.warn("Could not notify subscriber. [url=({}), exception=({})]",
@@ -364,11 +383,11 @@ public class SubscriberNotificationService {
 
     private void sendNotificationViaHttp(final URI recipient,
                                          final Map<String, String> notification,
-                                         final InputStream data) {
+                                         final InputStream data, final long length) {
         final var args = new HttpService.HttpArgs();
         args.setHeaders(notification);
         try {
-            httpService.post(recipient.toURL(), args, data);
+            httpService.post(recipient.toURL(), args, data, length);
         } catch (IOException exception) {
             if (log.isWarnEnabled()) {
                 log.warn("Could not notify subscriber. [url=({})]", recipient);
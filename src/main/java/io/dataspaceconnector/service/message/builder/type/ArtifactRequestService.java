@@ -30,6 +30,7 @@ import io.dataspaceconnector.common.exception.UnexpectedResponseException;
 import io.dataspaceconnector.common.ids.DeserializationService;
 import io.dataspaceconnector.common.ids.message.ClearingHouseService;
 import io.dataspaceconnector.common.ids.message.MessageUtils;
+import io.dataspaceconnector.common.net.ByteRange;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.util.Utils;
 import io.dataspaceconnector.model.message.ArtifactRequestMessageDesc;
@@ -92,6 +93,10 @@ public final class ArtifactRequestService
                 ._transferContract_(contractId)
                 .build();
 
+        if (desc.getRange() != null) {
+            desc.getRange().addTo(message);
+        }
+
         // Log outgoing ArtifactRequestMessages in ClearingHouse
         // Note: Message might not have been sent.
         clearingHouseService.logIdsMessage(message);
@@ -136,6 +141,27 @@ public final class ArtifactRequestService
     public Map<String, String> sendMessage(final URI recipient, final URI elementId,
                                            final URI agreementId, final QueryInput queryInput)
             throws MessageException, MessageResponseException, UnexpectedResponseException {
+        return sendMessage(recipient, elementId, agreementId, queryInput, null);
+    }
+
+    /**
+     * Send artifact request message for a byte range of the data and then validate the
+     * response.
+     *
+     * @param recipient   The recipient.
+     * @param elementId   The requested artifact.
+     * @param agreementId The transfer contract.
+     * @param queryInput  The query input.
+     * @param range       The requested byte range. Null for all data.
+     * @return The response map.
+     * @throws MessageException            if message handling failed.
+     * @throws MessageResponseException    if the response could not be processed.
+     * @throws UnexpectedResponseException if the response is not as expected.
+     */
+    public Map<String, String> sendMessage(final URI recipient, final URI elementId,
+                                           final URI agreementId, final QueryInput queryInput,
+                                           final ByteRange range)
+            throws MessageException, MessageResponseException, UnexpectedResponseException {
         String payload = "";
         if (queryInput != null) {
             try {
@@ -149,6 +175,7 @@ public final class ArtifactRequestService
         }
 
         final var desc = new ArtifactRequestMessageDesc(recipient, elementId, agreementId);
+        desc.setRange(range);
         final var response = send(desc, payload);
 
         try {
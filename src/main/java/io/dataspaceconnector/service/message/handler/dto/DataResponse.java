@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.message.handler.dto;
+
+import de.fraunhofer.iais.eis.Message;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import org.springframework.util.Base64Utils;
+
+/**
+ * Response carrying artifact data as binary payload. For transports that only support textual
+ * payloads, the body is the Base64 encoded data.
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class DataResponse extends Response {
+
+    /**
+     * Property of artifact request and response headers stating that the payload is transferred
+     * as binary instead of Base64 encoded.
+     */
+    public static final String BINARY_PAYLOAD_PROPERTY = "https://w3id.org/dsc#binaryPayload";
+
+    /**
+     * The data.
+     */
+    private final byte[] data;
+
+    /**
+     * Constructor for DataResponse.
+     *
+     * @param header The header.
+     * @param payload The data.
+     */
+    public DataResponse(final @NonNull Message header, final @NonNull byte[] payload) {
+        super(header, "");
+        this.data = payload;
+    }
+
+    /**
+     * Get the data Base64 encoded.
+     *
+     * @return The encoded data.
+     */
+    @Override
+    public String getBody() {
+        return Base64Utils.encodeToString(data);
+    }
+
+    /**
+     * Check whether a header states that the payload is transferred as binary.
+     *
+     * @param header The header.
+     * @return True if the header contains the {@link #BINARY_PAYLOAD_PROPERTY}.
+     */
+    public static boolean isBinaryPayload(final Message header) {
+        final var properties = header.getProperties();
+        return properties != null && properties.containsKey(BINARY_PAYLOAD_PROPERTY);
+    }
+}
@@ -17,13 +17,17 @@ package io.dataspaceconnector.service.message.handler.processor;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import de.fraunhofer.iais.eis.ArtifactRequestMessageImpl;
+import de.fraunhofer.iais.eis.Message;
 import ids.messaging.handler.message.MessagePayload;
 import io.dataspaceconnector.common.exception.InvalidInputException;
 import io.dataspaceconnector.common.ids.message.MessageUtils;
+import io.dataspaceconnector.common.net.ByteRange;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.model.message.ArtifactResponseMessageDesc;
 import io.dataspaceconnector.service.EntityResolver;
+import io.dataspaceconnector.service.cache.RangeTransferCache;
 import io.dataspaceconnector.service.message.builder.type.ArtifactResponseService;
+import io.dataspaceconnector.service.message.handler.dto.DataResponse;
 import io.dataspaceconnector.service.message.handler.dto.Response;
 import io.dataspaceconnector.service.message.handler.dto.RouteMsg;
 import io.dataspaceconnector.service.message.handler.processor.base.IdsProcessor;
@@ -35,6 +39,10 @@ import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Base64Utils;
 
+import java.io.IOException;
+import java.net.URI;
+import java.util.zip.CRC32C;
+
 /**
  * Fetches the data of an artifact as the response to an ArtifactRequestMessage.
  */
@@ -54,15 +62,27 @@ class DataRequestProcessor extends IdsProcessor<
      */
     private final @NonNull EntityResolver entityResolver;
 
+    /**
+     * Keeps the data of transfers in byte ranges.
+     */
+    private final @NonNull RangeTransferCache transferCache;
+
     /**
      * Fetches the data of the requested artifact as the response payload and creates an
      * ArtifactResponseMessage as the response header.
      *
+     * If the request's header asks for a byte range, only this range is returned. The data is
+     * retrieved once for the first range of a transfer, further ranges are read from the
+     * transfer, which is closed after its last range. While too many transfers are open, new
+     * requests receive all data at once. The response header names the transfer and holds the checksums of the range and
+     * of all data. If the request states that it accepts binary payloads, the data is not Base64
+     * encoded by the transport.
+     *
      * @param msg the incoming message.
      * @return a Response object with an ArtifactResponseMessage as header and the data as payload.
-     * @throws Exception if the {@link QueryInput} given in the request's payload is invalid or
-     *                   there is an error fetching the data or an error occurs building the
-     *                   response.
+     * @throws Exception if the {@link QueryInput} given in the request's payload or the byte
+     *                   range is invalid or there is an error fetching the data or an error
+     *                   occurs building the response.
      */
     @Override
     protected Response processInternal(final RouteMsg<ArtifactRequestMessageImpl,
@@ -73,12 +93,101 @@ class DataRequestProcessor extends IdsProcessor<
         final var transferContract = MessageUtils.extractTransferContract(msg.getHeader());
 
         final var queryInput = getQueryInputFromPayload(msg.getBody());
-        final var data = entityResolver.getDataByArtifactId(artifact, queryInput);
+        final var range = getRange(msg.getHeader());
 
         final var desc = new ArtifactResponseMessageDesc(issuer, messageId, transferContract);
         final var responseHeader = messageService.buildMessage(desc);
 
-        return new Response(responseHeader, Base64Utils.encodeToString(data.readAllBytes()));
+        final byte[] payload;
+        if (range == null || (range.getTransferId() == null && transferCache.isFull())) {
+            // Without a free transfer, all data is returned at once, as by providers not
+            // supporting byte ranges.
+            try (var data = entityResolver.getDataByArtifactId(artifact, queryInput)) {
+                payload = data.readAllBytes();
+            }
+        } else {
+            payload = readRange(range, artifact, issuer, queryInput, responseHeader);
+        }
+
+        if (DataResponse.isBinaryPayload(msg.getHeader())) {
+            responseHeader.setProperty(DataResponse.BINARY_PAYLOAD_PROPERTY, "true");
+            return new DataResponse(responseHeader, payload);
+        }
+
+        return new Response(responseHeader, Base64Utils.encodeToString(payload));
+    }
+
+    /**
+     * Read a byte range of the artifact's data. The first range of a transfer retrieves the data,
+     * so the access is counted once per transfer. The range is shorter than requested if the
+     * data ends before.
+     *
+     * @param range          The requested range.
+     * @param artifact       The requested artifact.
+     * @param issuer         The connector requesting the data.
+     * @param queryInput     The query for the backend.
+     * @param responseHeader The response header receiving the transfer and the checksums.
+     * @return The bytes of the range.
+     * @throws InvalidInputException If the range is invalid or its transfer is unknown.
+     * @throws IOException           If the data cannot be read.
+     */
+    private byte[] readRange(final ByteRange range, final URI artifact, final URI issuer,
+                             final QueryInput queryInput, final Message responseHeader)
+            throws InvalidInputException, IOException {
+        if (range.getStart() < 0 || range.getLength() <= 0
+                || range.getLength() > Integer.MAX_VALUE) {
+            throw new InvalidInputException("Invalid byte range.");
+        }
+
+        final RangeTransferCache.Transfer transfer;
+        if (range.getTransferId() == null) {
+            if (range.getStart() != 0) {
+                throw new InvalidInputException("Byte range without transfer.");
+            }
+
+            transfer = transferCache.open(issuer, artifact,
+                    entityResolver.getDataByArtifactId(artifact, queryInput));
+        } else {
+            transfer = transferCache.get(range.getTransferId(), issuer, artifact);
+            if (transfer == null) {
+                throw new InvalidInputException("Unknown or expired transfer.");
+            }
+        }
+
+        final var payload = transferCache.read(transfer, range.getStart(),
+                (int) range.getLength());
+        if (range.getStart() + payload.length >= transfer.getSize()) {
+            // The last range has been read, no further ranges will be requested.
+            transferCache.close(transfer);
+        }
+        if (range.getTransferId() != null || payload.length < transfer.getSize()) {
+            responseHeader.setProperty(ByteRange.TRANSFER_PROPERTY, transfer.getId().toString());
+        }
+
+        final var checkSum = new CRC32C();
+        checkSum.update(payload);
+        responseHeader.setProperty(ByteRange.CHUNK_CHECKSUM_PROPERTY,
+                String.valueOf(checkSum.getValue()));
+        responseHeader.setProperty(ByteRange.DATA_CHECKSUM_PROPERTY,
+                String.valueOf(transfer.getCheckSum()));
+        responseHeader.setProperty(ByteRange.DATA_LENGTH_PROPERTY,
+                String.valueOf(transfer.getSize()));
+        return payload;
+    }
+
+    /**
+     * Read the requested byte range from the message header.
+     *
+     * @param header The message's header.
+     * @return The range or null, if the whole data has been requested.
+     * @throws InvalidInputException If the range is invalid.
+     */
+    private ByteRange getRange(final Message header) throws InvalidInputException {
+        try {
+            return ByteRange.from(header);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidInputException("Invalid byte range.", e);
+        }
     }
 
     /**
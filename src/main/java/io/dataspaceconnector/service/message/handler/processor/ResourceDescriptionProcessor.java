@@ -22,6 +22,7 @@ import io.dataspaceconnector.common.exception.ResourceNotFoundException;
 import io.dataspaceconnector.common.ids.message.MessageUtils;
 import io.dataspaceconnector.model.message.DescriptionResponseMessageDesc;
 import io.dataspaceconnector.service.EntityResolver;
+import io.dataspaceconnector.service.cache.IdsDescriptionCache;
 import io.dataspaceconnector.service.message.builder.type.DescriptionResponseService;
 import io.dataspaceconnector.service.message.handler.dto.Response;
 import io.dataspaceconnector.service.message.handler.dto.RouteMsg;
@@ -76,7 +77,9 @@ class ResourceDescriptionProcessor extends IdsProcessor<
         // If the element has been found, build the ids response message.
         final var desc = new DescriptionResponseMessageDesc(issuer, messageId);
         final var header = messageService.buildMessage(desc);
-        final var payload = entityResolver.getEntityAsRdfString(entity.get());
+        final var description = entityResolver.getEntityDescription(entity.get());
+        header.setProperty(IdsDescriptionCache.ENTITY_TAG_PROPERTY, description.getEntityTag());
+        final var payload = description.getRdf();
 
         // Send ids response message.
         return new Response(header, payload);
@@ -17,10 +17,9 @@ package io.dataspaceconnector.service.message.handler.processor;
 
 import de.fraunhofer.iais.eis.DescriptionRequestMessageImpl;
 import ids.messaging.handler.message.MessagePayload;
-import io.dataspaceconnector.common.ids.ConnectorService;
 import io.dataspaceconnector.common.ids.message.MessageUtils;
-import io.dataspaceconnector.common.ids.mapping.RdfConverter;
 import io.dataspaceconnector.model.message.DescriptionResponseMessageDesc;
+import io.dataspaceconnector.service.cache.SelfDescriptionCache;
 import io.dataspaceconnector.service.message.builder.type.DescriptionResponseService;
 import io.dataspaceconnector.service.message.handler.dto.Response;
 import io.dataspaceconnector.service.message.handler.dto.RouteMsg;
@@ -41,9 +40,9 @@ class SelfDescriptionProcessor extends IdsProcessor<
         RouteMsg<DescriptionRequestMessageImpl, MessagePayload>> {
 
     /**
-     * Service for the current connector configuration.
+     * Cache of the self-description with offered resources.
      */
-    private final @NonNull ConnectorService connectorService;
+    private final @NonNull SelfDescriptionCache selfDescriptionCache;
 
     /**
      * Service for handling response messages.
@@ -64,13 +63,12 @@ class SelfDescriptionProcessor extends IdsProcessor<
             MessagePayload> msg, final Jws<Claims> claims) throws Exception {
         final var issuer = MessageUtils.extractIssuerConnector(msg.getHeader());
         final var messageId = MessageUtils.extractMessageId(msg.getHeader());
-        final var connector = connectorService.getConnectorWithOfferedResources();
 
         // Build ids response message.
         final var desc = new DescriptionResponseMessageDesc(issuer, messageId);
         final var header = messageService.buildMessage(desc);
 
         // Send ids response message.
-        return new Response(header, RdfConverter.toRdf(connector));
+        return new Response(header, selfDescriptionCache.getSelfDescription());
     }
 }
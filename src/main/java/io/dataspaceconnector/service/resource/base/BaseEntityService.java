@@ -27,6 +27,8 @@ import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -53,6 +55,13 @@ public class BaseEntityService<T extends Entity, D extends Description>
      **/
     private final @NonNull AbstractFactory<T, D> factory;
 
+    /**
+     * Publishes changes of entities. Not set if the service is used without Spring.
+     **/
+    @Autowired(required = false)
+    @Getter(AccessLevel.NONE)
+    private ApplicationEventPublisher publisher;
+
     /**
      * Creates a new persistent entity.
      *
@@ -139,7 +148,8 @@ public class BaseEntityService<T extends Entity, D extends Description>
     }
 
     /**
-     * Delete an entity with the given id.
+     * Delete an entity with the given id. The entity is loaded once, deleted and passed to the
+     * listeners. Unknown ids are ignored.
      *
      * @param entityId The id of the entity.
      * @throws IllegalArgumentException if the passed id is null.
@@ -147,7 +157,10 @@ public class BaseEntityService<T extends Entity, D extends Description>
     @Override
     public void delete(final UUID entityId) {
         Utils.requireNonNull(entityId, ErrorMessage.ENTITYID_NULL);
-        repository.deleteById(entityId);
+        repository.findById(entityId).ifPresent(entity -> {
+            repository.delete(entity);
+            publishRemoval(entity);
+        });
     }
 
     /**
@@ -157,6 +170,30 @@ public class BaseEntityService<T extends Entity, D extends Description>
      * @return The persisted entity.
      */
     protected T persist(final T entity) {
-        return repository.saveAndFlush(entity);
+        final var persisted = repository.saveAndFlush(entity);
+        publishChange(persisted);
+        return persisted;
+    }
+
+    /**
+     * Notifies listeners, e.g. caches, that an entity has been changed.
+     *
+     * @param entity The persisted entity.
+     */
+    protected void publishChange(final Entity entity) {
+        if (publisher != null) {
+            publisher.publishEvent(new EntityChangedEvent(entity));
+        }
+    }
+
+    /**
+     * Notifies listeners, e.g. caches, that an entity has been deleted.
+     *
+     * @param entity The deleted entity.
+     */
+    protected void publishRemoval(final Entity entity) {
+        if (publisher != null) {
+            publisher.publishEvent(new EntityChangedEvent(entity, true));
+        }
     }
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.resource.base;
+
+import io.dataspaceconnector.model.base.Entity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by the entity services after an entity has been persisted or deleted.
+ */
+@Getter
+@AllArgsConstructor
+public class EntityChangedEvent {
+
+    /**
+     * The changed entity.
+     */
+    private final Entity entity;
+
+    /**
+     * Whether the entity has been deleted.
+     */
+    private final boolean removed;
+
+    /**
+     * Constructor for an event of a persisted entity.
+     *
+     * @param changed The persisted entity.
+     */
+    public EntityChangedEvent(final Entity changed) {
+        this(changed, false);
+    }
+}
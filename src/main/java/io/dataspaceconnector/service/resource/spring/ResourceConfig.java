@@ -85,6 +85,8 @@ import io.dataspaceconnector.service.resource.type.RuleService;
 import io.dataspaceconnector.service.resource.type.SubscriptionService;
 import io.dataspaceconnector.service.routing.BeanManager;
 import io.dataspaceconnector.service.routing.RouteHelper;
+import io.dataspaceconnector.service.storage.LocalDataStore;
+import io.dataspaceconnector.service.usagecontrol.ArtifactAccessCounter;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -116,6 +118,8 @@ public class ResourceConfig {
      * @param artifactRouteSvc The artifact-route-relation service.
      * @param retriever        The data retriever.
      * @param dispatcher       The route data dispatcher.
+     * @param dataStore        The store for the payload of local data.
+     * @param accessCounter    The counter for data accesses.
      * @return The artifact service bean.
      */
     @Bean("artifactService")
@@ -125,9 +129,12 @@ public class ResourceConfig {
             final AuthenticationRepository authRepo,
             final ArtifactRouteService artifactRouteSvc,
             final DataRetriever retriever,
-            final RouteDataDispatcher dispatcher) {
+            final RouteDataDispatcher dispatcher,
+            final LocalDataStore dataStore,
+            final ArtifactAccessCounter accessCounter) {
         return new ArtifactService(repository, new ArtifactFactory(),
-                dataRepository, authRepo, artifactRouteSvc, retriever, dispatcher);
+                dataRepository, authRepo, artifactRouteSvc, retriever, dispatcher, dataStore,
+                accessCounter);
     }
 
     /**
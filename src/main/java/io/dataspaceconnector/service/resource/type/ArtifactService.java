@@ -19,7 +19,6 @@
  */
 package io.dataspaceconnector.service.resource.type;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -57,6 +56,9 @@ import io.dataspaceconnector.service.DataRetriever;
 import io.dataspaceconnector.service.resource.base.BaseEntityService;
 import io.dataspaceconnector.service.resource.base.RemoteResolver;
 import io.dataspaceconnector.service.resource.relation.ArtifactRouteService;
+import io.dataspaceconnector.service.storage.LocalDataStore;
+import io.dataspaceconnector.service.storage.MeasuredInputStream;
+import io.dataspaceconnector.service.usagecontrol.ArtifactAccessCounter;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
@@ -99,6 +101,16 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
      */
     private final @NonNull RouteDataDispatcher routeDispatcher;
 
+    /**
+     * Keeps the payload of local data.
+     */
+    private final @NonNull LocalDataStore localDataStore;
+
+    /**
+     * Counts the data accesses of artifacts.
+     */
+    private final @NonNull ArtifactAccessCounter accessCounter;
+
     /**
      * Constructor for ArtifactService.
      *
@@ -109,6 +121,8 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
      * @param artifactRouteService     The Artifact-Route-relation service.
      * @param retriever                The data retriever.
      * @param routeDataDispatcher      The route data dispatcher.
+     * @param dataStore                The store for the payload of local data.
+     * @param artifactAccessCounter    The counter for data accesses.
      */
     public ArtifactService(final BaseEntityRepository<Artifact> repository,
                            final AbstractFactory<Artifact, ArtifactDesc> factory,
@@ -116,13 +130,17 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
                            final @NonNull AuthenticationRepository authenticationRepository,
                            final @NonNull ArtifactRouteService artifactRouteService,
                            final @NonNull DataRetriever retriever,
-                           final @NonNull RouteDataDispatcher routeDataDispatcher) {
+                           final @NonNull RouteDataDispatcher routeDataDispatcher,
+                           final @NonNull LocalDataStore dataStore,
+                           final @NonNull ArtifactAccessCounter artifactAccessCounter) {
         super(repository, factory);
         this.dataRepo = dataRepository;
         this.authRepo = authenticationRepository;
         this.artifactRouteSvc = artifactRouteService;
         this.dataRetriever = retriever;
         this.routeDispatcher = routeDataDispatcher;
+        this.localDataStore = dataStore;
+        this.accessCounter = artifactAccessCounter;
     }
 
     /**
@@ -266,8 +284,10 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
 
         // The artifact is not assigned to any requested resources. It must be offered if it exists.
         final var artifact = get(artifactId);
-        var data = dataRetriever.retrieveData((ArtifactImpl) artifact, queryInput);
-        return returnData(artifact, data, routeIds);
+        try (var access = accessCounter.open(artifactId)) {
+            var data = dataRetriever.retrieveData((ArtifactImpl) artifact, queryInput);
+            return returnData(access, data, routeIds);
+        }
     }
 
     private InputStream tryToAccessDataByUsingAnyAgreement(
@@ -313,16 +333,17 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
      * Increases the access counter before returning data. If a list of route IDs for dispatching
      * the data is specified, the data is dispatched via all referenced routes before returning it.
      *
-     * @param artifact The artifact.
+     * @param access   The access of the artifact.
      * @param data     The data.
      * @param routeIds The route IDs for dispatching data.
      * @return The data.
      * @throws IOException if the data cannot be read or there is a failure in one of the
      *                     routes.
      */
-    private InputStream returnData(final Artifact artifact, final InputStream data,
+    private InputStream returnData(final ArtifactAccessCounter.Access access,
+                                   final InputStream data,
                                    final List<URI> routeIds) throws IOException {
-        incrementAccessCounter(artifact);
+        incrementAccessCounter(access, data);
         return new DataDispatcher(routeIds, data).dispatch();
     }
 
@@ -348,23 +369,26 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
                                final ArtifactRetriever retriever, final UUID artifactId,
                                final RetrievalInformation information, final List<URI> routeIds)
             throws PolicyRestrictionException, IOException {
-        // Check the artifact exists and access is granted.
+        // Check the artifact exists and access is granted. Access limits reserve the access,
+        // the reservation is released if the data cannot be retrieved.
         final var artifact = get(artifactId);
-        verifyDataAccess(accessVerifier,
-                new AccessVerificationInput(information.getTransferContract(), artifact));
-
-        // Make sure the data exists and is up to date.
-        if (shouldDownload(artifact, information)) {
-            final var data = downloadAndUpdateData(retriever, artifactId, information, artifact,
-                    routeIds);
-            incrementAccessCounter(artifact);
-            return data;
-        }
+        try (var access = accessCounter.open(artifactId)) {
+            verifyDataAccess(accessVerifier,
+                    new AccessVerificationInput(information.getTransferContract(), artifact));
+
+            // Make sure the data exists and is up to date.
+            if (shouldDownload(artifact, information)) {
+                final var data = downloadAndUpdateData(retriever, artifactId, information,
+                        artifact, routeIds);
+                incrementAccessCounter(access, data);
+                return data;
+            }
 
-        // Artifact exists, access granted, data exists and data up to date.
-        var data = dataRetriever.retrieveData((ArtifactImpl) artifact,
-                information.getQueryInput());
-        return returnData(artifact, data, routeIds);
+            // Artifact exists, access granted, data exists and data up to date.
+            var data = dataRetriever.retrieveData((ArtifactImpl) artifact,
+                    information.getQueryInput());
+            return returnData(access, data, routeIds);
+        }
     }
 
     private void verifyDataAccess(final PolicyVerifier<AccessVerificationInput> accessVerifier,
@@ -396,9 +420,21 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         }
     }
 
-    private void incrementAccessCounter(final Artifact artifact) {
-        artifact.incrementAccessCounter();
-        persist(artifact);
+    /**
+     * Increases the access counter. The data is closed if this fails, as it will not be returned.
+     *
+     * @param access The access of the artifact.
+     * @param data   The data that is about to be returned.
+     * @throws IOException if the data cannot be closed.
+     */
+    private void incrementAccessCounter(final ArtifactAccessCounter.Access access,
+                                        final InputStream data) throws IOException {
+        try {
+            access.complete();
+        } catch (RuntimeException exception) {
+            data.close();
+            throw exception;
+        }
     }
 
     private boolean shouldDownload(final Artifact artifact,
@@ -461,23 +497,28 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
     }
 
     @NonNull
-    private ByteArrayInputStream setLocalData(final UUID artifactId,
-                                              final InputStream data,
-                                              final Artifact artifact,
-                                              final LocalData localData)
+    private InputStream setLocalData(final UUID artifactId,
+                                     final InputStream data,
+                                     final Artifact artifact,
+                                     final LocalData localData)
             throws IOException {
         try {
-            // Update the internal database and return the new data.
-            final var bytes = data.readAllBytes();
-            data.close();
-            dataRepo.setLocalData(localData.getId(), bytes);
-            if (((ArtifactFactory) getFactory()).updateByteSize(artifact, bytes)) {
+            // Update the data store and return the new data. Size and checksum are computed
+            // while the data is being stored.
+            final var measured = new MeasuredInputStream(data);
+            try (data) {
+                localDataStore.write(localData, measured);
+            }
+
+            if (((ArtifactFactory) getFactory()).updateByteSize(artifact,
+                    measured.getByteSize(), measured.getCheckSum())) {
                 ((ArtifactRepository) getRepository()).setArtifactData(artifactId,
                         artifact.getCheckSum(),
                         artifact.getByteSize());
+                publishChange(artifact);
             }
 
-            return new ByteArrayInputStream(bytes);
+            return localDataStore.read(localData);
         } catch (IOException e) {
             if (log.isErrorEnabled()) {
                 log.error("Failed to store data. [artifactId=({}), exception=({})]",
@@ -502,7 +543,8 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         final var artifact = (ArtifactImpl) get(artifactId);
         artifactRouteSvc.removeRouteLink(artifact);
 
-        getRepository().deleteById(artifactId);
+        getRepository().delete(artifact);
+        publishRemoval(artifact);
     }
 
     /**
@@ -528,6 +570,11 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         final var artifact = get(artifactId);
         final var currentData = ((ArtifactImpl) artifact).getData();
         if (currentData instanceof LocalData localData) {
+            if (localData.getHandle() != null) {
+                // Empty payloads are never kept in an external store.
+                return false;
+            }
+
             final var value = localData.getValue();
             return (value == null || !(value.length > 0));
         } else {
@@ -553,7 +600,8 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         private final @NonNull InputStream dataStream;
 
         /**
-         * Dispatches the data via all specified routes.
+         * Dispatches the data via all specified routes. The data is streamed to the routes in
+         * parallel.
          *
          * @return the data.
          * @throws IOException if the data cannot be read or there is a failure in one of the
@@ -562,12 +610,7 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         public InputStream dispatch() throws IOException {
             if (routeIds != null && !routeIds.isEmpty()) {
                 try {
-                    final var data = dataStream.readAllBytes();
-                    dataStream.close();
-                    for (var routeId: routeIds) {
-                        routeDispatcher.send(routeId, data);
-                    }
-                    return new ByteArrayInputStream(data);
+                    return routeDispatcher.send(routeIds, dataStream);
                 } catch (IOException | DataDispatchException exception) {
                     if (log.isWarnEnabled()) {
                         log.warn("Could not send data via route. [exception=({})]",
@@ -129,6 +129,8 @@ public class ConfigurationService extends BaseEntityService<Configuration, Confi
         } else {
             ((ConfigurationRepository) getRepository()).setActive(newConfig);
         }
+
+        findActiveConfig().ifPresent(this::publishChange);
     }
 
     /**
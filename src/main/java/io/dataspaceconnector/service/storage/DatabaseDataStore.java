@@ -0,0 +1,66 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.storage;
+
+import io.dataspaceconnector.model.artifact.LocalData;
+import io.dataspaceconnector.repository.DataRepository;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Keeps the payload in the value column of the data table.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "database", matchIfMissing = true)
+@RequiredArgsConstructor
+public class DatabaseDataStore implements LocalDataStore {
+
+    /**
+     * Repository for storing data.
+     */
+    private final @NonNull DataRepository dataRepo;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream read(final LocalData data) throws IOException {
+        if (data.getHandle() != null) {
+            throw new IOException("Data is kept in the file system store. Set "
+                    + "storage.type=filesystem to access it.");
+        }
+
+        final var value = data.getValue();
+        return value == null ? InputStream.nullInputStream() : new ByteArrayInputStream(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final LocalData data, final InputStream stream) throws IOException {
+        final var bytes = stream.readAllBytes();
+        dataRepo.setLocalData(data.getId(), bytes);
+        data.setValue(bytes);
+        data.setHandle(null);
+    }
+}
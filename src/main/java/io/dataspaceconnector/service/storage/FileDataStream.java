@@ -0,0 +1,83 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.storage;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+
+/**
+ * Stream on a payload kept in a file. Besides sequential reads, it allows handing (parts of)
+ * the file directly to the channel of an output stream without copying through the heap.
+ */
+public class FileDataStream extends FilterInputStream {
+
+    /**
+     * The channel of the underlying file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Constructor for FileDataStream.
+     *
+     * @param fileChannel The channel of the file. It is closed together with this stream.
+     */
+    public FileDataStream(final FileChannel fileChannel) {
+        super(Channels.newInputStream(fileChannel));
+        this.channel = fileChannel;
+    }
+
+    /**
+     * Get the size of the underlying file.
+     *
+     * @return The size in bytes.
+     * @throws IOException if the size cannot be determined.
+     */
+    public long size() throws IOException {
+        return channel.size();
+    }
+
+    /**
+     * Transfers a region of the file to the output stream using
+     * {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}.
+     * The position of this stream is not changed.
+     *
+     * @param position The offset of the first byte to transfer.
+     * @param count    The number of bytes to transfer.
+     * @param target   The output stream.
+     * @return The number of transferred bytes.
+     * @throws IOException if the file cannot be read or the output stream cannot be written.
+     */
+    public long transferRange(final long position, final long count, final OutputStream target)
+            throws IOException {
+        final var targetChannel = Channels.newChannel(target);
+        long transferred = 0;
+        while (transferred < count) {
+            final var written = channel.transferTo(position + transferred,
+                    count - transferred, targetChannel);
+            if (written <= 0) {
+                // End of file reached.
+                break;
+            }
+
+            transferred += written;
+        }
+
+        return transferred;
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.storage;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.dataspaceconnector.common.exception.UnreachableLineException;
+import io.dataspaceconnector.model.artifact.LocalData;
+import io.dataspaceconnector.repository.DataRepository;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * Keeps the payload in files below a configurable directory. Only the file handle is stored in
+ * the database. Data that has been written before the store was enabled is still read from the
+ * value column.
+ * Files are addressed by the SHA-256 hash of their content, so identical payloads of different
+ * artifacts share a single file. Files that are no longer referenced are removed by the garbage
+ * collection once they are older than a grace period, as a concurrent write of the same content
+ * may be about to reference them again.
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "filesystem")
+public class FileSystemDataStore implements LocalDataStore {
+
+    /**
+     * Suffix of files that are still being written.
+     */
+    private static final String TMP_SUFFIX = ".tmp";
+
+    /**
+     * Minimum age of unreferenced files before they are collected. Protects files whose handle
+     * has not been committed yet.
+     */
+    private static final Duration GRACE_PERIOD = Duration.ofHours(1);
+
+    /**
+     * The directory containing the payload files.
+     */
+    private final @NonNull Path directory;
+
+    /**
+     * Repository for storing data.
+     */
+    private final @NonNull DataRepository dataRepo;
+
+    /**
+     * Guards refreshing shared files against collecting them at the same time.
+     */
+    private final Object fileLock = new Object();
+
+    /**
+     * Constructor for FileSystemDataStore.
+     *
+     * @param path           The directory containing the payload files.
+     * @param dataRepository The data repository.
+     * @throws IOException if the directory cannot be created.
+     */
+    @SuppressFBWarnings("PATH_TRAVERSAL_IN")
+    public FileSystemDataStore(@Value("${storage.filesystem.path}") final String path,
+                               final @NonNull DataRepository dataRepository)
+            throws IOException {
+        this.directory = Path.of(path).toAbsolutePath().normalize();
+        this.dataRepo = dataRepository;
+        Files.createDirectories(directory);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream read(final LocalData data) throws IOException {
+        if (data.getHandle() == null) {
+            final var value = data.getValue();
+            return value == null ? InputStream.nullInputStream() : new ByteArrayInputStream(value);
+        }
+
+        return new FileDataStream(FileChannel.open(resolve(data.getHandle()),
+                StandardOpenOption.READ));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(final LocalData data, final InputStream stream) throws IOException {
+        final var digest = new DigestInputStream(stream, newDigest());
+        final var tmp = Files.createTempFile(directory, "data", TMP_SUFFIX);
+        String handle = null;
+        try {
+            if (Files.copy(digest, tmp, StandardCopyOption.REPLACE_EXISTING) == 0) {
+                // Nothing to keep, e.g. after the data has been deleted by usage control.
+                Files.delete(tmp);
+            } else {
+                handle = HexFormat.of().formatHex(digest.getMessageDigest().digest());
+                storeFile(tmp, resolve(handle));
+            }
+
+            updateHandle(data, handle);
+        } catch (IOException exception) {
+            Files.deleteIfExists(tmp);
+            throw exception;
+        }
+    }
+
+    /**
+     * Removes all files that are not referenced by any data, e.g. because the owning artifacts
+     * have been deleted. Files younger than the grace period are kept.
+     *
+     * @throws IOException if the directory cannot be listed.
+     */
+    @Override
+    public void collectGarbage() throws IOException {
+        final var referenced = dataRepo.findAllHandles();
+        final var threshold = Instant.now().minus(GRACE_PERIOD);
+        try (var files = Files.list(directory)) {
+            for (final var file : (Iterable<Path>) files::iterator) {
+                final var name = file.getFileName().toString();
+                if (!referenced.contains(name)) {
+                    deleteFileIfOlder(file, threshold);
+                }
+            }
+        }
+    }
+
+    private void storeFile(final Path tmp, final Path target) throws IOException {
+        synchronized (fileLock) {
+            if (Files.exists(target)) {
+                // The same content is already stored. Refresh the timestamp so that the shared
+                // file is not collected before the new reference has been committed.
+                Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                Files.delete(tmp);
+            } else {
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+        }
+    }
+
+    private void updateHandle(final LocalData data, final String handle) {
+        dataRepo.setLocalDataHandle(data.getId(), handle);
+        data.setHandle(handle);
+        data.setValue(null);
+    }
+
+    private void deleteFileIfOlder(final Path file, final Instant threshold) {
+        synchronized (fileLock) {
+            try {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(threshold)) {
+                    Files.deleteIfExists(file);
+                }
+            } catch (IOException exception) {
+                if (log.isWarnEnabled()) {
+                    log.warn("Failed to delete outdated data file. [file=({}), exception=({})]",
+                            file.getFileName(), exception.getMessage());
+                }
+            }
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            // Every Java platform has to support SHA-256.
+            throw new UnreachableLineException(exception.getMessage());
+        }
+    }
+
+    private Path resolve(final String handle) throws IOException {
+        final var file = directory.resolve(handle).normalize();
+        if (!file.getParent().equals(directory)) {
+            throw new IOException("Invalid data handle.");
+        }
+
+        return file;
+    }
+}
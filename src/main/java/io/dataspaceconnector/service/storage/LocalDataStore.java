@@ -0,0 +1,58 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.storage;
+
+import io.dataspaceconnector.model.artifact.LocalData;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Keeps the payload of {@link LocalData}. The entity itself only references the payload, so
+ * implementations are free to keep the bytes outside the database.
+ */
+public interface LocalDataStore {
+
+    /**
+     * Opens a stream on the stored payload. The caller has to close the stream.
+     *
+     * @param data The data container.
+     * @return The stored payload. Empty if no payload is stored.
+     * @throws IOException if the payload cannot be read.
+     */
+    InputStream read(LocalData data) throws IOException;
+
+    /**
+     * Replaces the stored payload with the content of the stream. The stream is read until its
+     * end, but not closed. The data container is updated to reference the new payload.
+     *
+     * @param data   The data container.
+     * @param stream The new payload.
+     * @throws IOException if the payload cannot be stored.
+     */
+    void write(LocalData data, InputStream stream) throws IOException;
+
+    /**
+     * Removes stored payloads that are no longer referenced by any data, e.g. because the owning
+     * artifacts have been deleted. Does nothing for stores that remove payloads together with
+     * their data.
+     *
+     * @throws IOException if the stored payloads cannot be inspected.
+     */
+    default void collectGarbage() throws IOException {
+        // Nothing to collect by default.
+    }
+}
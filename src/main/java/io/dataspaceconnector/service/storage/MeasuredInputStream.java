@@ -0,0 +1,85 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+
+/**
+ * Computes the byte size and the CRC32C checksum of the data while it is being read.
+ */
+public class MeasuredInputStream extends CheckedInputStream {
+
+    /**
+     * The number of bytes read so far.
+     */
+    private long byteSize;
+
+    /**
+     * Constructor for MeasuredInputStream.
+     *
+     * @param stream The stream to measure.
+     */
+    public MeasuredInputStream(final InputStream stream) {
+        super(stream, new CRC32C());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read() throws IOException {
+        final var value = super.read();
+        if (value != -1) {
+            byteSize++;
+        }
+
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+        final var read = super.read(buffer, offset, length);
+        if (read > 0) {
+            byteSize += read;
+        }
+
+        return read;
+    }
+
+    /**
+     * Get the number of bytes read so far.
+     *
+     * @return The byte size.
+     */
+    public long getByteSize() {
+        return byteSize;
+    }
+
+    /**
+     * Get the CRC32C checksum of the bytes read so far.
+     *
+     * @return The checksum.
+     */
+    public long getCheckSum() {
+        return getChecksum().getValue();
+    }
+}
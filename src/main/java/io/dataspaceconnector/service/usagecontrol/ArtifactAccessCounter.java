@@ -0,0 +1,283 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.PreDestroy;
+
+import io.dataspaceconnector.common.exception.ResourceNotFoundException;
+import io.dataspaceconnector.model.artifact.Artifact;
+import io.dataspaceconnector.repository.ArtifactRepository;
+import io.dataspaceconnector.service.resource.base.EntityChangedEvent;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts data accesses of artifacts. Accesses are counted in memory without locking and
+ * periodically added to the stored counters, so reading data does not write the artifact.
+ * Access limits are enforced by reserving the access within the scope of a data access, which
+ * is counted once completed and released otherwise.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ArtifactAccessCounter {
+
+    /**
+     * The number of locks the artifacts are spread over.
+     */
+    private static final int LOCK_STRIPES = 64;
+
+    /**
+     * The repository storing the counters.
+     */
+    private final @NonNull ArtifactRepository artifactRepo;
+
+    /**
+     * The accesses not yet added to the stored counters, by artifact.
+     */
+    private final Map<UUID, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Guards checking and reserving accesses against each other and against flushes. Artifacts
+     * are spread over the locks, so only accesses of artifacts sharing a lock wait for each other.
+     */
+    private final Object[] locks = createLocks();
+
+    /**
+     * The data access in progress on the current thread.
+     */
+    private final ThreadLocal<Access> currentAccess = new ThreadLocal<>();
+
+    /**
+     * Count an access of an artifact.
+     *
+     * @param artifactId The artifact id.
+     */
+    public void increment(final UUID artifactId) {
+        pending.computeIfAbsent(artifactId, x -> new LongAdder()).increment();
+    }
+
+    /**
+     * Get the number of accesses of an artifact, including those not yet stored.
+     *
+     * @param artifactId The artifact id.
+     * @return The number of accesses.
+     * @throws ResourceNotFoundException if the artifact does not exist.
+     */
+    public long getAccessNumber(final UUID artifactId) {
+        // Read the pending accesses first. A flush in between is then counted twice at worst,
+        // which denies an access too early but never allows one too many. The stored counter is
+        // queried directly, a loaded artifact may predate the last flush.
+        final var unstored = getPending(artifactId);
+        final var stored = artifactRepo.findNumAccessed(artifactId);
+        if (stored == null) {
+            throw new ResourceNotFoundException(this.getClass().getSimpleName() + ": "
+                    + artifactId);
+        }
+
+        return stored + unstored;
+    }
+
+    /**
+     * Get the number of accesses of an artifact not yet stored.
+     *
+     * @param artifactId The artifact id.
+     * @return The number of accesses.
+     */
+    public long getPending(final UUID artifactId) {
+        final var adder = pending.get(artifactId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * Start a data access of an artifact on the current thread. Limits checked during the
+     * access reserve it, see {@link #tryReserve(UUID, long)}.
+     *
+     * @param artifactId The artifact id.
+     * @return The access, to be completed once the data is available and closed afterwards.
+     */
+    public Access open(final UUID artifactId) {
+        final var access = new Access(artifactId, currentAccess.get());
+        currentAccess.set(access);
+        return access;
+    }
+
+    /**
+     * Checks whether an artifact has been accessed less than the given number of times. Within
+     * an access of the artifact, the access is reserved if the check succeeds, so parallel
+     * accesses cannot exceed the limit. Checks of further limits within the same access do not
+     * reserve again.
+     *
+     * @param artifactId The artifact id.
+     * @param max        The maximum number of accesses.
+     * @return True if the artifact may be accessed.
+     * @throws ResourceNotFoundException if the artifact does not exist.
+     */
+    public boolean tryReserve(final UUID artifactId, final long max) {
+        final var access = currentAccess.get();
+        final var scoped = access != null && access.artifactId.equals(artifactId);
+        synchronized (lockOf(artifactId)) {
+            final var reserved = scoped && access.reserved;
+            final var previous = getAccessNumber(artifactId) - (reserved ? 1 : 0);
+            if (previous >= max) {
+                return false;
+            }
+
+            if (scoped && !reserved) {
+                increment(artifactId);
+                access.reserved = true;
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * Adds the pending accesses to the stored counters, one update per accessed artifact.
+     */
+    @Scheduled(fixedDelayString = "${access-counter.flush-interval:1000}")
+    public synchronized void flush() {
+        for (final var entry : pending.entrySet()) {
+            if (entry.getValue().sum() == 0) {
+                continue;
+            }
+
+            try {
+                store(entry.getKey(), entry.getValue());
+            } catch (DataAccessException exception) {
+                if (log.isWarnEnabled()) {
+                    log.warn("Failed to store access counter, retrying later. "
+                            + "[artifactId=({}), exception=({})]", entry.getKey(),
+                            exception.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops the pending accesses of deleted artifacts.
+     *
+     * @param event The change.
+     */
+    @EventListener
+    public void handleEntityChange(final EntityChangedEvent event) {
+        if (event.isRemoved() && event.getEntity() instanceof Artifact artifact) {
+            pending.remove(artifact.getId());
+        }
+    }
+
+    /**
+     * Stores the pending accesses on shutdown.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void store(final UUID artifactId, final LongAdder adder) {
+        // Reservations see either the stored or the pending accesses, never both or none.
+        synchronized (lockOf(artifactId)) {
+            final var delta = adder.sum();
+            if (artifactRepo.incrementAccessCounter(artifactId, delta) == 0) {
+                // The artifact has been deleted.
+                pending.remove(artifactId);
+                return;
+            }
+
+            // Only subtract what was stored, accesses counted meanwhile stay pending.
+            adder.add(-delta);
+        }
+    }
+
+    private Object lockOf(final UUID artifactId) {
+        return locks[Math.floorMod(artifactId.hashCode(), locks.length)];
+    }
+
+    private static Object[] createLocks() {
+        final var stripes = new Object[LOCK_STRIPES];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Object();
+        }
+        return stripes;
+    }
+
+    /**
+     * A data access of an artifact on the current thread.
+     */
+    public final class Access implements AutoCloseable {
+
+        /**
+         * The accessed artifact.
+         */
+        private final UUID artifactId;
+
+        /**
+         * The access in progress before this one was opened.
+         */
+        private final Access previous;
+
+        /**
+         * Whether the access has been counted by a reservation.
+         */
+        private boolean reserved;
+
+        /**
+         * Whether the access has been completed.
+         */
+        private boolean completed;
+
+        private Access(final UUID artifact, final Access outer) {
+            this.artifactId = artifact;
+            this.previous = outer;
+        }
+
+        /**
+         * Count the access, unless a reservation already did.
+         */
+        public void complete() {
+            if (!completed && !reserved) {
+                increment(artifactId);
+            }
+            completed = true;
+        }
+
+        /**
+         * End the access. A reservation of an access that has not been completed is released.
+         */
+        @Override
+        public void close() {
+            if (!completed && reserved) {
+                pending.computeIfAbsent(artifactId, x -> new LongAdder()).decrement();
+            }
+            completed = true;
+
+            if (previous == null) {
+                currentAccess.remove();
+            } else {
+                currentAccess.set(previous);
+            }
+        }
+    }
+}
@@ -46,6 +46,7 @@ import io.dataspaceconnector.service.EntityResolver;
 import io.dataspaceconnector.common.ids.ConnectorService;
 import io.dataspaceconnector.common.ids.DeserializationService;
 import io.dataspaceconnector.service.EntityDependencyResolver;
+import io.dataspaceconnector.service.cache.DeserializationCache;
 import lombok.NonNull;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
@@ -66,6 +67,11 @@ public class ContractManager {
      */
     private final @NonNull DeserializationService deserializationService;
 
+    /**
+     * Cache of deserialized ids objects.
+     */
+    private final @NonNull DeserializationCache deserializationCache;
+
     /**
      * Service for resolving elements and its parents/children.
      */
@@ -90,18 +96,21 @@ public class ContractManager {
      * Constructs a ContractManager.
      *
      * @param deserializationSvc The deserialization service.
+     * @param cache The cache of deserialized ids objects.
      * @param entityDependencyResolver The dependency resolver.
      * @param resolver The entity resolver.
      * @param connectorSvc The connector service.
      * @param linkHelper The self link helper.
      */
     public ContractManager(@NonNull final DeserializationService deserializationSvc,
+                           @NonNull final DeserializationCache cache,
                            @NonNull final EntityDependencyResolver entityDependencyResolver,
                            @NonNull final EntityResolver resolver,
                            @NonNull final ConnectorService connectorSvc,
                            @NonNull @Qualifier("utilSelfLinkHelper")
                            final SelfLinkHelper linkHelper) {
         this.deserializationService = deserializationSvc;
+        this.deserializationCache = cache;
         this.dependencyResolver = entityDependencyResolver;
         this.entityResolver = resolver;
         this.connectorService = connectorSvc;
@@ -141,7 +150,7 @@ public class ContractManager {
                     + "agreement message to finish the negotiation sequence.");
         }
 
-        final var idsAgreement = deserializationService.getContractAgreement(agreement.getValue());
+        final var idsAgreement = deserializationCache.getContractAgreement(agreement);
 
         // Validation of end date.
         final var endDate = idsAgreement.getContractEnd()
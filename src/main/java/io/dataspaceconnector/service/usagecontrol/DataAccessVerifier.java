@@ -15,9 +15,7 @@
  */
 package io.dataspaceconnector.service.usagecontrol;
 
-import io.dataspaceconnector.common.ids.policy.ContractUtils;
 import io.dataspaceconnector.common.ids.policy.PolicyPattern;
-import io.dataspaceconnector.common.ids.policy.RuleUtils;
 import io.dataspaceconnector.common.net.SelfLinkHelper;
 import io.dataspaceconnector.common.exception.PolicyExecutionException;
 import io.dataspaceconnector.common.exception.PolicyRestrictionException;
@@ -60,6 +58,11 @@ public final class DataAccessVerifier implements PolicyVerifier<AccessVerificati
      */
     private final @NonNull EntityResolver entityResolver;
 
+    /**
+     * Compiles agreements into decision plans.
+     */
+    private final @NonNull PolicyCompiler policyCompiler;
+
     /**
      * Helper for creating self links.
      */
@@ -106,17 +109,16 @@ public final class DataAccessVerifier implements PolicyVerifier<AccessVerificati
      */
     public void checkForAccess(final List<PolicyPattern> patterns, final URI artifactId,
                                final URI remoteId, final URI agreementId) {
-        // Get the contract agreement's rules for the target.
-        final var agreements = entityResolver.getContractAgreementsByTarget(artifactId);
+        // Get the compiled rules of each agreement for the target.
+        final var agreements = entityResolver.getAgreementsByTarget(artifactId);
         for (final var agreement : agreements) {
-            final var rules = ContractUtils.getRulesForTargetId(agreement, remoteId);
+            final var plan = policyCompiler.getPlan(agreement, remoteId);
 
             // Check the policy of each rule.
-            for (final var rule : rules) {
-                final var pattern = RuleUtils.getPatternByRule(rule);
+            for (final var decision : plan.getDecisions()) {
                 // Enforce only a set of patterns.
-                if (patterns.contains(pattern)) {
-                    ruleValidator.validatePolicy(pattern, rule, artifactId, null,
+                if (patterns.contains(decision.getPattern())) {
+                    ruleValidator.validateDecision(decision, artifactId, null,
                             Optional.empty(), agreementId);
                 }
             }
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import io.dataspaceconnector.common.exception.ResourceNotFoundException;
+import io.dataspaceconnector.common.ids.policy.ContractUtils;
+import io.dataspaceconnector.common.ids.policy.RuleUtils;
+import io.dataspaceconnector.model.agreement.Agreement;
+import io.dataspaceconnector.model.agreement.DeletionDeadline;
+import io.dataspaceconnector.model.artifact.Artifact;
+import io.dataspaceconnector.repository.DeletionDeadlineRepository;
+import io.dataspaceconnector.service.cache.DeserializationCache;
+import io.dataspaceconnector.service.resource.base.EntityChangedEvent;
+import io.dataspaceconnector.service.resource.type.AgreementService;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the dates after which data has to be deleted according to the agreements. The
+ * deadlines of an agreement are computed whenever it is persisted, so checking for data to be
+ * deleted only touches deadlines that passed.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class DeletionDeadlineIndex {
+
+    /**
+     * The number of deadlines or agreements handled at once.
+     */
+    static final int PAGE_SIZE = 100;
+
+    /**
+     * The repository storing the deadlines.
+     */
+    private final @NonNull DeletionDeadlineRepository deadlineRepo;
+
+    /**
+     * Service for agreements.
+     */
+    private final @NonNull AgreementService agreementService;
+
+    /**
+     * Cache of deserialized ids objects.
+     */
+    private final @NonNull DeserializationCache deserializationCache;
+
+    /**
+     * Get the deadlines that passed and whose data has not been deleted since, oldest first.
+     *
+     * @param now   The current date.
+     * @param after The last deadline of the previous page, null for the first page.
+     * @return At most one page of due deadlines.
+     */
+    public List<DeletionDeadline> getDue(final ZonedDateTime now, final DeletionDeadline after) {
+        final var page = PageRequest.of(0, PAGE_SIZE);
+        if (after == null) {
+            return deadlineRepo.findDue(now, page);
+        }
+
+        return deadlineRepo.findDueAfter(now, after.getDeadline(), after.getId(), page);
+    }
+
+    /**
+     * Marks the data of deadlines as deleted. All deadlines are updated in one transaction.
+     *
+     * @param deadlines The deadlines.
+     */
+    public void markDone(final Collection<DeletionDeadline> deadlines) {
+        if (!deadlines.isEmpty()) {
+            deadlineRepo.markDone(deadlines.stream().map(DeletionDeadline::getId).toList());
+        }
+    }
+
+    /**
+     * Computes the deadlines of an agreement, replacing the previous ones.
+     *
+     * @param agreement The agreement.
+     */
+    public void index(final Agreement agreement) {
+        final var deadlines = computeDeadlines(agreement);
+        deadlineRepo.deleteByAgreement(agreement.getId());
+        deadlineRepo.saveAll(deadlines);
+    }
+
+    /**
+     * Updates the deadlines of changed agreements. Passed deadlines of changed artifacts are due
+     * again, as the artifact may hold data again. The change is handled after its commit, so
+     * rolled back changes leave the index untouched. The deadlines are written in a transaction
+     * of their own, as the one of the change has already completed.
+     *
+     * @param event The change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void handleEntityChange(final EntityChangedEvent event) {
+        if (event.getEntity() instanceof Agreement agreement) {
+            if (event.isRemoved()) {
+                deadlineRepo.deleteByAgreement(agreement.getId());
+            } else {
+                index(agreement);
+            }
+        } else if (event.getEntity() instanceof Artifact artifact && !event.isRemoved()
+                && artifact.getRemoteId() != null) {
+            deadlineRepo.markDue(artifact.getRemoteId());
+        }
+    }
+
+    /**
+     * Computes the deadlines of all agreements not indexed yet, e.g. those persisted before the
+     * index existed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void indexAll() {
+        var agreementIds = deadlineRepo.findUnindexedAgreements(PageRequest.of(0, PAGE_SIZE));
+        while (!agreementIds.isEmpty()) {
+            var indexed = 0;
+            for (final var agreementId : agreementIds) {
+                try {
+                    index(agreementService.get(agreementId));
+                    indexed++;
+                } catch (ResourceNotFoundException exception) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Agreement deleted before indexing. [agreementId=({})]",
+                                agreementId);
+                    }
+                }
+            }
+
+            if (indexed == 0) {
+                break;
+            }
+
+            agreementIds = deadlineRepo.findUnindexedAgreements(PageRequest.of(0, PAGE_SIZE));
+        }
+    }
+
+    private List<DeletionDeadline> computeDeadlines(final Agreement agreement) {
+        final var deadlines = new ArrayList<DeletionDeadline>();
+        try {
+            final var idsAgreement = deserializationCache.getContractAgreement(agreement);
+            for (final var rule : ContractUtils.extractRulesFromContract(idsAgreement)) {
+                final var date = RuleUtils.getDeletionDate(rule);
+                if (date != null) {
+                    deadlines.add(new DeletionDeadline(agreement.getId(), rule.getTarget(), date));
+                }
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to compute deletion deadlines. [agreementId=({}), "
+                        + "exception=({})]", agreement.getId(), e.getMessage());
+            }
+        }
+
+        if (deadlines.isEmpty()) {
+            // Mark the agreement as indexed.
+            deadlines.add(new DeletionDeadline(agreement.getId(), null, null));
+        }
+
+        return deadlines;
+    }
+}
@@ -0,0 +1,398 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PreDestroy;
+
+import io.dataspaceconnector.common.ids.message.ClearingHouseService;
+import io.dataspaceconnector.model.agreement.PendingDuty;
+import io.dataspaceconnector.repository.PendingDutyRepository;
+import io.dataspaceconnector.service.message.builder.type.NotificationService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores data accesses that have to be logged at the clearing house or reported to an endpoint
+ * and delivers them in the background, so requests do not wait for the recipients. Failed
+ * deliveries are retried with exponential backoff until the maximum number of attempts.
+ * <p>
+ * The delivery runs on its own thread, so unreachable recipients do not hold back other
+ * scheduled tasks. Duties are claimed before their delivery, so several connectors may share
+ * the database. A duty whose delivery takes longer than the claim may be delivered twice.
+ */
+@Log4j2
+@Component
+public class DutyOutbox {
+
+    /**
+     * Time in millis a claimed duty is not due for other deliveries.
+     */
+    private static final long CLAIM_TIMEOUT = 600_000;
+
+    /**
+     * Time in millis to wait for the delivery of a duty.
+     */
+    private static final long DELIVERY_TIMEOUT = 300_000;
+
+    /**
+     * Time in millis to wait for running deliveries on shutdown.
+     */
+    private static final long SHUTDOWN_TIMEOUT = 30_000;
+
+    /**
+     * The repository storing the duties.
+     */
+    private final @NonNull PendingDutyRepository dutyRepo;
+
+    /**
+     * Service for sending messages to the clearing house.
+     */
+    private final @NonNull ClearingHouseService clearingHouseSvc;
+
+    /**
+     * Service for ids notification messages.
+     */
+    private final @NonNull NotificationService notificationSvc;
+
+    /**
+     * The interval in millis in which due duties are delivered.
+     */
+    private final long interval;
+
+    /**
+     * The number of duties delivered at once.
+     */
+    private final int batchSize;
+
+    /**
+     * The delay in millis after the first failed delivery, doubled for every further one.
+     */
+    private final long retryDelay;
+
+    /**
+     * The maximum delay in millis between two deliveries of a duty.
+     */
+    private final long maxRetryDelay;
+
+    /**
+     * The number of attempts after which a duty is dropped.
+     */
+    private final int maxAttempts;
+
+    /**
+     * Delivers the duties of a batch in parallel. The queue holds a whole batch, so no task is
+     * rejected while a batch is delivered.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Runs the delivery, separate from the scheduler shared by the other scheduled tasks.
+     */
+    private final ScheduledExecutorService scheduler =
+            Executors.newSingleThreadScheduledExecutor(task -> {
+                final var thread = new Thread(task, "DutyOutbox-scheduler");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * The number of stored duties.
+     */
+    private final LongAdder enqueued = new LongAdder();
+
+    /**
+     * The number of delivered duties.
+     */
+    private final LongAdder delivered = new LongAdder();
+
+    /**
+     * The number of failed deliveries that will be retried.
+     */
+    private final LongAdder retried = new LongAdder();
+
+    /**
+     * The number of duties dropped after the last attempt.
+     */
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Constructor for DutyOutbox.
+     *
+     * @param dutyRepo         The repository storing the duties.
+     * @param clearingHouseSvc The service for the clearing house.
+     * @param notificationSvc  The service for notification messages.
+     * @param registry         Registry for the delivery metrics, if available.
+     * @param interval         The interval in millis in which due duties are delivered.
+     * @param batchSize        The number of duties delivered at once.
+     * @param parallelism      The number of duties delivered in parallel.
+     * @param retryDelay       The delay in millis after the first failed delivery.
+     * @param maxRetryDelay    The maximum delay in millis between two deliveries.
+     * @param maxAttempts      The number of attempts after which a duty is dropped.
+     */
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public DutyOutbox(final @NonNull PendingDutyRepository dutyRepo,
+                      final @NonNull ClearingHouseService clearingHouseSvc,
+                      final @NonNull NotificationService notificationSvc,
+                      final ObjectProvider<MeterRegistry> registry,
+                      @Value("${duty-outbox.delivery-interval:1000}") final long interval,
+                      @Value("${duty-outbox.batch-size:100}") final int batchSize,
+                      @Value("${duty-outbox.parallelism:4}") final int parallelism,
+                      @Value("${duty-outbox.retry-delay:1000}") final long retryDelay,
+                      @Value("${duty-outbox.max-retry-delay:3600000}") final long maxRetryDelay,
+                      @Value("${duty-outbox.max-attempts:20}") final int maxAttempts) {
+        this.dutyRepo = dutyRepo;
+        this.clearingHouseSvc = clearingHouseSvc;
+        this.notificationSvc = notificationSvc;
+        this.interval = Math.max(1, interval);
+        this.batchSize = Math.max(1, batchSize);
+        this.retryDelay = Math.max(1, retryDelay);
+        this.maxRetryDelay = maxRetryDelay;
+        this.maxAttempts = maxAttempts;
+        this.executor = createExecutor(Math.max(1, parallelism), this.batchSize);
+        registry.ifAvailable(this::registerMetrics);
+    }
+
+    /**
+     * Stores a data access that has to be logged at the clearing house.
+     *
+     * @param agreementId The agreement.
+     * @param logItem     The log line describing the access.
+     */
+    public void addLog(final URI agreementId, final String logItem) {
+        add(PendingDuty.Type.USAGE_LOGGING, agreementId, logItem);
+    }
+
+    /**
+     * Stores a data access that has to be reported to an endpoint.
+     *
+     * @param recipient The endpoint.
+     * @param logItem   The log line describing the access.
+     */
+    public void addNotification(final URI recipient, final String logItem) {
+        add(PendingDuty.Type.USAGE_NOTIFICATION, recipient, logItem);
+    }
+
+    /**
+     * Starts the delivery once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::runDelivery, interval, interval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Delivers all due duties, one batch at a time. Delivered duties of a batch are removed in
+     * one transaction. The delivery stops early if no duty of a batch could be delivered, as the
+     * recipients are likely unreachable.
+     */
+    public synchronized void deliver() {
+        final var now = ZonedDateTime.now(ZoneOffset.UTC);
+        var due = claimDue(now);
+        while (!due.isEmpty() && !Thread.currentThread().isInterrupted()) {
+            final var tasks = due.stream().map(this::submit).toList();
+
+            final var done = new ArrayList<Long>();
+            var failures = 0;
+            for (int i = 0; i < due.size(); i++) {
+                final var duty = due.get(i);
+                if (isDelivered(duty, tasks.get(i))) {
+                    done.add(duty.getId());
+                    delivered.increment();
+                } else if (Thread.currentThread().isInterrupted()) {
+                    // The delivery has been stopped, the claims of the others expire.
+                    break;
+                } else if (duty.getAttempts() + 1 < maxAttempts) {
+                    final var nextAttempt = ZonedDateTime.now(ZoneOffset.UTC)
+                            .plus(getBackoff(duty.getAttempts()));
+                    dutyRepo.postpone(duty.getId(), nextAttempt);
+                    retried.increment();
+                    failures++;
+                } else {
+                    if (log.isErrorEnabled()) {
+                        log.error("Dropped duty after last attempt. [type=({}), recipient=({}), "
+                                + "attempts=({})]", duty.getType(), duty.getRecipient(),
+                                duty.getAttempts() + 1);
+                    }
+                    done.add(duty.getId());
+                    dropped.increment();
+                    failures++;
+                }
+            }
+
+            if (!done.isEmpty()) {
+                dutyRepo.deleteAllByIdInBatch(done);
+            }
+
+            if (failures == due.size()) {
+                if (log.isWarnEnabled()) {
+                    log.warn("Failed to deliver batch of duties, retrying on the next run. "
+                            + "[batch=({})]", due.size());
+                }
+                break;
+            }
+            if (!Thread.currentThread().isInterrupted()) {
+                due = claimDue(now);
+            }
+        }
+    }
+
+    /**
+     * Stops the delivery. Deliveries already started are awaited for a while, the claims of the
+     * others expire, so they are delivered after the next start.
+     */
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException exception) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Get the delay before the next delivery of a duty.
+     *
+     * @param attempts The number of failed deliveries before the current one.
+     * @return The delay.
+     */
+    Duration getBackoff(final int attempts) {
+        final var shift = Math.min(attempts, Long.numberOfLeadingZeros(retryDelay) - 1);
+        final var delay = retryDelay << shift;
+        return Duration.ofMillis(Math.min(delay, maxRetryDelay));
+    }
+
+    private void add(final PendingDuty.Type type, final URI recipient, final String logItem) {
+        final var now = ZonedDateTime.now(ZoneOffset.UTC);
+        dutyRepo.save(new PendingDuty(type, recipient, logItem, now));
+        enqueued.increment();
+    }
+
+    private List<PendingDuty> claimDue(final ZonedDateTime now) {
+        final var until = ZonedDateTime.now(ZoneOffset.UTC).plus(Duration.ofMillis(CLAIM_TIMEOUT));
+        return dutyRepo.claimDue(now, until, PageRequest.of(0, batchSize));
+    }
+
+    private void runDelivery() {
+        try {
+            deliver();
+        } catch (RuntimeException e) {
+            // Keep the delivery scheduled, the duties stay stored.
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to deliver duties. [exception=({})]", e.getMessage());
+            }
+        }
+    }
+
+    private CompletableFuture<Void> submit(final PendingDuty duty) {
+        try {
+            return CompletableFuture.runAsync(() -> send(duty), executor);
+        } catch (RejectedExecutionException exception) {
+            // The delivery has been stopped.
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
+
+    private void send(final PendingDuty duty) {
+        switch (duty.getType()) {
+            case USAGE_LOGGING:
+                clearingHouseSvc.sendToClearingHouse(duty.getRecipient(), duty.getLogItem());
+                break;
+            case USAGE_NOTIFICATION:
+                notificationSvc.sendMessage(duty.getRecipient(), duty.getLogItem());
+                break;
+            default:
+                throw new IllegalStateException("Unknown duty type " + duty.getType());
+        }
+    }
+
+    private boolean isDelivered(final PendingDuty duty, final Future<Void> task) {
+        try {
+            task.get(DELIVERY_TIMEOUT, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (ExecutionException | TimeoutException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to deliver duty. [type=({}), recipient=({}), exception=({})]",
+                        duty.getType(), duty.getRecipient(),
+                        e.getCause() == null ? e.toString() : e.getCause().getMessage());
+            }
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static ExecutorService createExecutor(final int parallelism, final int capacity) {
+        final var threads = new AtomicInteger();
+        return new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacity), task -> {
+                    final var thread = new Thread(task,
+                            "DutyOutbox-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    private void registerMetrics(final MeterRegistry registry) {
+        registerCounter(registry, enqueued, "enqueued", "Number of stored duties");
+        registerCounter(registry, delivered, "delivered", "Number of delivered duties");
+        registerCounter(registry, retried, "retried", "Number of failed deliveries to be retried");
+        registerCounter(registry, dropped, "dropped", "Number of duties dropped after the last "
+                + "attempt");
+    }
+
+    private static void registerCounter(final MeterRegistry registry, final LongAdder counter,
+                                        final String result, final String description) {
+        FunctionCounter.builder("dsc.duty.outbox.duties", counter, LongAdder::sum)
+                .tag("result", result)
+                .description(description)
+                .register(registry);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import de.fraunhofer.iais.eis.ContractAgreement;
+import io.dataspaceconnector.common.ids.policy.ContractUtils;
+import io.dataspaceconnector.model.agreement.Agreement;
+import io.dataspaceconnector.service.cache.DeserializationCache;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compiles agreements into decision plans per target artifact. A plan is kept until its
+ * agreement is modified, e.g. archived, and is then compiled again.
+ */
+@Component
+public class PolicyCompiler {
+
+    /**
+     * Cache of deserialized ids objects.
+     */
+    private final @NonNull DeserializationCache deserializationCache;
+
+    /**
+     * The compiled agreements in access order.
+     */
+    private final Map<UUID, CompiledAgreement> agreements;
+
+    /**
+     * Constructor for PolicyCompiler.
+     *
+     * @param cache   The cache of deserialized ids objects.
+     * @param maxSize Maximum number of compiled agreements kept.
+     */
+    public PolicyCompiler(@NonNull final DeserializationCache cache,
+                          @Value("${deserialization.cache.size:1000}") final int maxSize) {
+        this.deserializationCache = cache;
+        this.agreements = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<UUID, CompiledAgreement> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Get the decision plan of an agreement for a target.
+     *
+     * @param agreement The agreement.
+     * @param target    The remote id of the target artifact.
+     * @return The decision plan.
+     * @throws IllegalArgumentException If the agreement cannot be deserialized.
+     */
+    public PolicyDecisionPlan getPlan(final Agreement agreement, final URI target)
+            throws IllegalArgumentException {
+        final var entityId = agreement.getId();
+        final var modified = agreement.getModificationDate();
+        if (entityId == null || modified == null || target == null) {
+            return compile(deserializationCache.getContractAgreement(agreement), target);
+        }
+
+        CompiledAgreement compiled;
+        synchronized (agreements) {
+            compiled = agreements.get(entityId);
+        }
+
+        if (compiled == null || !compiled.isValidFor(modified)) {
+            compiled = new CompiledAgreement(modified,
+                    deserializationCache.getContractAgreement(agreement));
+            synchronized (agreements) {
+                agreements.put(entityId, compiled);
+            }
+        }
+
+        return compiled.getPlan(target);
+    }
+
+    private static PolicyDecisionPlan compile(final ContractAgreement agreement,
+                                              final URI target) {
+        final var rules = ContractUtils.getRulesForTargetId(agreement, target);
+        return new PolicyDecisionPlan(rules.stream().map(PolicyDecision::compile).toList());
+    }
+
+    /**
+     * An agreement and the plans compiled from it so far.
+     */
+    private static final class CompiledAgreement {
+
+        /**
+         * The modification date of the agreement entity.
+         */
+        private final ZonedDateTime modificationDate;
+
+        /**
+         * The ids contract agreement.
+         */
+        private final ContractAgreement agreement;
+
+        /**
+         * The plans per target.
+         */
+        private final Map<URI, PolicyDecisionPlan> plans = new ConcurrentHashMap<>();
+
+        CompiledAgreement(final ZonedDateTime modified, final ContractAgreement contract) {
+            this.modificationDate = modified;
+            this.agreement = contract;
+        }
+
+        boolean isValidFor(final ZonedDateTime modified) {
+            return modificationDate.toInstant().equals(modified.toInstant());
+        }
+
+        PolicyDecisionPlan getPlan(final URI target) {
+            return plans.computeIfAbsent(target, key -> compile(agreement, key));
+        }
+    }
+}
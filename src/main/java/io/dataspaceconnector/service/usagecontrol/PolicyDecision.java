@@ -0,0 +1,125 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+import de.fraunhofer.iais.eis.Rule;
+import io.dataspaceconnector.common.ids.policy.PolicyPattern;
+import io.dataspaceconnector.common.ids.policy.RuleUtils;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * An ids rule with its policy pattern and the values read from its constraints. Rules whose
+ * values cannot be read are not compiled and are validated from the rule itself, so that
+ * errors are reported on every access as before.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PolicyDecision {
+
+    /**
+     * The ids rule.
+     */
+    private final Rule rule;
+
+    /**
+     * The recognized policy pattern. Null if unknown.
+     */
+    private final PolicyPattern pattern;
+
+    /**
+     * Whether the values of the pattern have been read from the rule.
+     */
+    private final boolean compiled;
+
+    /**
+     * Start of the allowed time interval.
+     */
+    private final ZonedDateTime start;
+
+    /**
+     * End of the allowed time interval.
+     */
+    private final ZonedDateTime end;
+
+    /**
+     * The allowed usage duration.
+     */
+    private final Duration duration;
+
+    /**
+     * The allowed number of accesses.
+     */
+    private final Integer maxAccess;
+
+    /**
+     * The allowed consumer connector.
+     */
+    private final URI allowedConnector;
+
+    /**
+     * The required security profile.
+     */
+    private final String securityProfile;
+
+    /**
+     * Recognize the policy pattern of a rule and read the values it is validated against.
+     *
+     * @param rule The ids rule.
+     * @return The policy decision.
+     */
+    public static PolicyDecision compile(final Rule rule) {
+        final var pattern = RuleUtils.getPatternByRule(rule);
+        if (pattern == null) {
+            return new PolicyDecision(rule, null, false, null, null, null, null, null, null);
+        }
+
+        try {
+            switch (pattern) {
+                case USAGE_DURING_INTERVAL:
+                case USAGE_UNTIL_DELETION:
+                    final var interval = RuleUtils.getTimeInterval(rule);
+                    return new PolicyDecision(rule, pattern, true, interval.getStart(),
+                            interval.getEnd(), null, null, null, null);
+                case DURATION_USAGE:
+                    final var duration = RuleUtils.getDuration(rule);
+                    return new PolicyDecision(rule, pattern, duration != null, null, null,
+                            duration, null, null, null);
+                case N_TIMES_USAGE:
+                    return new PolicyDecision(rule, pattern, true, null, null, null,
+                            RuleUtils.getMaxAccess(rule), null, null);
+                case CONNECTOR_RESTRICTED_USAGE:
+                    return new PolicyDecision(rule, pattern, true, null, null, null, null,
+                            URI.create(RuleUtils.getEndpoint(rule)), null);
+                case SECURITY_PROFILE_RESTRICTED_USAGE:
+                    final var profile = RuleUtils.getSecurityProfile(rule);
+                    return new PolicyDecision(rule, pattern, profile != null, null, null, null,
+                            null, null, profile);
+                default:
+                    return new PolicyDecision(rule, pattern, true, null, null, null, null, null,
+                            null);
+            }
+        } catch (RuntimeException exception) {
+            // Invalid values, the rule will be validated as it is.
+            return new PolicyDecision(rule, pattern, false, null, null, null, null, null, null);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * The compiled rules of an agreement that target one artifact.
+ */
+@Getter
+public final class PolicyDecisionPlan {
+
+    /**
+     * The compiled rules in the order of the agreement.
+     */
+    private final List<PolicyDecision> decisions;
+
+    /**
+     * Constructor for PolicyDecisionPlan.
+     *
+     * @param policyDecisions The compiled rules.
+     */
+    public PolicyDecisionPlan(final List<PolicyDecision> policyDecisions) {
+        this.decisions = List.copyOf(policyDecisions);
+    }
+}
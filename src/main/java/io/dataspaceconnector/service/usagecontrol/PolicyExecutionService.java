@@ -23,12 +23,10 @@ import de.fraunhofer.iais.eis.ContractAgreement;
 import de.fraunhofer.iais.eis.Permission;
 import de.fraunhofer.iais.eis.Rule;
 import ids.messaging.core.config.util.ConnectorFingerprintProvider;
-import io.dataspaceconnector.common.exception.PolicyExecutionException;
 import io.dataspaceconnector.common.ids.ConnectorService;
 import io.dataspaceconnector.common.ids.mapping.RdfConverter;
 import io.dataspaceconnector.common.ids.message.ClearingHouseService;
 import io.dataspaceconnector.common.ids.policy.RuleUtils;
-import io.dataspaceconnector.service.message.builder.type.NotificationService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
 import lombok.NonNull;
@@ -50,11 +48,6 @@ import java.util.HashMap;
 @Log4j2
 public class PolicyExecutionService {
 
-    /**
-     * Service for ids notification messages.
-     */
-    private final @NonNull NotificationService notificationSvc;
-
     /**
      * Service for sending messages to the clearing house.
      */
@@ -65,6 +58,11 @@ public class PolicyExecutionService {
      */
     private final @NonNull ConnectorService connectorSvc;
 
+    /**
+     * Stores logging and notification duties until they are delivered.
+     */
+    private final @NonNull DutyOutbox dutyOutbox;
+
     /**
      * Send contract agreement to clearing house.
      *
@@ -105,39 +103,28 @@ public class PolicyExecutionService {
     }
 
     /**
-     * Send a message to the clearing house. Allow the access only if that operation was successful.
+     * Store a log message for the clearing house. The message is sent in the background.
      *
      * @param target      The target object.
      * @param agreementId The agreement id.
-     * @throws PolicyExecutionException if the access could not be successfully logged.
      */
-    public void logDataAccess(final URI target, final URI agreementId)
-            throws PolicyExecutionException {
-        try {
-            final var logItem = buildLog(target);
-            clearingHouseSvc.sendToClearingHouse(agreementId, logItem);
-        } catch (Exception exception) {
-            if (log.isWarnEnabled()) {
-                log.warn("Failed to send log message to clearing house. [exception=({})]",
-                        exception.getMessage());
-            }
-        }
+    public void logDataAccess(final URI target, final URI agreementId) {
+        dutyOutbox.addLog(agreementId, buildLog(target));
     }
 
     /**
-     * Send a message to the clearing house. Allow the access only if that operation was successful.
+     * Store a notification message for the endpoint of the rule. The message is sent in the
+     * background.
      *
      * @param rule    The ids rule.
      * @param element The accessed element.
-     * @throws PolicyExecutionException If the notification has not been successful.
      */
-    public void reportDataAccess(final Rule rule, final URI element)
-            throws PolicyExecutionException {
+    public void reportDataAccess(final Rule rule, final URI element) {
         if (rule instanceof Permission permission) {
             final var postDuty = permission.getPostDuty().get(0);
             final var recipient = RuleUtils.getEndpoint(postDuty);
 
-            notificationSvc.sendMessage(URI.create(recipient), buildLog(element));
+            dutyOutbox.addNotification(URI.create(recipient), buildLog(element));
         } else if (log.isWarnEnabled()) {
             log.warn("Reporting data access is only supported for permissions.");
         }
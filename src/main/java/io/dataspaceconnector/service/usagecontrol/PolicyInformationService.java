@@ -37,6 +37,11 @@ public class PolicyInformationService {
      */
     private final @NonNull ArtifactService artifactService;
 
+    /**
+     * Counts the data accesses of artifacts.
+     */
+    private final @NonNull ArtifactAccessCounter accessCounter;
+
     /**
      * Get creation date of artifact.
      *
@@ -51,15 +56,26 @@ public class PolicyInformationService {
     }
 
     /**
-     * Get access number of artifact.
+     * Get access number of artifact, including accesses not yet stored.
      *
      * @param target The target id.
      * @return The artifact's access number.
      */
     public long getAccessNumber(final URI target) {
         final var resourceId = EndpointUtils.getUUIDFromPath(target);
-        final var artifact = artifactService.get(resourceId);
+        return accessCounter.getAccessNumber(resourceId);
+    }
 
-        return artifact.getNumAccessed();
+    /**
+     * Checks whether an artifact has been accessed less than the given number of times and
+     * reserves the access if the artifact is currently being accessed.
+     *
+     * @param target The target id.
+     * @param max    The maximum number of accesses.
+     * @return True if the artifact may be accessed.
+     */
+    public boolean reserveAccess(final URI target, final long max) {
+        final var resourceId = EndpointUtils.getUUIDFromPath(target);
+        return accessCounter.tryReserve(resourceId, max);
     }
 }
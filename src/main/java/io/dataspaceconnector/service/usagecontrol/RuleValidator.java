@@ -25,8 +25,8 @@ import io.dataspaceconnector.common.time.TimeInterval;
 import io.dataspaceconnector.common.exception.PolicyRestrictionException;
 import io.dataspaceconnector.model.contract.Contract;
 import io.dataspaceconnector.model.rule.ContractRule;
-import io.dataspaceconnector.common.ids.DeserializationService;
 import io.dataspaceconnector.service.EntityDependencyResolver;
+import io.dataspaceconnector.service.cache.DeserializationCache;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -34,6 +34,7 @@ import org.springframework.stereotype.Service;
 
 import java.net.URI;
 import java.time.Duration;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
@@ -66,9 +67,9 @@ public class RuleValidator {
     private final @NonNull EntityDependencyResolver dependencyResolver;
 
     /**
-     * Service for deserialization.
+     * Cache of deserialized ids objects.
      */
-    private final @NonNull DeserializationService deserializationService;
+    private final @NonNull DeserializationCache deserializationCache;
 
     /**
      * Validates the data access for a given rule.
@@ -119,6 +120,51 @@ public class RuleValidator {
         }
     }
 
+    /**
+     * Validates the data access for a compiled rule. The values read at compile time are
+     * compared directly, rules that could not be compiled are validated as they are.
+     *
+     * @param decision        The compiled rule.
+     * @param target          The requested/accessed element.
+     * @param issuerConnector The issuer connector.
+     * @param profile         The security profile.
+     * @param agreementId     The id of the transfer contract (agreement).
+     * @throws PolicyRestrictionException If a policy restriction was detected.
+     */
+    public void validateDecision(final PolicyDecision decision, final URI target,
+                                 final URI issuerConnector,
+                                 final Optional<SecurityProfile> profile,
+                                 final URI agreementId) throws PolicyRestrictionException {
+        final var pattern = decision.getPattern();
+        if (!decision.isCompiled()) {
+            validatePolicy(pattern, decision.getRule(), target, issuerConnector, profile,
+                    agreementId);
+            return;
+        }
+
+        switch (pattern) {
+            case USAGE_DURING_INTERVAL:
+            case USAGE_UNTIL_DELETION:
+                validateInterval(decision.getStart(), decision.getEnd());
+                break;
+            case DURATION_USAGE:
+                validateDuration(decision.getDuration(), target);
+                break;
+            case N_TIMES_USAGE:
+                validateAccessNumber(decision.getMaxAccess(), target);
+                break;
+            case CONNECTOR_RESTRICTED_USAGE:
+                validateIssuerConnector(decision.getAllowedConnector(), issuerConnector);
+                break;
+            case SECURITY_PROFILE_RESTRICTED_USAGE:
+                validateSecurityProfile(decision.getSecurityProfile(), profile);
+                break;
+            default:
+                validatePolicy(pattern, decision.getRule(), target, issuerConnector, profile,
+                        agreementId);
+        }
+    }
+
     /**
      * Compare content of rule offer and request with each other.
      *
@@ -156,7 +202,7 @@ public class RuleValidator {
                                                  final List<Rule> requestRules) {
         final var idsRuleList = new ArrayList<Rule>();
         for (final var rule : offerRules) {
-            idsRuleList.add(deserializationService.getRule(rule.getValue()));
+            idsRuleList.add(deserializationCache.getRule(rule));
         }
 
         if (!RuleUtils.compareRules(idsRuleList, requestRules)) {
@@ -188,10 +234,15 @@ public class RuleValidator {
             throw new PolicyRestrictionException(ErrorMessage.DATA_ACCESS_INVALID_INTERVAL, e);
         }
 
+        validateInterval(timeInterval.getStart(), timeInterval.getEnd());
+    }
+
+    private void validateInterval(final ZonedDateTime start, final ZonedDateTime end)
+            throws PolicyRestrictionException {
         final var current = RuleUtils.getCurrentDate();
-        if (!current.isAfter(timeInterval.getStart()) || !current.isBefore(timeInterval.getEnd())) {
+        if (!current.isAfter(start) || !current.isBefore(end)) {
             if (log.isWarnEnabled()) {
-                log.warn("Invalid time interval. [timeInterval=({})]", timeInterval);
+                log.warn("Invalid time interval. [start=({}), end=({})]", start, end);
             }
             throw new PolicyRestrictionException(ErrorMessage.DATA_ACCESS_INVALID_INTERVAL);
         }
@@ -207,8 +258,6 @@ public class RuleValidator {
      */
     private void validateDuration(final Rule rule, final URI target)
             throws PolicyRestrictionException {
-        final var created = informationService.getCreationDate(target);
-
         final Duration duration;
         try {
             duration = RuleUtils.getDuration(rule);
@@ -227,6 +276,12 @@ public class RuleValidator {
             throw new PolicyRestrictionException(ErrorMessage.DATA_ACCESS_INVALID_INTERVAL);
         }
 
+        validateDuration(duration, target);
+    }
+
+    private void validateDuration(final Duration duration, final URI target)
+            throws PolicyRestrictionException {
+        final var created = informationService.getCreationDate(target);
         if (RuleUtils.isExpired(RuleUtils.getCalculatedDate(created, duration))) {
             if (log.isDebugEnabled()) {
                 log.debug("Invalid date time. [target=({})]", target);
@@ -236,7 +291,8 @@ public class RuleValidator {
     }
 
     /**
-     * Checks whether the maximum number of accesses has already been reached.
+     * Checks whether the maximum number of accesses has already been reached. During an access
+     * of the target, the access is reserved.
      *
      * @param rule   The ids rule.
      * @param target The accessed element.
@@ -244,9 +300,12 @@ public class RuleValidator {
      */
     private void validateAccessNumber(final Rule rule, final URI target)
             throws PolicyRestrictionException {
-        final var max = RuleUtils.getMaxAccess(rule);
-        final var accessed = informationService.getAccessNumber(target);
-        if (accessed >= max) {
+        validateAccessNumber(RuleUtils.getMaxAccess(rule), target);
+    }
+
+    private void validateAccessNumber(final int max, final URI target)
+            throws PolicyRestrictionException {
+        if (!informationService.reserveAccess(target, max)) {
             if (log.isDebugEnabled()) {
                 log.debug("Access number reached. [target=({})]", target);
             }
@@ -263,9 +322,12 @@ public class RuleValidator {
      */
     private void validateIssuerConnector(final Rule rule, final URI issuerConnector)
             throws PolicyRestrictionException {
-        final var allowedConsumer = RuleUtils.getEndpoint(rule);
-        final var allowedConsumerAsUri = URI.create(allowedConsumer);
-        if (!allowedConsumerAsUri.equals(issuerConnector)) {
+        validateIssuerConnector(URI.create(RuleUtils.getEndpoint(rule)), issuerConnector);
+    }
+
+    private void validateIssuerConnector(final URI allowedConsumer, final URI issuerConnector)
+            throws PolicyRestrictionException {
+        if (!allowedConsumer.equals(issuerConnector)) {
             if (log.isDebugEnabled()) {
                 log.debug("Invalid consumer connector. [issuer=({})]", issuerConnector);
             }
@@ -288,15 +350,23 @@ public class RuleValidator {
         }
 
         try {
-            final var allowedProfile = RuleUtils.getSecurityProfile(rule);
-            final var securityProfile = profile.get();
-            if (!allowedProfile.equals(securityProfile.toString())) {
-                throw new PolicyRestrictionException(
-                        ErrorMessage.DATA_ACCESS_INVALID_SECURITY_PROFILE);
-            }
+            validateSecurityProfile(RuleUtils.getSecurityProfile(rule), profile);
         } catch (NullPointerException e) {
             throw new PolicyRestrictionException(
                     ErrorMessage.DATA_ACCESS_INVALID_SECURITY_PROFILE);
         }
     }
+
+    private void validateSecurityProfile(final String allowedProfile,
+                                         final Optional<SecurityProfile> profile)
+            throws PolicyRestrictionException {
+        if (profile.isEmpty()) {
+            throw new PolicyRestrictionException(ErrorMessage.MISSING_SECURITY_PROFILE_CLAIM);
+        }
+
+        if (!allowedProfile.equals(profile.get().toString())) {
+            throw new PolicyRestrictionException(
+                    ErrorMessage.DATA_ACCESS_INVALID_SECURITY_PROFILE);
+        }
+    }
 }
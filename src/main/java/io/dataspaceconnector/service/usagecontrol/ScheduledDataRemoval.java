@@ -15,33 +15,52 @@
  */
 package io.dataspaceconnector.service.usagecontrol;
 
-import io.dataspaceconnector.common.ids.policy.ContractUtils;
 import io.dataspaceconnector.common.ids.policy.RuleUtils;
 import io.dataspaceconnector.common.exception.ResourceNotFoundException;
 import io.dataspaceconnector.common.ids.policy.UsageControlFramework;
 import io.dataspaceconnector.config.ConnectorConfig;
-import io.dataspaceconnector.common.ids.DeserializationService;
-import io.dataspaceconnector.service.resource.type.AgreementService;
+import io.dataspaceconnector.model.agreement.DeletionDeadline;
 import io.dataspaceconnector.service.resource.type.ArtifactService;
+import io.dataspaceconnector.service.storage.LocalDataStore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PreDestroy;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * This class implements automated policy check.
  */
 @EnableScheduling
 @Log4j2
-@RequiredArgsConstructor
 @Service
 public class ScheduledDataRemoval {
 
@@ -51,19 +70,24 @@ public class ScheduledDataRemoval {
     private static final int FIXED_DELAY = 60_000;
 
     /**
-     * Service for configuring policy settings.
+     * Time in millis to wait for the data of an artifact to be removed.
      */
-    private final @NonNull ConnectorConfig connectorConfig;
+    private static final long REMOVAL_TIMEOUT = 300_000;
 
     /**
-     * Service for ids deserialization.
+     * Time in millis to wait for running removals on shutdown.
      */
-    private final @NonNull DeserializationService deserializationService;
+    private static final long SHUTDOWN_TIMEOUT = 30_000;
 
     /**
-     * Service for ids deserialization.
+     * Service for configuring policy settings.
      */
-    private final @NonNull AgreementService agreementService;
+    private final @NonNull ConnectorConfig connectorConfig;
+
+    /**
+     * The dates after which data has to be deleted.
+     */
+    private final @NonNull DeletionDeadlineIndex deadlineIndex;
 
     /**
      * Service for updating artifacts.
@@ -71,7 +95,63 @@ public class ScheduledDataRemoval {
     private final @NonNull ArtifactService artifactService;
 
     /**
-     * Periodically checks agreements for data deletion.
+     * Store for the payload of local data.
+     */
+    private final @NonNull LocalDataStore localDataStore;
+
+    /**
+     * Removes the data of the artifacts of a page in parallel. The queue holds a whole page, so
+     * no task is rejected while the removal runs.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * The number of deadlines whose data has been removed.
+     */
+    private final LongAdder removed = new LongAdder();
+
+    /**
+     * The number of deadlines whose data could not be removed.
+     */
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * The number of deadlines handled by the current or last run.
+     */
+    private final AtomicLong progress = new AtomicLong();
+
+    /**
+     * The duration of the last run in milliseconds.
+     */
+    private final AtomicLong duration = new AtomicLong();
+
+    /**
+     * Constructor for ScheduledDataRemoval.
+     *
+     * @param connectorConfig The connector configuration.
+     * @param deadlineIndex   The dates after which data has to be deleted.
+     * @param artifactService The artifact service.
+     * @param localDataStore  The store for local data.
+     * @param registry        Registry for the removal metrics, if available.
+     * @param parallelism     The number of artifacts whose data is removed in parallel.
+     */
+    public ScheduledDataRemoval(final @NonNull ConnectorConfig connectorConfig,
+                                final @NonNull DeletionDeadlineIndex deadlineIndex,
+                                final @NonNull ArtifactService artifactService,
+                                final @NonNull LocalDataStore localDataStore,
+                                final ObjectProvider<MeterRegistry> registry,
+                                @Value("${data-removal.parallelism:4}") final int parallelism) {
+        this.connectorConfig = connectorConfig;
+        this.deadlineIndex = deadlineIndex;
+        this.artifactService = artifactService;
+        this.localDataStore = localDataStore;
+        this.executor = createExecutor(Math.max(1, parallelism));
+        registry.ifAvailable(this::registerMetrics);
+    }
+
+    /**
+     * Periodically checks agreements for data deletion and removes payloads that are no longer
+     * referenced.
      */
     @Scheduled(fixedDelay = FIXED_DELAY)
     public void schedule() {
@@ -87,31 +167,138 @@ public class ScheduledDataRemoval {
                 log.warn("Failed to check policy. [exception=({})]", e.getMessage());
             }
         }
+
+        collectGarbage();
+    }
+
+    /**
+     * Stops the removal of data. Removals already started are awaited for a while, the
+     * deadlines of the others stay due.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException exception) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
     }
 
     /**
-     * Checks all known agreements for artifacts that have to be deleted.
-     *
-     * @throws DateTimeParseException    If a date from a policy cannot be parsed.
-     * @throws IllegalArgumentException  If the rule could not be deserialized.
-     * @throws ResourceNotFoundException If the data could not be deleted.
-     */
-    private void scanAgreements() throws DateTimeParseException, IllegalArgumentException,
-            ResourceNotFoundException {
-        for (final var agreement : agreementService.getAll(Pageable.unpaged())) {
-            final var value = agreement.getValue();
-            final var idsAgreement = deserializationService.getContractAgreement(value);
-            for (final var rule : ContractUtils.extractRulesFromContract(idsAgreement)) {
-                if (RuleUtils.checkRuleForPostDuties(rule)) {
-                    final var artifactId = artifactService.identifyByRemoteId(rule.getTarget());
-                    if (artifactId.isPresent() && !isDataDeleted(artifactId.get())) {
-                        removeDataFromArtifact(artifactId.get());
-                    }
+     * Removes payloads of deleted data from the data store.
+     */
+    private void collectGarbage() {
+        try {
+            localDataStore.collectGarbage();
+        } catch (IOException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to remove unreferenced data. [exception=({})]", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Removes the data of artifacts whose deletion deadline passed, one page at a time. The
+     * deadlines of a page are marked as done in one transaction. Pages follow the last deadline
+     * of the previous one, so deadlines whose data could not be removed do not hold back later
+     * ones. They are retried on the next run.
+     */
+    private void scanAgreements() {
+        final var start = System.nanoTime();
+        final var now = RuleUtils.getCurrentDate();
+        progress.set(0);
+        try {
+            var due = deadlineIndex.getDue(now, null);
+            while (!due.isEmpty() && !Thread.currentThread().isInterrupted()) {
+                final var done = removePage(due);
+                deadlineIndex.markDone(done);
+                progress.addAndGet(due.size());
+
+                if (log.isDebugEnabled()) {
+                    log.debug("Handled page of deletion deadlines. [page=({}), done=({}), "
+                            + "handled=({})]", due.size(), done.size(), progress.get());
                 }
+
+                due = deadlineIndex.getDue(now, due.get(due.size() - 1));
+            }
+        } finally {
+            duration.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            if (log.isInfoEnabled()) {
+                log.info("Finished scanning agreements. [handled=({}), duration=({}ms)]",
+                        progress.get(), duration.get());
             }
         }
     }
 
+    /**
+     * Removes the data of the artifacts of a page in parallel. Deadlines of different agreements
+     * targeting the same artifact are handled by one task.
+     *
+     * @param due The page of due deadlines.
+     * @return The deadlines whose data has been removed.
+     */
+    private List<DeletionDeadline> removePage(final List<DeletionDeadline> due) {
+        final var tasks = new HashMap<URI, CompletableFuture<Boolean>>();
+        for (final var deadline : due) {
+            if (deadline.getTarget() != null) {
+                tasks.computeIfAbsent(deadline.getTarget(), this::submitRemoval);
+            }
+        }
+
+        final var done = new ArrayList<DeletionDeadline>();
+        for (final var deadline : due) {
+            final var target = deadline.getTarget();
+            if (target == null || isRemoved(target, tasks.get(target))) {
+                done.add(deadline);
+                removed.increment();
+            } else {
+                failed.increment();
+            }
+        }
+
+        return done;
+    }
+
+    private CompletableFuture<Boolean> submitRemoval(final URI target) {
+        try {
+            return CompletableFuture.supplyAsync(() -> removeData(target), executor);
+        } catch (RejectedExecutionException exception) {
+            // The removal has been stopped.
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
+
+    private boolean isRemoved(final URI target, final Future<Boolean> task) {
+        try {
+            return task.get(REMOVAL_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to remove data. [target=({}), exception=({})]", target,
+                        e.getCause() == null ? e.toString() : e.getCause().getMessage());
+            }
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Removes the data of the artifact with the given remote id.
+     *
+     * @param target The remote id of the artifact.
+     * @return True if the artifact does not exist or holds no data anymore.
+     */
+    private boolean removeData(final URI target) {
+        final var artifactId = artifactService.identifyByRemoteId(target);
+        return artifactId.isEmpty() || isDataDeleted(artifactId.get())
+                || removeDataFromArtifact(artifactId.get());
+    }
+
     /**
      * Check if an artifact already has the status deleted.
      *
@@ -126,18 +313,48 @@ public class ScheduledDataRemoval {
      * Delete data by artifact id.
      *
      * @param artifactId The artifact uuid.
+     * @return True if the data has been removed.
      */
-    private void removeDataFromArtifact(final UUID artifactId) {
+    private boolean removeDataFromArtifact(final UUID artifactId) {
         try {
             artifactService.setData(artifactId, InputStream.nullInputStream());
             if (log.isDebugEnabled()) {
                 log.debug("Removed data from artifact. [id=({})]", artifactId);
             }
+            return true;
         } catch (IOException | ResourceNotFoundException e) {
             if (log.isWarnEnabled()) {
                 log.warn("Failed to remove data from artifact. [id=({}), exception=({})]",
                         artifactId, e.getMessage());
             }
+            return false;
         }
     }
+
+    private static ExecutorService createExecutor(final int parallelism) {
+        final var threads = new AtomicInteger();
+        return new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(DeletionDeadlineIndex.PAGE_SIZE), task -> {
+                    final var thread = new Thread(task,
+                            "ScheduledDataRemoval-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    private void registerMetrics(final MeterRegistry registry) {
+        FunctionCounter.builder("dsc.data.removal.deadlines", removed, LongAdder::sum)
+                .tag("result", "done")
+                .description("Number of due deletion deadlines whose data has been removed")
+                .register(registry);
+        FunctionCounter.builder("dsc.data.removal.deadlines", failed, LongAdder::sum)
+                .tag("result", "failed")
+                .description("Number of due deletion deadlines whose data could not be removed")
+                .register(registry);
+        Gauge.builder("dsc.data.removal.progress", progress, AtomicLong::get)
+                .description("Number of deadlines handled by the current or last run")
+                .register(registry);
+        TimeGauge.builder("dsc.data.removal.duration", duration, TimeUnit.MILLISECONDS,
+                AtomicLong::get).description("Duration of the last run").register(registry);
+    }
 }
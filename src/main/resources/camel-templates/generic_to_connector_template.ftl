@@ -1,6 +1,6 @@
 <routes xmlns="http://camel.apache.org/schema/spring">
 
-    <route id="${routeId}" errorHandlerRef="${errorHandlerRef}">
+    <route id="${routeId}" errorHandlerRef="${errorHandlerRef}" streamCache="true">
 
         <from uri="direct:${routeId}"/>
 
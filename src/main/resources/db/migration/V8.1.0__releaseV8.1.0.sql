@@ -0,0 +1,30 @@
+ALTER TABLE public.data ADD COLUMN localdata_handle VARCHAR(255);
+
+CREATE INDEX data_localdata_handle_idx ON public.data (localdata_handle);
+
+CREATE TABLE public.deletion_deadline (
+    id bigserial NOT NULL,
+    agreement_id uuid NOT NULL,
+    target character varying(2048),
+    deadline timestamp without time zone,
+    done boolean NOT NULL DEFAULT false,
+    CONSTRAINT deletion_deadline_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX deletion_deadline_due_idx ON public.deletion_deadline (done, deadline);
+
+CREATE INDEX deletion_deadline_agreement_idx ON public.deletion_deadline (agreement_id);
+
+CREATE INDEX deletion_deadline_target_idx ON public.deletion_deadline (target);
+
+CREATE TABLE public.pending_duty (
+    id bigserial NOT NULL,
+    type character varying(255) NOT NULL,
+    recipient character varying(2048) NOT NULL,
+    log_item text NOT NULL,
+    attempts integer NOT NULL DEFAULT 0,
+    next_attempt timestamp without time zone NOT NULL,
+    CONSTRAINT pending_duty_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX pending_duty_next_attempt_idx ON public.pending_duty (next_attempt);
@@ -38,9 +38,11 @@ import de.fraunhofer.iais.eis.SecurityProfile;
 import de.fraunhofer.iais.eis.util.TypedLiteral;
 import de.fraunhofer.iais.eis.util.Util;
 import ids.messaging.core.config.ConfigContainer;
-import ids.messaging.core.daps.DapsTokenProvider;
+import io.dataspaceconnector.controller.resource.view.util.SelfLinkHelper;
 import io.dataspaceconnector.model.catalog.Catalog;
 import io.dataspaceconnector.model.resource.OfferedResource;
+import io.dataspaceconnector.service.cache.DatCache;
+import io.dataspaceconnector.service.cache.IdsDescriptionCache;
 import io.dataspaceconnector.service.resource.ids.builder.IdsCatalogBuilder;
 import io.dataspaceconnector.service.resource.ids.builder.IdsResourceBuilder;
 import io.dataspaceconnector.service.resource.type.CatalogService;
@@ -55,7 +57,9 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -74,15 +78,18 @@ public class ConnectorServiceTest {
     private final IdsResourceBuilder<OfferedResource> resourceBuilder = Mockito.mock(IdsResourceBuilder.class);
     private final OfferedResourceService offeredResourceService = Mockito.mock(OfferedResourceService.class);
     private final ConfigurationService configurationService = Mockito.mock(ConfigurationService.class);
+    private final DeserializationService deserializationService = Mockito.mock(DeserializationService.class);
 
     private final ConnectorService connectorService = new ConnectorService(
             configContainer,
-            Mockito.mock(DapsTokenProvider.class),
+            Mockito.mock(DatCache.class),
             catalogService,
             catalogBuilder,
             resourceBuilder,
             offeredResourceService,
-            configurationService
+            configurationService,
+            new IdsDescriptionCache(Mockito.mock(SelfLinkHelper.class), 10),
+            deserializationService
     );
 
     @Test
@@ -176,23 +183,26 @@ public class ConnectorServiceTest {
     }
 
     @Test
-    public void getOfferedResourceById_resourcePresent_returnResource() {
+    public void getOfferedResourceById_resourcePresent_returnCopyOfResource() {
         /* ARRANGE */
         final var uuid = UUID.randomUUID();
         final var uri = URI.create("https://resource-id.com/" + uuid);
         final var resource = getOfferedResource(uuid);
         final var idsResource = getIdsResource();
+        final var copy = getIdsResource();
 
         when(offeredResourceService.getAll(Pageable.unpaged()))
                 .thenReturn(new PageImpl<>(List.of(resource)));
         when(resourceBuilder.create(resource)).thenReturn(idsResource);
+        when(deserializationService.getResource(any())).thenReturn(copy);
 
         /* ACT */
         final var result = connectorService.getOfferedResourceById(uri);
 
         /* ASSERT */
         assertTrue(result.isPresent());
-        assertEquals(idsResource, result.get());
+        assertSame(copy, result.get());
+        assertNotSame(idsResource, result.get());
     }
 
     @Test
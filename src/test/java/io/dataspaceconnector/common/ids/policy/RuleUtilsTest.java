@@ -1125,6 +1125,37 @@ class RuleUtilsTest {
         assertFalse(RuleUtils.checkRuleForDeletion(expiredRule.getPostDuty().get(0)));
     }
 
+    @Test
+    public void getDeletionDate_deletionDuty_returnDate() {
+        /* ARRANGE */
+        final var rule = new PermissionBuilder()
+                ._action_(Util.asList(Action.USE))
+                ._postDuty_(Util.asList(new DutyBuilder()
+                        ._action_(Util.asList(Action.DELETE))
+                        ._constraint_(Util.asList(new ConstraintBuilder()
+                                ._leftOperand_(LeftOperand.POLICY_EVALUATION_TIME)
+                                ._operator_(BinaryOperator.TEMPORAL_EQUALS)
+                                ._rightOperand_(new RdfResource("2050-07-11T00:00:00Z",
+                                        URI.create("xsd:dateTimeStamp")))
+                                .build()))
+                        .build()))
+                .build();
+
+        /* ACT && ASSERT */
+        assertEquals(ZonedDateTime.parse("2050-07-11T00:00:00Z"), RuleUtils.getDeletionDate(rule));
+    }
+
+    @Test
+    public void getDeletionDate_noPostDuty_returnNull() {
+        /* ARRANGE */
+        final var rule = new PermissionBuilder()
+                ._action_(Util.asList(Action.USE))
+                .build();
+
+        /* ACT && ASSERT */
+        assertNull(RuleUtils.getDeletionDate(rule));
+    }
+
     @Test
     public void isExpired_dateBefore_returnTrue() {
         /* ARRANGE */
@@ -30,13 +30,16 @@ import io.dataspaceconnector.common.exception.NotImplemented;
 import io.dataspaceconnector.model.auth.Authentication;
 import io.dataspaceconnector.model.auth.BasicAuth;
 import lombok.SneakyThrows;
+import okhttp3.Headers;
 import okhttp3.MediaType;
 import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import okio.Buffer;
 import org.bouncycastle.util.Arrays;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
@@ -46,6 +49,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class HttpServiceTest {
@@ -162,6 +168,32 @@ class HttpServiceTest {
                 result.getData().readAllBytes()));
     }
 
+    @Test
+    @SneakyThrows
+    void get_validInput_streamBodyAndCloseResponseWhenDrained() {
+        /* ARRANGE */
+        final var target = new URL("https://target");
+        final var bytes = "response".getBytes(StandardCharsets.UTF_8);
+
+        when(httpSvc.get(any())).thenReturn(response);
+        when(response.code()).thenReturn(200);
+        when(response.headers()).thenReturn(Headers.of("ETag", "\"1\""));
+        when(response.header("ETag")).thenReturn("\"1\"");
+        when(response.body()).thenReturn(responseBody);
+        when(responseBody.byteStream()).thenReturn(new ByteArrayInputStream(bytes));
+
+        /* ACT */
+        final var result = (HttpResponse) service.get(target, new HttpService.HttpArgs());
+
+        /* ASSERT */
+        verify(response, never()).close();
+        assertEquals("\"1\"", result.getHeader("etag"));
+        assertArrayEquals(bytes, result.getData().readAllBytes());
+        verify(response, times(1)).close();
+        result.getData().close();
+        verify(response, times(1)).close();
+    }
+
     @Test
     void request_null_throwNotImplemented() throws IOException {
         /* ARRANGE */
@@ -233,6 +265,31 @@ class HttpServiceTest {
         assertArrayEquals(bytes, result.getData().readAllBytes());
     }
 
+    @Test
+    @SneakyThrows
+    void post_withContentLength_streamData() {
+        /* ARRANGE */
+        final var target = new URL("https://target");
+        final var bytes = "data".getBytes(StandardCharsets.UTF_8);
+        final var request = ArgumentCaptor.forClass(Request.class);
+
+        when(httpSvc.send(request.capture())).thenReturn(response);
+        when(response.code()).thenReturn(200);
+
+        /* ACT */
+        service.post(target, new HttpService.HttpArgs(), new ByteArrayInputStream(bytes),
+                bytes.length);
+
+        /* ASSERT */
+        final var body = request.getValue().body();
+        assertNotNull(body);
+        assertEquals(bytes.length, body.contentLength());
+        assertTrue(body.isOneShot());
+        final var sink = new Buffer();
+        body.writeTo(sink);
+        assertArrayEquals(bytes, sink.readByteArray());
+    }
+
     @Test
     @SneakyThrows
     void get_withAlreadyDefinedQuery() {
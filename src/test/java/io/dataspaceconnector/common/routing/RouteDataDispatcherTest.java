@@ -15,28 +15,41 @@
  */
 package io.dataspaceconnector.common.routing;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import io.dataspaceconnector.common.exception.DataDispatchException;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.Message;
 import org.apache.camel.ProducerTemplate;
+import org.apache.camel.spi.ExecutorServiceManager;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
-@SpringBootTest(classes = {RouteDataDispatcher.class})
+@SpringBootTest(classes = {RouteDataDispatcher.class},
+        properties = "artifact.transfer.route-timeout=200")
 class RouteDataDispatcherTest {
 
     @Mock
@@ -54,6 +67,9 @@ class RouteDataDispatcherTest {
     @Autowired
     private RouteDataDispatcher dispatcher;
 
+    @Mock
+    private ExecutorServiceManager executorServiceManager;
+
     private final URI routeId = URI.create("https://" + UUID.randomUUID());
 
     final byte[] data = "data".getBytes(StandardCharsets.UTF_8);
@@ -80,4 +96,143 @@ class RouteDataDispatcherTest {
         assertThrows(DataDispatchException.class, () -> dispatcher.send(routeId, data));
     }
 
+    @Test
+    void send_multipleRoutes_streamDataToAllRoutesAndReturnData() throws Exception {
+        /* ARRANGE */
+        final var received = new ConcurrentLinkedQueue<byte[]>();
+        when(camelContext.getExecutorServiceManager()).thenReturn(executorServiceManager);
+        when(executorServiceManager.newCachedThreadPool(any(), anyString()))
+                .thenReturn(Executors.newCachedThreadPool());
+        when(producerTemplate.send(anyString(), any(Exchange.class))).thenAnswer(invocation -> {
+            final var body = (InputStream) invocation.getArgument(1, Exchange.class)
+                    .getIn().getBody();
+            received.add(body.readAllBytes());
+            return exchange;
+        });
+        when(exchange.getException()).thenReturn(null);
+
+        final var otherRouteId = URI.create("https://" + UUID.randomUUID());
+
+        /* ACT */
+        final var result = dispatcher.send(List.of(routeId, otherRouteId),
+                new ByteArrayInputStream(data));
+
+        /* ASSERT */
+        assertTrue(received.isEmpty());
+        try (result) {
+            assertArrayEquals(data, result.readAllBytes());
+        }
+        assertEquals(2, received.size());
+        received.forEach(bytes -> assertArrayEquals(data, bytes));
+    }
+
+    @Test
+    void send_multipleRoutesWithException_throwIOExceptionAtEndOfData() throws Exception {
+        /* ARRANGE */
+        when(camelContext.getExecutorServiceManager()).thenReturn(executorServiceManager);
+        when(executorServiceManager.newCachedThreadPool(any(), anyString()))
+                .thenReturn(Executors.newCachedThreadPool());
+        when(producerTemplate.send(anyString(), any(Exchange.class))).thenReturn(exchange);
+        when(exchange.getException()).thenReturn(new IllegalArgumentException());
+
+        final var otherRouteId = URI.create("https://" + UUID.randomUUID());
+
+        /* ACT */
+        final var result = dispatcher.send(List.of(routeId, otherRouteId),
+                new ByteArrayInputStream(data));
+
+        /* ASSERT */
+        assertThrows(IOException.class, result::readAllBytes);
+    }
+
+    @Test
+    void send_singleRoute_streamDataToRouteWhileRead() throws Exception {
+        /* ARRANGE */
+        final var received = new ConcurrentLinkedQueue<byte[]>();
+        when(camelContext.getExecutorServiceManager()).thenReturn(executorServiceManager);
+        when(executorServiceManager.newCachedThreadPool(any(), anyString()))
+                .thenReturn(Executors.newCachedThreadPool());
+        when(producerTemplate.send(anyString(), any(Exchange.class))).thenAnswer(invocation -> {
+            final var body = (InputStream) invocation.getArgument(1, Exchange.class)
+                    .getIn().getBody();
+            received.add(body.readAllBytes());
+            return exchange;
+        });
+        when(exchange.getException()).thenReturn(null);
+
+        /* ACT */
+        final var result = dispatcher.send(List.of(routeId), new ByteArrayInputStream(data));
+
+        /* ASSERT */
+        try (result) {
+            assertArrayEquals(data, result.readAllBytes());
+        }
+        assertEquals(1, received.size());
+        assertArrayEquals(data, received.peek());
+    }
+
+    @Test
+    void send_singleRouteClosedBeforeRead_sendAllDataToRoute() throws Exception {
+        /* ARRANGE */
+        final var received = new ConcurrentLinkedQueue<byte[]>();
+        when(camelContext.getExecutorServiceManager()).thenReturn(executorServiceManager);
+        when(executorServiceManager.newCachedThreadPool(any(), anyString()))
+                .thenReturn(Executors.newCachedThreadPool());
+        when(producerTemplate.send(anyString(), any(Exchange.class))).thenAnswer(invocation -> {
+            final var body = (InputStream) invocation.getArgument(1, Exchange.class)
+                    .getIn().getBody();
+            received.add(body.readAllBytes());
+            return exchange;
+        });
+        when(exchange.getException()).thenReturn(null);
+
+        /* ACT */
+        dispatcher.send(List.of(routeId), new ByteArrayInputStream(data)).close();
+
+        /* ASSERT */
+        assertArrayEquals(data, received.peek());
+    }
+
+    @Test
+    void send_singleRouteWithException_throwIOExceptionAtEndOfData() throws Exception {
+        /* ARRANGE */
+        when(camelContext.getExecutorServiceManager()).thenReturn(executorServiceManager);
+        when(executorServiceManager.newCachedThreadPool(any(), anyString()))
+                .thenReturn(Executors.newCachedThreadPool());
+        when(producerTemplate.send(anyString(), any(Exchange.class))).thenReturn(exchange);
+        when(exchange.getException()).thenReturn(new IllegalArgumentException());
+
+        /* ACT */
+        final var result = dispatcher.send(List.of(routeId), new ByteArrayInputStream(data));
+
+        /* ASSERT */
+        assertThrows(IOException.class, result::readAllBytes);
+    }
+
+    @Test
+    void send_dataNotReadInTime_failRoute() throws Exception {
+        /* ARRANGE */
+        final var failed = new CountDownLatch(1);
+        when(camelContext.getExecutorServiceManager()).thenReturn(executorServiceManager);
+        when(executorServiceManager.newCachedThreadPool(any(), anyString()))
+                .thenReturn(Executors.newCachedThreadPool());
+        when(producerTemplate.send(anyString(), any(Exchange.class))).thenAnswer(invocation -> {
+            final var body = (InputStream) invocation.getArgument(1, Exchange.class)
+                    .getIn().getBody();
+            try {
+                body.readAllBytes();
+            } catch (IOException exception) {
+                failed.countDown();
+                throw exception;
+            }
+            return exchange;
+        });
+
+        /* ACT */
+        final var result = dispatcher.send(List.of(routeId), new ByteArrayInputStream(data));
+
+        /* ASSERT */
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+        assertThrows(IOException.class, result::readAllBytes);
+    }
 }
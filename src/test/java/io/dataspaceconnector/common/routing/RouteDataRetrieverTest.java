@@ -15,25 +15,36 @@
  */
 package io.dataspaceconnector.common.routing;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.dataspaceconnector.common.exception.DataRetrievalException;
 import io.dataspaceconnector.common.exception.NotImplemented;
 import lombok.SneakyThrows;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.ExtendedExchange;
 import org.apache.camel.Message;
 import org.apache.camel.ProducerTemplate;
+import org.apache.camel.StreamCache;
+import org.apache.camel.support.SynchronizationAdapter;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
@@ -66,7 +77,8 @@ class RouteDataRetrieverTest {
         when(producerTemplate.send(anyString(), any(Exchange.class))).thenReturn(exchange);
         when(exchange.getIn()).thenReturn(in);
         when(exchange.getException()).thenReturn(null);
-        when(in.getBody(String.class)).thenReturn(response);
+        when(in.getBody()).thenReturn(response);
+        when(in.getBody(byte[].class)).thenReturn(response.getBytes(StandardCharsets.UTF_8));
 
         /* ACT */
         final var result = routeDataRetriever.get(url, null);
@@ -75,6 +87,69 @@ class RouteDataRetrieverTest {
         assertEquals(response, new String(result.getData().readAllBytes()));
     }
 
+    @Test
+    @SneakyThrows
+    void get_binaryBody_returnDataUnchanged() {
+        /* ARRANGE */
+        final var url = new URL("https://" + UUID.randomUUID());
+        final var response = new byte[]{0, -1, -128, 127};
+
+        when(producerTemplate.send(anyString(), any(Exchange.class))).thenReturn(exchange);
+        when(exchange.getIn()).thenReturn(in);
+        when(exchange.getException()).thenReturn(null);
+        when(in.getBody()).thenReturn(response);
+
+        /* ACT */
+        final var result = routeDataRetriever.get(url, null);
+
+        /* ASSERT */
+        assertArrayEquals(response, result.getData().readAllBytes());
+    }
+
+    @Test
+    @SneakyThrows
+    void get_streamBody_returnSpooledData() {
+        /* ARRANGE */
+        final var url = new URL("https://" + UUID.randomUUID());
+        final var response = "Some streamed data".getBytes(StandardCharsets.UTF_8);
+
+        when(producerTemplate.send(anyString(), any(Exchange.class))).thenReturn(exchange);
+        when(exchange.getIn()).thenReturn(in);
+        when(exchange.getException()).thenReturn(null);
+        when(in.getBody()).thenReturn(new ByteArrayInputStream(response));
+
+        /* ACT */
+        final var result = routeDataRetriever.get(url, null);
+
+        /* ASSERT */
+        try (var data = result.getData()) {
+            assertArrayEquals(response, data.readAllBytes());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void get_cachedBody_returnCacheAndReleaseOnClose() {
+        /* ARRANGE */
+        final var url = new URL("https://" + UUID.randomUUID());
+        final var response = "Some cached data".getBytes(StandardCharsets.UTF_8);
+        final var cache = new FileCache(response);
+
+        when(producerTemplate.send(anyString(), any(Exchange.class))).thenReturn(exchange);
+        when(exchange.getIn()).thenReturn(in);
+        when(exchange.getException()).thenReturn(null);
+        when(in.getBody()).thenReturn(cache);
+
+        /* ACT */
+        final var data = routeDataRetriever.get(url, null).getData();
+
+        /* ASSERT */
+        assertArrayEquals(response, data.readAllBytes());
+        assertFalse(cache.released.get());
+        data.close();
+        assertTrue(cache.released.get());
+    }
+
     @Test
     @SneakyThrows
     void get_exceptionInRoute_throwDataRetrievalException() {
@@ -100,4 +175,60 @@ class RouteDataRetrieverTest {
                 () -> routeDataRetriever.get(url, null, new ArrayList<>()));
     }
 
+
+    /**
+     * Cache kept outside of memory, released once all exchanges holding it completed.
+     */
+    private static final class FileCache extends ByteArrayInputStream implements StreamCache {
+
+        private final byte[] bytes;
+
+        private final AtomicBoolean released;
+
+        FileCache(final byte[] data) {
+            this(data, new AtomicBoolean());
+        }
+
+        private FileCache(final byte[] data, final AtomicBoolean flag) {
+            super(data);
+            this.bytes = data;
+            this.released = flag;
+        }
+
+        @Override
+        public void writeTo(final OutputStream os) throws IOException {
+            os.write(bytes);
+        }
+
+        @Override
+        public StreamCache copy(final Exchange exchange) {
+            exchange.adapt(ExtendedExchange.class).addOnCompletion(new SynchronizationAdapter() {
+                @Override
+                public void onDone(final Exchange done) {
+                    released.set(true);
+                }
+            });
+            return new FileCache(bytes, released);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return bytes.length == 0;
+        }
+
+        @Override
+        public boolean inMemory() {
+            return false;
+        }
+
+        @Override
+        public long length() {
+            return bytes.length;
+        }
+
+        @Override
+        public long position() {
+            return pos;
+        }
+    }
 }
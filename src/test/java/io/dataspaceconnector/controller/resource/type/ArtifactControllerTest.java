@@ -27,29 +27,44 @@ import io.dataspaceconnector.repository.AuthenticationRepository;
 import io.dataspaceconnector.repository.DataRepository;
 import io.dataspaceconnector.service.DataRetriever;
 import io.dataspaceconnector.service.MultipartArtifactRetriever;
+import io.dataspaceconnector.service.cache.DownloadMetadataCache;
 import io.dataspaceconnector.common.net.HttpService;
 import io.dataspaceconnector.service.message.SubscriberNotificationService;
 import io.dataspaceconnector.service.resource.relation.ArtifactRouteService;
 import io.dataspaceconnector.service.resource.type.ArtifactService;
+import io.dataspaceconnector.service.storage.FileDataStream;
+import io.dataspaceconnector.service.storage.LocalDataStore;
 import io.dataspaceconnector.service.usagecontrol.DataAccessVerifier;
+import io.dataspaceconnector.service.usagecontrol.ArtifactAccessCounter;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 
-@SpringBootTest(classes = { ArtifactController.class })
+@SpringBootTest(classes = { ArtifactController.class, DownloadMetadataCache.class })
 class ArtifactControllerTest {
 
     @MockBean
@@ -94,6 +109,12 @@ class ArtifactControllerTest {
     @MockBean
     private RouteViewAssembler routeViewAssembler;
 
+    @MockBean
+    private LocalDataStore localDataStore;
+
+    @SpyBean
+    private ArtifactAccessCounter accessCounter;
+
     @SpyBean
     private ArtifactService service;
 
@@ -111,7 +132,7 @@ class ArtifactControllerTest {
         Mockito.doNothing().when(subscriberNotificationService).notifyOnUpdate(any());
 
         /* ACT */
-        final var result = controller.putData(artifactId, data);
+        final var result = controller.putData(artifactId, new ByteArrayInputStream(data));
 
         /* ASSERT */
         assertEquals(HttpStatus.NO_CONTENT.value(), result.getStatusCode().value());
@@ -138,6 +159,85 @@ class ArtifactControllerTest {
         assertEquals(HttpStatus.OK.value(), result.getStatusCode().value());
     }
 
+    @Test
+    public void getData_knownEntityTag_returnNotModifiedWithoutAccess() throws IOException {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        mockArtifact(artifactId, 4);
+
+        final var request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"1-4\"");
+
+        /* ACT */
+        final var result = controller.getData(artifactId, null, null, null, Map.of(),
+                new HashMap<>(), request);
+
+        /* ASSERT */
+        assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+        Mockito.verify(service, Mockito.never())
+                .getData(any(), any(), any(), any(QueryInput.class), any());
+        Mockito.verify(accessCounter, Mockito.never()).open(any());
+    }
+
+    @Test
+    public void getData_unsatisfiableRange_returnRangeNotSatisfiableWithoutAccess()
+            throws IOException {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        mockArtifact(artifactId, 4);
+
+        final var request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-20");
+
+        /* ACT */
+        final var result = controller.getData(artifactId, null, null, null, Map.of(),
+                new HashMap<>(), request);
+
+        /* ASSERT */
+        assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, result.getStatusCode());
+        Mockito.verify(service, Mockito.never())
+                .getData(any(), any(), any(), any(QueryInput.class), any());
+        Mockito.verify(accessCounter, Mockito.never()).open(any());
+    }
+
+    @Test
+    public void getData_range_returnPartialContentCountedAsAccess(@TempDir final Path dir)
+            throws IOException {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        mockArtifact(artifactId, 4);
+
+        final var file = Files.write(dir.resolve("data"), new byte[]{0, 1, 2, 3});
+        Mockito.doReturn(new FileDataStream(FileChannel.open(file))).when(service)
+                .getData(any(), any(), eq(artifactId), any(QueryInput.class), any());
+
+        final var request = new MockHttpServletRequest();
+        request.setRequestURI("/api/artifacts/" + artifactId + "/data");
+        request.addHeader(HttpHeaders.RANGE, "bytes=1-2");
+
+        /* ACT */
+        final var result = controller.getData(artifactId, null, null, null, Map.of(),
+                new HashMap<>(), request);
+
+        /* ASSERT */
+        assertEquals(HttpStatus.PARTIAL_CONTENT, result.getStatusCode());
+        assertEquals("bytes 1-2/4", result.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        Mockito.verify(service, Mockito.times(1))
+                .getData(any(), any(), eq(artifactId), any(QueryInput.class), any());
+
+        final var output = new ByteArrayOutputStream();
+        result.getBody().writeTo(output);
+        assertArrayEquals(new byte[]{1, 2}, output.toByteArray());
+    }
+
+    private void mockArtifact(final UUID artifactId, final long size) {
+        final var artifact = Mockito.mock(Artifact.class);
+        Mockito.doReturn(size).when(artifact).getByteSize();
+        Mockito.doReturn(1L).when(artifact).getCheckSum();
+        Mockito.doReturn(List.of()).when(artifact).getRepresentations();
+        Mockito.doReturn(artifact).when(service).get(artifactId);
+    }
+
     //    @Test
 //    public void getData_null_throwIllegalArgumentException() {
 //        /* ARRANGE */
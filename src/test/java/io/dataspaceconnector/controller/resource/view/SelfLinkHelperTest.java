@@ -20,11 +20,15 @@ import java.util.UUID;
 import io.dataspaceconnector.controller.resource.type.ArtifactController;
 import io.dataspaceconnector.controller.resource.view.util.SelfLinkHelper;
 import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 
 public class SelfLinkHelperTest {
 
@@ -82,4 +86,28 @@ public class SelfLinkHelperTest {
         assertEquals(baseUrl + path + "/" + resourceId, result.getHref());
         assertEquals("self", result.getRel().value());
     }
+
+    @Test
+    public void getSelfLink_withinRequest_returnSelfLinkOfRequestHost() {
+        /* ARRANGE */
+        final var resourceId = UUID.randomUUID();
+        final var request = new MockHttpServletRequest();
+        request.setScheme("https");
+        request.setServerName("connector.example.org");
+        request.setServerPort(443);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        helper.setBaseUrl("https://localhost:8080");
+
+        try {
+            /* ACT */
+            final var result = helper.getSelfLink(resourceId, ArtifactController.class);
+
+            /* ASSERT */
+            final var expected = linkTo(ArtifactController.class).slash(resourceId).withSelfRel();
+            assertEquals(expected.getHref(), result.getHref());
+            assertEquals("self", result.getRel().value());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
 }
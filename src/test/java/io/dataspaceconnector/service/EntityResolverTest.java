@@ -29,6 +29,7 @@ import ids.messaging.util.IdsMessageUtils;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.exception.InvalidResourceException;
 import io.dataspaceconnector.common.ids.mapping.ToIdsObjectMapper;
+import io.dataspaceconnector.controller.resource.view.util.SelfLinkHelper;
 import io.dataspaceconnector.model.agreement.Agreement;
 import io.dataspaceconnector.model.artifact.Artifact;
 import io.dataspaceconnector.model.artifact.ArtifactImpl;
@@ -43,6 +44,8 @@ import io.dataspaceconnector.model.rule.ContractRule;
 import io.dataspaceconnector.common.ids.DeserializationService;
 import io.dataspaceconnector.service.resource.ids.builder.IdsArtifactBuilder;
 import io.dataspaceconnector.service.resource.ids.builder.IdsCatalogBuilder;
+import io.dataspaceconnector.service.cache.DeserializationCache;
+import io.dataspaceconnector.service.cache.IdsDescriptionCache;
 import io.dataspaceconnector.service.resource.ids.builder.IdsContractBuilder;
 import io.dataspaceconnector.service.resource.ids.builder.IdsRepresentationBuilder;
 import io.dataspaceconnector.service.resource.ids.builder.IdsResourceBuilder;
@@ -78,7 +81,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
-@SpringBootTest(classes = {EntityResolver.class})
+@SpringBootTest(classes = {EntityResolver.class, DeserializationCache.class,
+        IdsDescriptionCache.class})
 public class EntityResolverTest {
 
     @MockBean
@@ -129,6 +133,9 @@ public class EntityResolverTest {
     @MockBean
     private DeserializationService deserializationService;
 
+    @MockBean(name = "utilSelfLinkHelper")
+    private SelfLinkHelper selfLinkHelper;
+
     @Autowired
     private EntityResolver resolver;
 
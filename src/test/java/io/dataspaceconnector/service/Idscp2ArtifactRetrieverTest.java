@@ -25,6 +25,7 @@ import de.fraunhofer.iais.eis.TokenFormat;
 import de.fraunhofer.iais.eis.util.Util;
 import ids.messaging.util.IdsMessageUtils;
 import io.dataspaceconnector.model.artifact.ArtifactImpl;
+import io.dataspaceconnector.service.message.handler.dto.DataResponse;
 import io.dataspaceconnector.service.message.handler.dto.Response;
 import io.dataspaceconnector.service.resource.type.ArtifactService;
 import lombok.SneakyThrows;
@@ -39,6 +40,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.util.Base64Utils;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -92,6 +94,26 @@ class Idscp2ArtifactRetrieverTest {
         assertEquals(data, Base64Utils.encodeToString(result.readAllBytes()));
     }
 
+    @Test
+    @SneakyThrows
+    void retrieve_binaryResponse_returnDataUnchanged() {
+        /* ARRANGE */
+        final var artifact = new ArtifactImpl();
+        final var data = new byte[]{0, 1, -1, 127};
+        final var response = new DataResponse(getHeader(), data);
+
+        when(artifactService.get(any())).thenReturn(artifact);
+        when(producerTemplate.send(anyString(), any(Exchange.class))).thenReturn(exchange);
+        when(exchange.getIn()).thenReturn(in);
+        when(in.getBody(Response.class)).thenReturn(response);
+
+        /* ACT */
+        final var result = retriever.retrieve(UUID.randomUUID(), uri, uri);
+
+        /* ASSERT */
+        assertArrayEquals(data, result.readAllBytes());
+    }
+
     private ArtifactResponseMessage getHeader() {
         return new ArtifactResponseMessageBuilder()
                 ._securityToken_(new DynamicAttributeTokenBuilder()
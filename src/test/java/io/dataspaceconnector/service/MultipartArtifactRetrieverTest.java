@@ -17,7 +17,10 @@ package io.dataspaceconnector.service;
 
 import de.fraunhofer.iais.eis.RejectionReason;
 import io.dataspaceconnector.common.exception.DataRetrievalException;
+import io.dataspaceconnector.common.exception.ErrorMessage;
+import io.dataspaceconnector.common.exception.MessageException;
 import io.dataspaceconnector.common.exception.UnexpectedResponseException;
+import io.dataspaceconnector.common.net.ByteRange;
 import io.dataspaceconnector.config.ConnectorConfig;
 import io.dataspaceconnector.model.artifact.Artifact;
 import io.dataspaceconnector.model.artifact.ArtifactImpl;
@@ -33,18 +36,30 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.Base64Utils;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32C;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest(classes = {MultipartArtifactRetriever.class})
 public class MultipartArtifactRetrieverTest {
 
+    private static final UUID TRANSFER_ID = UUID.randomUUID();
+
     @MockBean
     private ArtifactRequestService messageService;
 
@@ -132,6 +147,176 @@ public class MultipartArtifactRetrieverTest {
                 .retrieve(artifactId, recipient, transferContract, null));
     }
 
+    @Test
+    @SneakyThrows
+    public void retrieve_chunked_returnDataOfAllRanges() {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        final var recipient = URI.create("https://recipient.com");
+        final var transferContract = URI.create("https://contract.com");
+        final var artifact = getArtifact();
+        final var data = "SOME DATA IN RANGES".getBytes(StandardCharsets.UTF_8);
+
+        ReflectionTestUtils.setField(multipartArtifactRetriever, "chunkSize", 4L);
+        when(artifactService.get(artifactId)).thenReturn(artifact);
+        when(messageService.sendMessage(eq(recipient), eq(artifact.getRemoteId()),
+                eq(transferContract), any(), any())).thenAnswer(invocation ->
+                getRangeResponse(data, invocation.getArgument(4), false));
+
+        /* ACT */
+        final var result = multipartArtifactRetriever.retrieve(
+                artifactId, recipient, transferContract, null);
+
+        /* ASSERT */
+        assertArrayEquals(data, result.readAllBytes());
+        ReflectionTestUtils.setField(multipartArtifactRetriever, "chunkSize", 0L);
+    }
+
+    @Test
+    @SneakyThrows
+    public void retrieve_chunkedWithFailure_resumeAtFailedRange() {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        final var recipient = URI.create("https://recipient.com");
+        final var transferContract = URI.create("https://contract.com");
+        final var artifact = getArtifact();
+        final var data = "SOME DATA IN RANGES".getBytes(StandardCharsets.UTF_8);
+        final var failed = new AtomicBoolean();
+        final var corrupted = new AtomicBoolean();
+
+        ReflectionTestUtils.setField(multipartArtifactRetriever, "chunkSize", 4L);
+        when(artifactService.get(artifactId)).thenReturn(artifact);
+        when(messageService.sendMessage(eq(recipient), eq(artifact.getRemoteId()),
+                eq(transferContract), any(), any())).thenAnswer(invocation -> {
+            final ByteRange range = invocation.getArgument(4);
+            if (range.getStart() == 8 && !failed.getAndSet(true)) {
+                throw new MessageException(ErrorMessage.MESSAGE_HANDLING_FAILED,
+                        new IOException("Connection lost."));
+            }
+            final var corrupt = range.getStart() == 12 && !corrupted.getAndSet(true);
+            return getRangeResponse(data, range, corrupt);
+        });
+
+        /* ACT */
+        final var result = multipartArtifactRetriever.retrieve(
+                artifactId, recipient, transferContract, null);
+
+        /* ASSERT */
+        assertArrayEquals(data, result.readAllBytes());
+        ReflectionTestUtils.setField(multipartArtifactRetriever, "chunkSize", 0L);
+    }
+
+    @Test
+    @SneakyThrows
+    public void retrieve_chunked_requestFurtherRangesOfTransfer() {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        final var recipient = URI.create("https://recipient.com");
+        final var transferContract = URI.create("https://contract.com");
+        final var artifact = getArtifact();
+        final var data = "SOME DATA IN RANGES".getBytes(StandardCharsets.UTF_8);
+        final var ranges = new ArrayList<ByteRange>();
+
+        ReflectionTestUtils.setField(multipartArtifactRetriever, "chunkSize", 8L);
+        when(artifactService.get(artifactId)).thenReturn(artifact);
+        when(messageService.sendMessage(eq(recipient), eq(artifact.getRemoteId()),
+                eq(transferContract), any(), any())).thenAnswer(invocation -> {
+            ranges.add(invocation.getArgument(4));
+            return getRangeResponse(data, invocation.getArgument(4), false);
+        });
+
+        /* ACT */
+        final var result = multipartArtifactRetriever.retrieve(
+                artifactId, recipient, transferContract, null);
+        result.readAllBytes();
+
+        /* ASSERT */
+        assertEquals(List.of(new ByteRange(0, 8, null), new ByteRange(8, 8, TRANSFER_ID),
+                new ByteRange(16, 8, TRANSFER_ID)), ranges);
+        ReflectionTestUtils.setField(multipartArtifactRetriever, "chunkSize", 0L);
+    }
+
+    @Test
+    @SneakyThrows
+    public void retrieve_chunkedDataChanged_throwIOException() {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        final var recipient = URI.create("https://recipient.com");
+        final var transferContract = URI.create("https://contract.com");
+        final var artifact = getArtifact();
+        final var data = "SOME DATA IN RANGES".getBytes(StandardCharsets.UTF_8);
+        final var changed = "SOME DATA CHANGED!!".getBytes(StandardCharsets.UTF_8);
+
+        ReflectionTestUtils.setField(multipartArtifactRetriever, "chunkSize", 8L);
+        when(artifactService.get(artifactId)).thenReturn(artifact);
+        when(messageService.sendMessage(eq(recipient), eq(artifact.getRemoteId()),
+                eq(transferContract), any(), any())).thenAnswer(invocation -> {
+            final ByteRange range = invocation.getArgument(4);
+            return getRangeResponse(range.getStart() == 0 ? data : changed, range, false);
+        });
+
+        /* ACT */
+        final var result = multipartArtifactRetriever.retrieve(
+                artifactId, recipient, transferContract, null);
+
+        /* ASSERT */
+        assertThrows(IOException.class, result::readAllBytes);
+        ReflectionTestUtils.setField(multipartArtifactRetriever, "chunkSize", 0L);
+    }
+
+    @Test
+    @SneakyThrows
+    public void retrieve_chunkedFirstRangeFails_throwDataRetrievalException() {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        final var recipient = URI.create("https://recipient.com");
+        final var transferContract = URI.create("https://contract.com");
+        final var artifact = getArtifact();
+
+        ReflectionTestUtils.setField(multipartArtifactRetriever, "chunkSize", 8L);
+        when(artifactService.get(artifactId)).thenReturn(artifact);
+        when(messageService.sendMessage(eq(recipient), eq(artifact.getRemoteId()),
+                eq(transferContract), any(), any()))
+                .thenThrow(new MessageException(ErrorMessage.MESSAGE_HANDLING_FAILED,
+                        new IOException("Connection lost.")));
+
+        /* ACT && ASSERT */
+        assertThrows(DataRetrievalException.class, () -> multipartArtifactRetriever
+                .retrieve(artifactId, recipient, transferContract, null));
+        ReflectionTestUtils.setField(multipartArtifactRetriever, "chunkSize", 0L);
+    }
+
+    @Test
+    @SneakyThrows
+    public void retrieve_chunkedRangeRejected_requestAllData() {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        final var recipient = URI.create("https://recipient.com");
+        final var transferContract = URI.create("https://contract.com");
+        final var artifact = getArtifact();
+        final var data = "SOME DATA IN RANGES".getBytes(StandardCharsets.UTF_8);
+        final var response = new HashMap<String, String>();
+        response.put("payload", Base64Utils.encodeToString(data));
+
+        ReflectionTestUtils.setField(multipartArtifactRetriever, "chunkSize", 8L);
+        when(artifactService.get(artifactId)).thenReturn(artifact);
+        when(messageService.sendMessage(eq(recipient), eq(artifact.getRemoteId()),
+                eq(transferContract), any(), any()))
+                .thenThrow(new UnexpectedResponseException(new HashMap<>() {{
+                    put("reason", RejectionReason.BAD_PARAMETERS);
+                }}));
+        when(messageService.sendMessage(recipient, artifact.getRemoteId(), transferContract,
+                null)).thenReturn(response);
+
+        /* ACT */
+        final var result = multipartArtifactRetriever.retrieve(
+                artifactId, recipient, transferContract, null);
+
+        /* ASSERT */
+        assertArrayEquals(data, result.readAllBytes());
+        ReflectionTestUtils.setField(multipartArtifactRetriever, "chunkSize", 0L);
+    }
+
     /***********************************************************************************************
      * Utilities.                                                                                  *
      **********************************************************************************************/
@@ -141,4 +326,27 @@ public class MultipartArtifactRetrieverTest {
         ReflectionTestUtils.setField(artifact, "remoteId", URI.create("https://artifact.com"));
         return artifact;
     }
+
+    private Map<String, String> getRangeResponse(final byte[] data, final ByteRange query,
+                                                 final boolean corrupt) {
+        final var start = (int) Math.min(query.getStart(), data.length);
+        final var end = (int) Math.min(start + query.getLength(), data.length);
+        final var range = Arrays.copyOfRange(data, start, end);
+        final var payload = corrupt ? new byte[range.length] : range;
+
+        final var response = new HashMap<String, String>();
+        response.put("header", "{\"" + ByteRange.CHUNK_CHECKSUM_PROPERTY + "\": \""
+                + getCheckSum(range) + "\", \"" + ByteRange.DATA_CHECKSUM_PROPERTY + "\": \""
+                + getCheckSum(data) + "\", \"" + ByteRange.DATA_LENGTH_PROPERTY + "\": \""
+                + data.length + "\", \"" + ByteRange.TRANSFER_PROPERTY + "\": \""
+                + TRANSFER_ID + "\"}");
+        response.put("payload", Base64Utils.encodeToString(payload));
+        return response;
+    }
+
+    private static long getCheckSum(final byte[] data) {
+        final var checkSum = new CRC32C();
+        checkSum.update(data);
+        return checkSum.getValue();
+    }
 }
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.cache;
+
+import io.dataspaceconnector.common.net.HttpResponse;
+import io.dataspaceconnector.common.net.QueryInput;
+import io.dataspaceconnector.model.artifact.RemoteData;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class BackendResponseCacheTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<QueryInput> requests = new ArrayList<>();
+
+    @Test
+    @SneakyThrows
+    void get_cacheDisabled_alwaysFetch() {
+        /* ARRANGE */
+        final var cache = new BackendResponseCache(false, 60000, 1024, 1024, 1024, "");
+        final var data = getRemoteData();
+
+        /* ACT */
+        read(cache.get(data, new QueryInput(), ok("value", Map.of())));
+        read(cache.get(data, new QueryInput(), ok("value", Map.of())));
+
+        /* ASSERT */
+        assertEquals(2, requests.size());
+    }
+
+    @Test
+    @SneakyThrows
+    void get_freshResponse_serveFromCache() {
+        /* ARRANGE */
+        final var cache = new BackendResponseCache(true, 60000, 1024, 1024, 1024,
+                directory.toString());
+        final var data = getRemoteData();
+
+        /* ACT */
+        final var first = read(cache.get(data, new QueryInput(), ok("value", Map.of())));
+        final var second = read(cache.get(data, new QueryInput(), ok("other", Map.of())));
+
+        /* ASSERT */
+        assertEquals("value", first);
+        assertEquals("value", second);
+        assertEquals(1, requests.size());
+    }
+
+    @Test
+    @SneakyThrows
+    void get_responseNotReadToEnd_doNotCache() {
+        /* ARRANGE */
+        final var cache = new BackendResponseCache(true, 60000, 1024, 1024, 1024,
+                directory.toString());
+        final var data = getRemoteData();
+
+        /* ACT */
+        cache.get(data, new QueryInput(), ok("value", Map.of())).close();
+        final var result = read(cache.get(data, new QueryInput(), ok("other", Map.of())));
+
+        /* ASSERT */
+        assertEquals("other", result);
+        assertEquals(2, requests.size());
+    }
+
+    @Test
+    @SneakyThrows
+    void get_staleResponseNotModified_revalidateWithEntityTag() {
+        /* ARRANGE */
+        final var cache = new BackendResponseCache(true, 0, 1024, 1024, 1024,
+                directory.toString());
+        final var data = getRemoteData();
+        read(cache.get(data, new QueryInput(), ok("value", Map.of("etag", "\"1\""))));
+
+        /* ACT */
+        final var result = read(cache.get(data, new QueryInput(), query -> {
+            requests.add(query);
+            return new HttpResponse(304, InputStream.nullInputStream());
+        }));
+
+        /* ASSERT */
+        assertEquals("value", result);
+        assertEquals("\"1\"", requests.get(1).getHeaders().get("If-None-Match"));
+    }
+
+    @Test
+    @SneakyThrows
+    void get_staleResponseModified_replaceEntry() {
+        /* ARRANGE */
+        final var cache = new BackendResponseCache(true, 0, 1024, 1024, 1024,
+                directory.toString());
+        final var data = getRemoteData();
+        read(cache.get(data, new QueryInput(), ok("value", Map.of("etag", "\"1\""))));
+
+        /* ACT */
+        final var result = read(cache.get(data, new QueryInput(),
+                ok("other", Map.of("etag", "\"2\""))));
+
+        /* ASSERT */
+        assertEquals("other", result);
+    }
+
+    @Test
+    @SneakyThrows
+    void get_staleResponseWithoutValidator_fetchUnconditionally() {
+        /* ARRANGE */
+        final var cache = new BackendResponseCache(true, 0, 1024, 1024, 1024,
+                directory.toString());
+        final var data = getRemoteData();
+        read(cache.get(data, new QueryInput(), ok("value", Map.of())));
+
+        /* ACT */
+        final var result = read(cache.get(data, new QueryInput(), ok("other", Map.of())));
+
+        /* ASSERT */
+        assertEquals("other", result);
+        assertNull(requests.get(1).getHeaders().get("If-None-Match"));
+    }
+
+    @Test
+    @SneakyThrows
+    void get_noStore_doNotCache() {
+        /* ARRANGE */
+        final var cache = new BackendResponseCache(true, 60000, 1024, 1024, 1024,
+                directory.toString());
+        final var data = getRemoteData();
+
+        /* ACT */
+        read(cache.get(data, new QueryInput(), ok("value", Map.of("cache-control", "no-store"))));
+        read(cache.get(data, new QueryInput(), ok("value", Map.of())));
+
+        /* ASSERT */
+        assertEquals(2, requests.size());
+    }
+
+    @Test
+    @SneakyThrows
+    void get_memoryLimitExceeded_evictLeastRecentlyUsed() {
+        /* ARRANGE */
+        final var cache = new BackendResponseCache(true, 60000, 10, 0, 10,
+                directory.toString());
+        final var first = getRemoteData();
+        final var second = getRemoteData();
+        read(cache.get(first, new QueryInput(), ok("12345", Map.of())));
+
+        /* ACT */
+        read(cache.get(second, new QueryInput(), ok("123456", Map.of())));
+        final var result = read(cache.get(first, new QueryInput(), ok("other", Map.of())));
+
+        /* ASSERT */
+        assertEquals("other", result);
+        assertEquals(3, requests.size());
+    }
+
+    @Test
+    @SneakyThrows
+    void get_largeResponse_keepOnDisk() {
+        /* ARRANGE */
+        final var cache = new BackendResponseCache(true, 60000, 4, 1024, 4,
+                directory.toString());
+        final var data = getRemoteData();
+
+        /* ACT */
+        read(cache.get(data, new QueryInput(), ok("value", Map.of())));
+        final var result = read(cache.get(data, new QueryInput(), ok("other", Map.of())));
+
+        /* ASSERT */
+        assertEquals("value", result);
+        assertEquals(1, requests.size());
+    }
+
+    @Test
+    @SneakyThrows
+    void getKey_sameQueryInDifferentOrder_sameKey() {
+        /* ARRANGE */
+        final var data = getRemoteData();
+        final var query = new QueryInput();
+        query.getHeaders().put("Accept", "text/plain");
+        query.getParams().put("a", "1");
+        query.getParams().put("b", "2");
+        final var other = new QueryInput();
+        other.getParams().put("b", "2");
+        other.getParams().put("a", "1");
+        other.getHeaders().put("accept", "text/plain");
+
+        /* ACT && ASSERT */
+        assertEquals(BackendResponseCache.getKey(data, query),
+                BackendResponseCache.getKey(data, other));
+        other.getParams().put("c", "3");
+        assertNotEquals(BackendResponseCache.getKey(data, query),
+                BackendResponseCache.getKey(data, other));
+    }
+
+    private BackendResponseCache.Fetcher ok(final String body, final Map<String, String> headers) {
+        return query -> {
+            requests.add(query);
+            return new HttpResponse(200, new ByteArrayInputStream(
+                    body.getBytes(StandardCharsets.UTF_8)), headers);
+        };
+    }
+
+    @SneakyThrows
+    private static String read(final InputStream data) {
+        try (data) {
+            return new String(data.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @SneakyThrows
+    private static RemoteData getRemoteData() {
+        final var data = new RemoteData();
+        ReflectionTestUtils.setField(data, "id", new Random().nextLong());
+        ReflectionTestUtils.setField(data, "accessUrl",
+                new URL("http://backend/" + UUID.randomUUID()));
+        return data;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import de.fraunhofer.iais.eis.DynamicAttributeToken;
+import de.fraunhofer.iais.eis.DynamicAttributeTokenBuilder;
+import de.fraunhofer.iais.eis.TokenFormat;
+import ids.messaging.core.daps.DapsConnectionException;
+import ids.messaging.core.daps.DapsTokenProvider;
+import io.dataspaceconnector.model.configuration.Configuration;
+import io.dataspaceconnector.service.resource.base.EntityChangedEvent;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DatCacheTest {
+
+    private final DapsTokenProvider tokenProvider = Mockito.mock(DapsTokenProvider.class);
+
+    private final DatCache cache = new DatCache(tokenProvider, true, 1000, 60000, 60000);
+
+    @AfterEach
+    void shutdown() {
+        cache.shutdown();
+    }
+
+    @Test
+    @SneakyThrows
+    void getDat_validToken_fetchOnce() {
+        /* ARRANGE */
+        final var token = getToken(System.currentTimeMillis() / 1000 + 3600);
+        when(tokenProvider.getDAT()).thenReturn(token);
+
+        /* ACT */
+        cache.getDat();
+        final var result = cache.getDat();
+
+        /* ASSERT */
+        assertSame(token, result);
+        verify(tokenProvider, times(1)).getDAT();
+    }
+
+    @Test
+    @SneakyThrows
+    void getDat_expiredToken_fetchAgain() {
+        /* ARRANGE */
+        final var token = getToken(System.currentTimeMillis() / 1000 - 10);
+        when(tokenProvider.getDAT()).thenReturn(token);
+
+        /* ACT */
+        cache.getDat();
+        cache.getDat();
+
+        /* ASSERT */
+        verify(tokenProvider, times(2)).getDAT();
+    }
+
+    @Test
+    @SneakyThrows
+    void hasDat_dapsUnreachable_returnFalseWithoutRetrying() {
+        /* ARRANGE */
+        when(tokenProvider.getDAT()).thenThrow(DapsConnectionException.class);
+
+        /* ACT */
+        final var first = cache.hasDat();
+        final var second = cache.hasDat();
+
+        /* ASSERT */
+        assertFalse(first);
+        assertFalse(second);
+        verify(tokenProvider, times(1)).getDAT();
+    }
+
+    @Test
+    @SneakyThrows
+    void getDat_dapsUnreachable_returnNullWithoutRetrying() {
+        /* ARRANGE */
+        when(tokenProvider.getDAT()).thenThrow(DapsConnectionException.class);
+
+        /* ACT */
+        final var first = cache.getDat();
+        final var second = cache.getDat();
+
+        /* ASSERT */
+        assertNull(first);
+        assertNull(second);
+        verify(tokenProvider, times(1)).getDAT();
+    }
+
+    @Test
+    @SneakyThrows
+    void getDat_concurrentCallsWhileDapsTimesOut_fetchOnce() {
+        /* ARRANGE */
+        when(tokenProvider.getDAT()).thenAnswer(invocation -> {
+            // The DAPS times out without a token.
+            Thread.sleep(200);
+            return null;
+        });
+        final var executor = Executors.newFixedThreadPool(8);
+
+        /* ACT */
+        for (int i = 0; i < 8; i++) {
+            executor.execute(cache::getDat);
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        /* ASSERT */
+        verify(tokenProvider, times(1)).getDAT();
+    }
+
+    @Test
+    @SneakyThrows
+    void hasDat_validToken_returnTrueWithoutFetching() {
+        /* ARRANGE */
+        when(tokenProvider.getDAT()).thenReturn(getToken(System.currentTimeMillis() / 1000 + 3600));
+        cache.getDat();
+
+        /* ACT */
+        final var result = cache.hasDat();
+
+        /* ASSERT */
+        assertTrue(result);
+        verify(tokenProvider, times(1)).getDAT();
+    }
+
+    @Test
+    @SneakyThrows
+    void handleEntityChange_configurationChanged_fetchAgain() {
+        /* ARRANGE */
+        when(tokenProvider.getDAT()).thenReturn(getToken(System.currentTimeMillis() / 1000 + 3600));
+        cache.getDat();
+
+        /* ACT */
+        cache.handleEntityChange(new EntityChangedEvent(new Configuration()));
+        cache.getDat();
+
+        /* ASSERT */
+        verify(tokenProvider, times(2)).getDAT();
+    }
+
+    @Test
+    @SneakyThrows
+    void getDat_unreadableToken_keepForFallbackTtl() {
+        /* ARRANGE */
+        final var token = new DynamicAttributeTokenBuilder()
+                ._tokenFormat_(TokenFormat.OTHER)
+                ._tokenValue_("token")
+                .build();
+        when(tokenProvider.getDAT()).thenReturn(token);
+
+        /* ACT */
+        cache.getDat();
+        final var result = cache.getDat();
+
+        /* ASSERT */
+        assertSame(token, result);
+        verify(tokenProvider, times(1)).getDAT();
+    }
+
+    @Test
+    @SneakyThrows
+    void getDat_disabled_fetchEveryTime() {
+        /* ARRANGE */
+        final var disabled = new DatCache(tokenProvider, false, 1000, 60000, 60000);
+        when(tokenProvider.getDAT()).thenReturn(null);
+
+        /* ACT */
+        final var result = disabled.getDat();
+        disabled.getDat();
+
+        /* ASSERT */
+        assertNull(result);
+        verify(tokenProvider, times(2)).getDAT();
+        disabled.shutdown();
+    }
+
+    private static DynamicAttributeToken getToken(final long exp) {
+        final var encoder = Base64.getUrlEncoder().withoutPadding();
+        final var header = encoder.encodeToString("{\"alg\":\"none\"}"
+                .getBytes(StandardCharsets.UTF_8));
+        final var payload = encoder.encodeToString(("{\"exp\":" + exp + "}")
+                .getBytes(StandardCharsets.UTF_8));
+        return new DynamicAttributeTokenBuilder()
+                ._tokenFormat_(TokenFormat.JWT)
+                ._tokenValue_(header + "." + payload + ".")
+                .build();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.cache;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import de.fraunhofer.iais.eis.ContractAgreement;
+import de.fraunhofer.iais.eis.Rule;
+import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.model.agreement.Agreement;
+import io.dataspaceconnector.model.rule.ContractRule;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DeserializationCacheTest {
+
+    private final DeserializationService deserializationService =
+            Mockito.mock(DeserializationService.class);
+
+    private final DeserializationCache cache = new DeserializationCache(deserializationService, 1);
+
+    @Test
+    void getContractAgreement_unchangedAgreement_deserializeOnce() {
+        /* ARRANGE */
+        final var agreement = getAgreement(UUID.randomUUID(), ZonedDateTime.now());
+        final var idsAgreement = Mockito.mock(ContractAgreement.class);
+        when(deserializationService.getContractAgreement("value")).thenReturn(idsAgreement);
+
+        /* ACT */
+        cache.getContractAgreement(agreement);
+        final var result = cache.getContractAgreement(agreement);
+
+        /* ASSERT */
+        assertSame(idsAgreement, result);
+        verify(deserializationService, times(1)).getContractAgreement("value");
+    }
+
+    @Test
+    void getContractAgreement_modifiedAgreement_deserializeAgain() {
+        /* ARRANGE */
+        final var id = UUID.randomUUID();
+        final var date = ZonedDateTime.now();
+        cache.getContractAgreement(getAgreement(id, date));
+
+        /* ACT */
+        cache.getContractAgreement(getAgreement(id, date.plusSeconds(1)));
+
+        /* ASSERT */
+        verify(deserializationService, times(2)).getContractAgreement("value");
+    }
+
+    @Test
+    void getContractAgreement_notPersisted_deserializeEveryTime() {
+        /* ARRANGE */
+        final var agreement = getAgreement(null, null);
+
+        /* ACT */
+        cache.getContractAgreement(agreement);
+        cache.getContractAgreement(agreement);
+
+        /* ASSERT */
+        verify(deserializationService, times(2)).getContractAgreement("value");
+    }
+
+    @Test
+    void getRule_sizeExceeded_evictLeastRecentlyUsed() {
+        /* ARRANGE */
+        final var first = getRule(UUID.randomUUID());
+        final var second = getRule(UUID.randomUUID());
+        when(deserializationService.getRule("value")).thenReturn(Mockito.mock(Rule.class));
+
+        /* ACT */
+        cache.getRule(first);
+        cache.getRule(second);
+        cache.getRule(first);
+
+        /* ASSERT */
+        verify(deserializationService, times(3)).getRule("value");
+    }
+
+    private static Agreement getAgreement(final UUID id, final ZonedDateTime date) {
+        final var agreement = new Agreement();
+        ReflectionTestUtils.setField(agreement, "id", id);
+        ReflectionTestUtils.setField(agreement, "modificationDate", date);
+        ReflectionTestUtils.setField(agreement, "value", "value");
+        return agreement;
+    }
+
+    private static ContractRule getRule(final UUID id) {
+        final var rule = new ContractRule();
+        ReflectionTestUtils.setField(rule, "id", id);
+        ReflectionTestUtils.setField(rule, "modificationDate", ZonedDateTime.now());
+        ReflectionTestUtils.setField(rule, "value", "value");
+        return rule;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import io.dataspaceconnector.common.exception.ResourceNotFoundException;
+import io.dataspaceconnector.model.artifact.Artifact;
+import io.dataspaceconnector.model.artifact.ArtifactImpl;
+import io.dataspaceconnector.model.representation.Representation;
+import io.dataspaceconnector.service.resource.base.EntityChangedEvent;
+import io.dataspaceconnector.service.resource.type.ArtifactService;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DownloadMetadataCacheTest {
+
+    private final ArtifactService artifactService = Mockito.mock(ArtifactService.class);
+
+    private final DownloadMetadataCache cache = new DownloadMetadataCache(artifactService, 10);
+
+    @Test
+    void get_cachedArtifact_loadOnce() {
+        /* ARRANGE */
+        final var artifact = getArtifact("text/plain");
+        Mockito.when(artifactService.get(artifact.getId())).thenReturn(artifact);
+
+        /* ACT */
+        final var first = cache.get(artifact.getId());
+        final var second = cache.get(artifact.getId());
+
+        /* ASSERT */
+        assertSame(first, second);
+        assertEquals(MediaType.TEXT_PLAIN, first.getMediaType());
+        assertEquals("\"" + Long.toHexString(42) + "-" + Long.toHexString(7) + "\"",
+                first.getEntityTag());
+        assertEquals("attachment;filename=" + artifact.getId(), first.getContentDisposition());
+        Mockito.verify(artifactService, Mockito.times(1)).get(artifact.getId());
+    }
+
+    @Test
+    void get_noOrInvalidMediaType_returnOctetStream() {
+        /* ARRANGE */
+        final var none = getArtifact(null);
+        final var invalid = getArtifact("not a media type");
+        Mockito.when(artifactService.get(none.getId())).thenReturn(none);
+        Mockito.when(artifactService.get(invalid.getId())).thenReturn(invalid);
+
+        /* ACT && ASSERT */
+        assertEquals(MediaType.APPLICATION_OCTET_STREAM, cache.get(none.getId()).getMediaType());
+        assertEquals(MediaType.APPLICATION_OCTET_STREAM,
+                cache.get(invalid.getId()).getMediaType());
+    }
+
+    @Test
+    void get_unknownArtifact_throwResourceNotFoundException() {
+        /* ARRANGE */
+        final var id = UUID.randomUUID();
+        Mockito.when(artifactService.get(id)).thenThrow(ResourceNotFoundException.class);
+
+        /* ACT && ASSERT */
+        assertThrows(ResourceNotFoundException.class, () -> cache.get(id));
+    }
+
+    @Test
+    void handleEntityChange_artifactChanged_loadAgain() {
+        /* ARRANGE */
+        final var artifact = getArtifact("text/plain");
+        Mockito.when(artifactService.get(artifact.getId())).thenReturn(artifact);
+        cache.get(artifact.getId());
+
+        /* ACT */
+        cache.handleEntityChange(new EntityChangedEvent(artifact));
+        cache.get(artifact.getId());
+
+        /* ASSERT */
+        Mockito.verify(artifactService, Mockito.times(2)).get(artifact.getId());
+    }
+
+    @Test
+    void handleEntityChange_representationChanged_loadAgain() {
+        /* ARRANGE */
+        final var artifact = getArtifact("text/plain");
+        Mockito.when(artifactService.get(artifact.getId())).thenReturn(artifact);
+        cache.get(artifact.getId());
+
+        /* ACT */
+        cache.handleEntityChange(new EntityChangedEvent(artifact.getRepresentations().get(0)));
+        cache.get(artifact.getId());
+
+        /* ASSERT */
+        Mockito.verify(artifactService, Mockito.times(2)).get(artifact.getId());
+    }
+
+    private Artifact getArtifact(final String mediaType) {
+        final var representation = new Representation();
+        ReflectionTestUtils.setField(representation, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(representation, "mediaType", mediaType);
+
+        final var artifact = new ArtifactImpl();
+        ReflectionTestUtils.setField(artifact, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(artifact, "checkSum", 42L);
+        ReflectionTestUtils.setField(artifact, "byteSize", 7L);
+        ReflectionTestUtils.setField(artifact, "representations",
+                new ArrayList<>(List.of(representation)));
+        return artifact;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.cache;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.dataspaceconnector.controller.resource.view.util.SelfLinkHelper;
+import io.dataspaceconnector.model.artifact.ArtifactImpl;
+import io.dataspaceconnector.model.resource.OfferedResource;
+import io.dataspaceconnector.service.resource.base.EntityChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdsDescriptionCacheTest {
+
+    private final SelfLinkHelper linkHelper = Mockito.mock(SelfLinkHelper.class);
+
+    private final IdsDescriptionCache cache = new IdsDescriptionCache(linkHelper, 10);
+
+    private final AtomicInteger builds = new AtomicInteger();
+
+    @Test
+    void get_unchangedEntity_buildOnce() {
+        /* ARRANGE */
+        final var resource = getResource(UUID.randomUUID(), ZonedDateTime.now());
+
+        /* ACT */
+        final var first = cache.get(resource, -1, this::build, x -> x);
+        final var second = cache.get(resource, -1, this::build, x -> x);
+
+        /* ASSERT */
+        assertSame(first, second);
+        assertEquals(1, builds.get());
+    }
+
+    @Test
+    void get_modifiedEntity_buildAgain() {
+        /* ARRANGE */
+        final var id = UUID.randomUUID();
+        final var date = ZonedDateTime.now();
+        cache.get(getResource(id, date), -1, this::build, x -> x);
+
+        /* ACT */
+        cache.get(getResource(id, date.plusSeconds(1)), -1, this::build, x -> x);
+
+        /* ASSERT */
+        assertEquals(2, builds.get());
+    }
+
+    @Test
+    void get_otherDepth_buildAgain() {
+        /* ARRANGE */
+        final var resource = getResource(UUID.randomUUID(), ZonedDateTime.now());
+        cache.get(resource, -1, this::build, x -> x);
+
+        /* ACT */
+        cache.get(resource, 0, this::build, x -> x);
+
+        /* ASSERT */
+        assertEquals(2, builds.get());
+    }
+
+    @Test
+    void get_otherBaseUri_buildAgain() {
+        /* ARRANGE */
+        final var resource = getResource(UUID.randomUUID(), ZonedDateTime.now());
+        Mockito.when(linkHelper.getBaseUri()).thenReturn("http://localhost:8080");
+        cache.get(resource, -1, this::build, x -> x);
+
+        /* ACT */
+        Mockito.when(linkHelper.getBaseUri()).thenReturn("https://connector.example");
+        cache.get(resource, -1, this::build, x -> x);
+
+        /* ASSERT */
+        assertEquals(2, builds.get());
+    }
+
+    @Test
+    void get_describedEntityChanged_buildAgain() {
+        /* ARRANGE */
+        final var resource = getResource(UUID.randomUUID(), ZonedDateTime.now());
+        cache.get(resource, -1, this::build, x -> x);
+
+        /* ACT */
+        cache.handleEntityChange(new EntityChangedEvent(new ArtifactImpl()));
+        cache.get(resource, -1, this::build, x -> x);
+
+        /* ASSERT */
+        assertEquals(2, builds.get());
+    }
+
+    @Test
+    void get_notPersisted_buildEveryTime() {
+        /* ARRANGE */
+        final var resource = getResource(null, null);
+
+        /* ACT */
+        cache.get(resource, -1, this::build, x -> x);
+        cache.get(resource, -1, this::build, x -> x);
+
+        /* ASSERT */
+        assertEquals(2, builds.get());
+    }
+
+    @Test
+    void getEntityTag_sameRdf_sameQuotedTag() {
+        /* ACT */
+        final var first = IdsDescriptionCache.CachedDescription.of("rdf").getEntityTag();
+        final var second = IdsDescriptionCache.CachedDescription.of("rdf").getEntityTag();
+        final var other = IdsDescriptionCache.CachedDescription.of("other").getEntityTag();
+
+        /* ASSERT */
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+        assertTrue(first.startsWith("\"") && first.endsWith("\""));
+    }
+
+    private String build() {
+        return "description-" + builds.incrementAndGet();
+    }
+
+    private static OfferedResource getResource(final UUID id, final ZonedDateTime date) {
+        final var resource = new OfferedResource();
+        ReflectionTestUtils.setField(resource, "id", id);
+        ReflectionTestUtils.setField(resource, "modificationDate", date);
+        return resource;
+    }
+}
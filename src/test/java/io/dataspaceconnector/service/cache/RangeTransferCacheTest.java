@@ -0,0 +1,106 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.cache;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RangeTransferCacheTest {
+
+    private static final byte[] DATA = "SOME DATA".getBytes(StandardCharsets.UTF_8);
+
+    private static final URI ISSUER = URI.create("https://consumer");
+
+    private static final URI ARTIFACT = URI.create("https://connector/api/artifacts/1");
+
+    private final RangeTransferCache cache = new RangeTransferCache(60_000, 2);
+
+    @AfterEach
+    void clear() {
+        cache.clear();
+    }
+
+    @Test
+    @SneakyThrows
+    void read_rangeBehindEnd_returnRemainingBytes() {
+        /* ARRANGE */
+        final var transfer = cache.open(ISSUER, ARTIFACT, new ByteArrayInputStream(DATA));
+
+        /* ACT */
+        final var range = cache.read(transfer, 5, 100);
+        final var empty = cache.read(transfer, 100, 100);
+
+        /* ASSERT */
+        assertArrayEquals("DATA".getBytes(StandardCharsets.UTF_8), range);
+        assertEquals(0, empty.length);
+        assertEquals(DATA.length, transfer.getSize());
+    }
+
+    @Test
+    @SneakyThrows
+    void get_otherIssuer_returnNull() {
+        /* ARRANGE */
+        final var transfer = cache.open(ISSUER, ARTIFACT, new ByteArrayInputStream(DATA));
+
+        /* ACT && ASSERT */
+        assertSame(transfer, cache.get(transfer.getId(), ISSUER, ARTIFACT));
+        assertNull(cache.get(transfer.getId(), URI.create("https://other"), ARTIFACT));
+        assertNull(cache.get(transfer.getId(), ISSUER, URI.create("https://other")));
+    }
+
+    @Test
+    @SneakyThrows
+    void isFull_maxTransfersOpen_keepOpenTransfers() {
+        /* ARRANGE */
+        final var first = cache.open(ISSUER, ARTIFACT, new ByteArrayInputStream(DATA));
+        final var second = cache.open(ISSUER, ARTIFACT, new ByteArrayInputStream(DATA));
+
+        /* ACT */
+        final var full = cache.isFull();
+        cache.close(second);
+
+        /* ASSERT */
+        assertTrue(full);
+        assertFalse(cache.isFull());
+        assertSame(first, cache.get(first.getId(), ISSUER, ARTIFACT));
+        assertFalse(Files.exists(second.getFile()));
+    }
+
+    @Test
+    @SneakyThrows
+    void get_expiredTransfer_returnNull() {
+        /* ARRANGE */
+        final var expiring = new RangeTransferCache(0, 2);
+        final var transfer = expiring.open(ISSUER, ARTIFACT, new ByteArrayInputStream(DATA));
+
+        /* ACT && ASSERT */
+        assertNull(expiring.get(transfer.getId(), ISSUER, ARTIFACT));
+        assertFalse(Files.exists(transfer.getFile()));
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.cache;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import javax.persistence.EntityManagerFactory;
+
+import io.dataspaceconnector.common.exception.ResourceNotFoundException;
+import io.dataspaceconnector.model.artifact.ArtifactDesc;
+import io.dataspaceconnector.model.catalog.CatalogDesc;
+import io.dataspaceconnector.model.representation.RepresentationDesc;
+import io.dataspaceconnector.service.resource.relation.RepresentationArtifactLinker;
+import io.dataspaceconnector.service.resource.type.ArtifactService;
+import io.dataspaceconnector.service.resource.type.CatalogService;
+import io.dataspaceconnector.service.resource.type.RepresentationService;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the second-level cache against the soft-delete semantics and measures the database
+ * statements saved by it.
+ */
+@Log4j2
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class SecondLevelCacheIT {
+
+    private static final int READS = 1000;
+
+    @Autowired
+    private CatalogService catalogService;
+
+    @Autowired
+    private RepresentationService representationService;
+
+    @Autowired
+    private ArtifactService artifactService;
+
+    @Autowired
+    private RepresentationArtifactLinker representationArtifactLinker;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void init() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void get_cachedCatalog_noStatements() {
+        /* ARRANGE */
+        final var catalogId = catalogService.create(new CatalogDesc()).getId();
+        catalogService.get(catalogId);
+        statistics.clear();
+
+        /* ACT */
+        catalogService.get(catalogId);
+
+        /* ASSERT */
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() > 0);
+    }
+
+    @Test
+    void get_deletedCatalog_throwResourceNotFoundException() {
+        /* ARRANGE */
+        final var catalogId = catalogService.create(new CatalogDesc()).getId();
+        catalogService.get(catalogId);
+
+        /* ACT */
+        catalogService.delete(catalogId);
+
+        /* ASSERT */
+        assertThrows(ResourceNotFoundException.class, () -> catalogService.get(catalogId));
+    }
+
+    @Test
+    void get_updatedAdditional_returnNewValue() {
+        /* ARRANGE */
+        final var desc = new CatalogDesc();
+        desc.setAdditional(Map.of("key", "old"));
+        final var catalogId = catalogService.create(desc).getId();
+        catalogService.get(catalogId);
+
+        /* ACT */
+        desc.setAdditional(Map.of("key", "new"));
+        catalogService.update(catalogId, desc);
+
+        /* ASSERT */
+        assertEquals("new", catalogService.get(catalogId).getAdditional().get("key"));
+    }
+
+    @Test
+    void getArtifacts_deletedArtifact_notListed() {
+        /* ARRANGE */
+        final var representationId = representationService.create(new RepresentationDesc())
+                .getId();
+        final var artifactDesc = new ArtifactDesc();
+        artifactDesc.setValue("value");
+        final var artifactId = artifactService.create(artifactDesc).getId();
+        transactionTemplate.executeWithoutResult(status -> representationArtifactLinker
+                .add(representationId, Set.of(artifactId)));
+        assertEquals(1, countArtifacts(representationId));
+
+        /* ACT */
+        artifactService.delete(artifactId);
+
+        /* ASSERT */
+        assertEquals(0, countArtifacts(representationId));
+    }
+
+    @Test
+    void benchmark_repeatedReads_fewerStatementsThanWithoutCache() {
+        /* ARRANGE */
+        final var catalogId = catalogService.create(new CatalogDesc()).getId();
+
+        /* ACT */
+        final var uncachedStart = System.nanoTime();
+        for (int i = 0; i < READS; i++) {
+            entityManagerFactory.getCache().evictAll();
+            catalogService.get(catalogId);
+        }
+        final var uncachedTime = System.nanoTime() - uncachedStart;
+        final var uncachedStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        final var cachedStart = System.nanoTime();
+        for (int i = 0; i < READS; i++) {
+            catalogService.get(catalogId);
+        }
+        final var cachedTime = System.nanoTime() - cachedStart;
+        final var cachedStatements = statistics.getPrepareStatementCount();
+
+        if (log.isInfoEnabled()) {
+            log.info("Read catalog {} times. [uncached=({} ms, {} statements), "
+                            + "cached=({} ms, {} statements)]", READS, uncachedTime / 1_000_000,
+                    uncachedStatements, cachedTime / 1_000_000, cachedStatements);
+        }
+
+        /* ASSERT */
+        assertTrue(cachedStatements < uncachedStatements);
+    }
+
+    private int countArtifacts(final UUID representationId) {
+        final Integer count = transactionTemplate.execute(status -> representationService
+                .get(representationId).getArtifacts().size());
+        return count == null ? 0 : count;
+    }
+}
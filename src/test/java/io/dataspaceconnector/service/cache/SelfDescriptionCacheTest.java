@@ -0,0 +1,127 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.cache;
+
+import java.net.URI;
+import java.util.List;
+
+import de.fraunhofer.iais.eis.BaseConnector;
+import de.fraunhofer.iais.eis.BaseConnectorBuilder;
+import de.fraunhofer.iais.eis.ConnectorEndpointBuilder;
+import de.fraunhofer.iais.eis.SecurityProfile;
+import io.dataspaceconnector.common.ids.ConnectorService;
+import io.dataspaceconnector.model.agreement.Agreement;
+import io.dataspaceconnector.model.catalog.Catalog;
+import io.dataspaceconnector.service.resource.base.EntityChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SelfDescriptionCacheTest {
+
+    private final ConnectorService connectorService = Mockito.mock(ConnectorService.class);
+
+    private final SelfDescriptionCache cache = new SelfDescriptionCache(connectorService, true,
+            60000);
+
+    @AfterEach
+    void shutdown() {
+        cache.shutdown();
+    }
+
+    @Test
+    void getSelfDescription_noChanges_buildOnce() {
+        /* ARRANGE */
+        final var connector = getConnector("1");
+        when(connectorService.getConnectorWithOfferedResources()).thenReturn(connector);
+
+        /* ACT */
+        cache.getSelfDescription();
+        final var result = cache.getSelfDescription();
+
+        /* ASSERT */
+        assertEquals(connector.toRdf(), result);
+        verify(connectorService, times(1)).getConnectorWithOfferedResources();
+    }
+
+    @Test
+    void getSelfDescription_catalogChanged_serveStaleAndRebuild() {
+        /* ARRANGE */
+        final var first = getConnector("1");
+        final var second = getConnector("2");
+        when(connectorService.getConnectorWithOfferedResources())
+                .thenReturn(first)
+                .thenReturn(second);
+        cache.getSelfDescription();
+
+        /* ACT */
+        cache.handleEntityChange(new EntityChangedEvent(new Catalog()));
+        final var stale = cache.getSelfDescription();
+
+        /* ASSERT */
+        assertEquals(first.toRdf(), stale);
+        verify(connectorService, timeout(5000).times(2)).getConnectorWithOfferedResources();
+    }
+
+    @Test
+    void getSelfDescription_agreementChanged_keepSnapshot() {
+        /* ARRANGE */
+        when(connectorService.getConnectorWithOfferedResources()).thenReturn(getConnector("1"));
+        cache.getSelfDescription();
+
+        /* ACT */
+        cache.handleEntityChange(new EntityChangedEvent(new Agreement()));
+        cache.getSelfDescription();
+
+        /* ASSERT */
+        verify(connectorService, times(1)).getConnectorWithOfferedResources();
+    }
+
+    @Test
+    void getSelfDescription_cacheDisabled_buildEveryTime() {
+        /* ARRANGE */
+        final var disabled = new SelfDescriptionCache(connectorService, false, 60000);
+        when(connectorService.getConnectorWithOfferedResources()).thenReturn(getConnector("1"));
+
+        /* ACT */
+        disabled.getSelfDescription();
+        disabled.getSelfDescription();
+
+        /* ASSERT */
+        verify(connectorService, times(2)).getConnectorWithOfferedResources();
+        disabled.shutdown();
+    }
+
+    private static BaseConnector getConnector(final String version) {
+        return new BaseConnectorBuilder()
+                ._curator_(URI.create("someCurator"))
+                ._outboundModelVersion_("9999")
+                ._maintainer_(URI.create("someMaintainer"))
+                ._inboundModelVersion_(List.of("9991"))
+                ._securityProfile_(SecurityProfile.BASE_SECURITY_PROFILE)
+                ._version_(version)
+                ._hasDefaultEndpoint_(new ConnectorEndpointBuilder()
+                        ._accessURL_(URI.create("https://accessUrl"))
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.cache;
+
+import java.util.Date;
+import java.util.function.Consumer;
+
+import de.fraunhofer.iais.eis.DynamicAttributeToken;
+import de.fraunhofer.iais.eis.DynamicAttributeTokenBuilder;
+import de.fraunhofer.iais.eis.TokenFormat;
+import ids.messaging.core.daps.ClaimsException;
+import ids.messaging.core.daps.DapsValidator;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VerifiedClaimsCacheTest {
+
+    private final DapsValidator dapsValidator = Mockito.mock(DapsValidator.class);
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private final VerifiedClaimsCache cache =
+            new VerifiedClaimsCache(dapsValidator, getProvider(registry), true, 10);
+
+    @Test
+    @SneakyThrows
+    void getClaims_sameToken_verifyOnce() {
+        /* ARRANGE */
+        final var claims = getClaims(new Date(System.currentTimeMillis() + 60000));
+        when(dapsValidator.getClaims(Mockito.any())).thenReturn(claims);
+
+        /* ACT */
+        cache.getClaims(getToken("token"));
+        final var result = cache.getClaims(getToken("token"));
+
+        /* ASSERT */
+        assertSame(claims, result);
+        verify(dapsValidator, times(1)).getClaims(Mockito.any());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(1.0, registry.get("dsc.claims.cache.requests").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    @SneakyThrows
+    void getClaims_otherToken_verifyAgain() {
+        /* ARRANGE */
+        final var claims = getClaims(new Date(System.currentTimeMillis() + 60000));
+        when(dapsValidator.getClaims(Mockito.any())).thenReturn(claims);
+
+        /* ACT */
+        cache.getClaims(getToken("token"));
+        cache.getClaims(getToken("other"));
+
+        /* ASSERT */
+        verify(dapsValidator, times(2)).getClaims(Mockito.any());
+    }
+
+    @Test
+    @SneakyThrows
+    void getClaims_noExpiration_verifyEveryTime() {
+        /* ARRANGE */
+        final var claims = getClaims(null);
+        when(dapsValidator.getClaims(Mockito.any())).thenReturn(claims);
+
+        /* ACT */
+        cache.getClaims(getToken("token"));
+        cache.getClaims(getToken("token"));
+
+        /* ASSERT */
+        verify(dapsValidator, times(2)).getClaims(Mockito.any());
+    }
+
+    @Test
+    @SneakyThrows
+    void getClaims_invalidToken_throwClaimsExceptionEveryTime() {
+        /* ARRANGE */
+        when(dapsValidator.getClaims(Mockito.any())).thenThrow(ClaimsException.class);
+
+        /* ACT && ASSERT */
+        assertThrows(ClaimsException.class, () -> cache.getClaims(getToken("token")));
+        assertThrows(ClaimsException.class, () -> cache.getClaims(getToken("token")));
+        verify(dapsValidator, times(2)).getClaims(Mockito.any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Jws<Claims> getClaims(final Date expiration) {
+        final var claims = Mockito.mock(Claims.class);
+        when(claims.getExpiration()).thenReturn(expiration);
+        final Jws<Claims> jws = Mockito.mock(Jws.class);
+        when(jws.getBody()).thenReturn(claims);
+        return jws;
+    }
+
+    private static DynamicAttributeToken getToken(final String value) {
+        return new DynamicAttributeTokenBuilder()
+                ._tokenFormat_(TokenFormat.JWT)
+                ._tokenValue_(value)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<MeterRegistry> getProvider(final MeterRegistry registry) {
+        final ObjectProvider<MeterRegistry> provider = Mockito.mock(ObjectProvider.class);
+        Mockito.doAnswer(invocation -> {
+            invocation.<Consumer<MeterRegistry>>getArgument(0)
+                    .accept(registry);
+            return null;
+        }).when(provider).ifAvailable(Mockito.any());
+        return provider;
+    }
+}
@@ -43,6 +43,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -124,7 +125,7 @@ class SubscriberNotificationServiceTest {
 
         /* ASSERT */
         verify(routeDataDispatcher, times(1)).send(any(), any(), any());
-        verify(httpService, times(1)).post(any(), any(), any());
+        verify(httpService, times(1)).post(any(), any(), any(), anyLong());
     }
 
     private Subscription getSubscription(final URI location) {
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.message.handler.processor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.fraunhofer.iais.eis.ArtifactRequestMessageBuilder;
+import de.fraunhofer.iais.eis.ArtifactRequestMessageImpl;
+import de.fraunhofer.iais.eis.ArtifactResponseMessageBuilder;
+import de.fraunhofer.iais.eis.DynamicAttributeTokenBuilder;
+import de.fraunhofer.iais.eis.Message;
+import de.fraunhofer.iais.eis.TokenFormat;
+import de.fraunhofer.iais.eis.util.Util;
+import ids.messaging.handler.message.MessagePayload;
+import ids.messaging.handler.message.MessagePayloadInputstream;
+import ids.messaging.util.IdsMessageUtils;
+import io.dataspaceconnector.common.exception.InvalidInputException;
+import io.dataspaceconnector.common.net.ByteRange;
+import io.dataspaceconnector.service.EntityResolver;
+import io.dataspaceconnector.service.cache.RangeTransferCache;
+import io.dataspaceconnector.service.message.builder.type.ArtifactResponseService;
+import io.dataspaceconnector.service.message.handler.dto.Request;
+import io.dataspaceconnector.service.message.handler.dto.Response;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.util.Base64Utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+class DataRequestProcessorTest {
+
+    private static final byte[] DATA = "SOME DATA IN RANGES".getBytes(StandardCharsets.UTF_8);
+
+    private static final URI ARTIFACT = URI.create("https://connector/api/artifacts/1");
+
+    private final ArtifactResponseService messageService =
+            Mockito.mock(ArtifactResponseService.class);
+
+    private final EntityResolver entityResolver = Mockito.mock(EntityResolver.class);
+
+    private final RangeTransferCache transferCache = new RangeTransferCache(60_000, 1);
+
+    private DataRequestProcessor processor;
+
+    @BeforeEach
+    @SneakyThrows
+    void init() {
+        processor = new DataRequestProcessor(messageService, entityResolver, transferCache);
+        Mockito.when(messageService.buildMessage(any())).thenAnswer(invocation -> getResponse());
+        Mockito.when(entityResolver.getDataByArtifactId(eq(ARTIFACT), any()))
+                .thenAnswer(invocation -> new ByteArrayInputStream(DATA));
+    }
+
+    @AfterEach
+    void clear() {
+        transferCache.clear();
+    }
+
+    @Test
+    @SneakyThrows
+    void process_noRange_returnAllDataWithoutCheckSum() {
+        /* ACT */
+        final var response = process(null);
+
+        /* ASSERT */
+        assertEquals(new String(DATA, StandardCharsets.UTF_8), getData(response));
+        assertNull(getProperty(response, ByteRange.CHUNK_CHECKSUM_PROPERTY));
+    }
+
+    @Test
+    @SneakyThrows
+    void process_firstRange_returnRangeWithCheckSums() {
+        /* ACT */
+        final var response = process(new ByteRange(0, 4, null));
+
+        /* ASSERT */
+        assertEquals("SOME", getData(response));
+        assertEquals(String.valueOf(getCheckSum("SOME".getBytes(StandardCharsets.UTF_8))),
+                getProperty(response, ByteRange.CHUNK_CHECKSUM_PROPERTY));
+        assertEquals(String.valueOf(getCheckSum(DATA)),
+                getProperty(response, ByteRange.DATA_CHECKSUM_PROPERTY));
+        assertEquals(String.valueOf(DATA.length),
+                getProperty(response, ByteRange.DATA_LENGTH_PROPERTY));
+        assertNotNull(getProperty(response, ByteRange.TRANSFER_PROPERTY));
+    }
+
+    @Test
+    @SneakyThrows
+    void process_furtherRanges_readTransferWithoutRetrievingDataAgain() {
+        /* ARRANGE */
+        final var first = process(new ByteRange(0, 8, null));
+        final var transferId = UUID.fromString(getProperty(first, ByteRange.TRANSFER_PROPERTY));
+
+        /* ACT */
+        final var second = process(new ByteRange(8, 8, transferId));
+        final var last = process(new ByteRange(16, 8, transferId));
+
+        /* ASSERT */
+        assertEquals("SOME DAT", getData(first));
+        assertEquals("A IN RAN", getData(second));
+        assertEquals("GES", getData(last));
+        assertEquals(getProperty(first, ByteRange.DATA_CHECKSUM_PROPERTY),
+                getProperty(last, ByteRange.DATA_CHECKSUM_PROPERTY));
+        Mockito.verify(entityResolver, Mockito.times(1)).getDataByArtifactId(any(), any());
+        assertFalse(transferCache.isFull());
+        assertThrows(InvalidInputException.class,
+                () -> process(new ByteRange(16, 8, transferId)));
+    }
+
+    @Test
+    @SneakyThrows
+    void process_tooManyTransfers_returnAllDataKeepingOpenTransfer() {
+        /* ARRANGE */
+        final var first = process(new ByteRange(0, 8, null));
+        final var transferId = UUID.fromString(getProperty(first, ByteRange.TRANSFER_PROPERTY));
+
+        /* ACT */
+        final var response = process(new ByteRange(0, 8, null));
+        final var resumed = process(new ByteRange(8, 8, transferId));
+
+        /* ASSERT */
+        assertEquals(new String(DATA, StandardCharsets.UTF_8), getData(response));
+        assertNull(getProperty(response, ByteRange.CHUNK_CHECKSUM_PROPERTY));
+        assertEquals("A IN RAN", getData(resumed));
+    }
+
+    @Test
+    @SneakyThrows
+    void process_rangeCoveringAllData_closeTransfer() {
+        /* ACT */
+        final var response = process(new ByteRange(0, 100, null));
+
+        /* ASSERT */
+        assertEquals(new String(DATA, StandardCharsets.UTF_8), getData(response));
+        assertNull(getProperty(response, ByteRange.TRANSFER_PROPERTY));
+    }
+
+    @Test
+    void process_furtherRangeWithoutTransfer_throwInvalidInputException() {
+        /* ACT && ASSERT */
+        assertThrows(InvalidInputException.class, () -> process(new ByteRange(4, 4, null)));
+    }
+
+    @Test
+    void process_unknownTransfer_throwInvalidInputException() {
+        /* ACT && ASSERT */
+        assertThrows(InvalidInputException.class,
+                () -> process(new ByteRange(4, 4, UUID.randomUUID())));
+    }
+
+    @Test
+    void process_invalidRange_throwInvalidInputException() {
+        /* ACT && ASSERT */
+        assertThrows(InvalidInputException.class, () -> process(new ByteRange(0, 0, null)));
+    }
+
+    /***********************************************************************************************
+     * Utilities.                                                                                  *
+     **********************************************************************************************/
+
+    @SneakyThrows
+    private Response process(final ByteRange range) {
+        final var header = (ArtifactRequestMessageImpl) new ArtifactRequestMessageBuilder()
+                ._senderAgent_(URI.create("https://consumer"))
+                ._issuerConnector_(URI.create("https://consumer"))
+                ._securityToken_(new DynamicAttributeTokenBuilder()
+                        ._tokenFormat_(TokenFormat.JWT)
+                        ._tokenValue_("token")
+                        .build())
+                ._modelVersion_("4.0.0")
+                ._issued_(IdsMessageUtils.getGregorianNow())
+                ._requestedArtifact_(ARTIFACT)
+                ._transferContract_(URI.create("https://connector/api/agreements/1"))
+                .build();
+        if (range != null) {
+            range.addTo(header);
+        }
+
+        final MessagePayload payload = new MessagePayloadInputstream(InputStream.nullInputStream(),
+                new ObjectMapper());
+        return processor.processInternal(new Request<>(header, payload, Optional.empty()), null);
+    }
+
+    private Message getResponse() {
+        final var uri = URI.create("https://connector");
+        return new ArtifactResponseMessageBuilder()
+                ._securityToken_(new DynamicAttributeTokenBuilder()
+                        ._tokenFormat_(TokenFormat.JWT)
+                        ._tokenValue_("token")
+                        .build())
+                ._correlationMessage_(uri)
+                ._issued_(IdsMessageUtils.getGregorianNow())
+                ._issuerConnector_(uri)
+                ._modelVersion_("4.0.0")
+                ._senderAgent_(uri)
+                ._recipientConnector_(Util.asList(uri))
+                .build();
+    }
+
+    private static String getData(final Response response) {
+        return new String(Base64Utils.decodeFromString(response.getBody()),
+                StandardCharsets.UTF_8);
+    }
+
+    private static String getProperty(final Response response, final String name) {
+        return ByteRange.getProperty(response.getHeader(), name);
+    }
+
+    private static long getCheckSum(final byte[] data) {
+        final var checkSum = new CRC32C();
+        checkSum.update(data);
+        return checkSum.getValue();
+    }
+}
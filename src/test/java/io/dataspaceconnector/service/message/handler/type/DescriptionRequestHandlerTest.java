@@ -35,6 +35,7 @@ import io.dataspaceconnector.model.artifact.ArtifactDesc;
 import io.dataspaceconnector.model.artifact.ArtifactFactory;
 import io.dataspaceconnector.model.message.DescriptionResponseMessageDesc;
 import io.dataspaceconnector.service.EntityResolver;
+import io.dataspaceconnector.service.cache.IdsDescriptionCache.CachedDescription;
 import io.dataspaceconnector.service.message.builder.type.DescriptionResponseService;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
@@ -173,6 +174,8 @@ import static org.mockito.Mockito.when;
         when(resolver.getEntityById(Mockito.eq(message.getRequestedElement())))
                 .thenReturn(Optional.of(artifact));
         when(resolver.getEntityAsRdfString(artifact)).thenReturn(getArtifact().toRdf());
+        Mockito.doReturn(CachedDescription.of(getArtifact().toRdf()))
+                .when(resolver).getEntityDescription(artifact);
 
          /* ACT */
          final var result =
@@ -27,7 +27,6 @@ import io.dataspaceconnector.common.net.HttpResponse;
 import io.dataspaceconnector.common.net.HttpService;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.routing.RouteDataDispatcher;
-import io.dataspaceconnector.model.artifact.Artifact;
 import io.dataspaceconnector.model.artifact.ArtifactDesc;
 import io.dataspaceconnector.model.artifact.ArtifactFactory;
 import io.dataspaceconnector.model.artifact.ArtifactImpl;
@@ -41,6 +40,8 @@ import io.dataspaceconnector.repository.AuthenticationRepository;
 import io.dataspaceconnector.repository.DataRepository;
 import io.dataspaceconnector.service.DataRetriever;
 import io.dataspaceconnector.service.resource.relation.ArtifactRouteService;
+import io.dataspaceconnector.service.storage.DatabaseDataStore;
+import io.dataspaceconnector.service.usagecontrol.ArtifactAccessCounter;
 import lombok.SneakyThrows;
 import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Test;
@@ -48,6 +49,7 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.ByteArrayInputStream;
@@ -75,7 +77,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest(classes = {ArtifactService.class, ArtifactFactory.class, ArtifactRepository.class,
-        DataRepository.class, AuthenticationRepository.class, HttpService.class})
+        DataRepository.class, DatabaseDataStore.class, AuthenticationRepository.class, HttpService.class})
 class ArtifactServiceTest {
 
     @MockBean
@@ -102,6 +104,9 @@ class ArtifactServiceTest {
     @MockBean
     private RouteDataDispatcher routeDataDispatcher;
 
+    @SpyBean
+    private ArtifactAccessCounter accessCounter;
+
     @Autowired
     private ArtifactService service;
 
@@ -332,17 +337,12 @@ class ArtifactServiceTest {
         when(dataRetriever.retrieveData(eq(localArtifact), any()))
                 .thenReturn(new ByteArrayInputStream(getLocalData().getValue()));
 
-        final var before = localArtifact.getNumAccessed();
-
         /* ACT */
         service.getData(null, null, localArtifact.getId(), (QueryInput) null, null);
 
         /* ASSERT */
-        Field numAccessedField = Artifact.class.getDeclaredField("numAccessed");
-        numAccessedField.setAccessible(true);
-        numAccessedField.set(localArtifact, before + 1);
-
-        verify(artifactRepository, times(1)).saveAndFlush(localArtifact);
+        verify(accessCounter, times(1)).increment(localArtifact.getId());
+        verify(artifactRepository, never()).saveAndFlush(localArtifact);
     }
 
     @SneakyThrows
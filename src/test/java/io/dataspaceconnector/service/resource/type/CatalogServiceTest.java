@@ -78,14 +78,11 @@ class CatalogServiceTest {
 
         Mockito.when(repository.saveAndFlush(Mockito.any())).thenAnswer(this::saveAndFlushMock);
         Mockito.when(repository.findById(AdditionalMatchers.not(Mockito.eq(catalogOne.getId()))))
-                .thenReturn(Optional.empty());
+                .thenAnswer(this::findByIdMock);
         Mockito.when(repository.findById(Mockito.isNull()))
                 .thenThrow(InvalidDataAccessApiUsageException.class);
         Mockito.when(repository.findAll(Pageable.unpaged())).thenAnswer(this::findAllMock);
-        Mockito.doThrow(InvalidDataAccessApiUsageException.class)
-                .when(repository)
-                .deleteById(Mockito.isNull());
-        Mockito.doAnswer(this::deleteByIdMock).when(repository).deleteById(Mockito.isA(UUID.class));
+        Mockito.doAnswer(this::deleteMock).when(repository).delete(Mockito.isA(Catalog.class));
     }
 
     private static Page<Catalog> toPage(final List<Catalog> catalogList, final Pageable pageable) {
@@ -106,9 +103,14 @@ class CatalogServiceTest {
         return obj;
     }
 
-    private Answer<?> deleteByIdMock(final InvocationOnMock invocation) {
+    private Optional<Catalog> findByIdMock(final InvocationOnMock invocation) {
         final var obj = (UUID) invocation.getArgument(0);
-        catalogList.removeIf(x -> x.getId().equals(obj));
+        return catalogList.stream().filter(x -> x.getId().equals(obj)).findAny();
+    }
+
+    private Answer<?> deleteMock(final InvocationOnMock invocation) {
+        final var obj = (Catalog) invocation.getArgument(0);
+        catalogList.removeIf(x -> x.getId().equals(obj.getId()));
         return null;
     }
 
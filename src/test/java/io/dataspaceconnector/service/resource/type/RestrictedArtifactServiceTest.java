@@ -28,6 +28,8 @@ import io.dataspaceconnector.service.DataRetriever;
 import io.dataspaceconnector.service.MultipartArtifactRetriever;
 import io.dataspaceconnector.common.usagecontrol.AllowAccessVerifier;
 import io.dataspaceconnector.service.resource.relation.ArtifactRouteService;
+import io.dataspaceconnector.service.storage.DatabaseDataStore;
+import io.dataspaceconnector.service.usagecontrol.ArtifactAccessCounter;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -47,7 +49,7 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest(classes = {ArtifactService.class, ArtifactFactory.class, ArtifactRepository.class,
-        DataRepository.class, HttpService.class, MultipartArtifactRetriever.class})
+        DataRepository.class, DatabaseDataStore.class, HttpService.class, MultipartArtifactRetriever.class})
 public class RestrictedArtifactServiceTest {
 
     @MockBean
@@ -77,6 +79,9 @@ public class RestrictedArtifactServiceTest {
     @MockBean
     private MultipartArtifactRetriever artifactReceiver;
 
+    @SpyBean
+    private ArtifactAccessCounter accessCounter;
+
     @SpyBean
     private ArtifactService service;
 
@@ -89,10 +89,8 @@ public class SubscriptionServiceTest {
         Mockito.when(repository.findById(Mockito.isNull()))
                 .thenThrow(InvalidDataAccessApiUsageException.class);
         Mockito.when(repository.findAll(Pageable.unpaged())).thenAnswer(this::findAllMock);
-        Mockito.doThrow(InvalidDataAccessApiUsageException.class)
-                .when(repository)
-                .deleteById(Mockito.isNull());
-        Mockito.doAnswer(this::deleteByIdMock).when(repository).deleteById(Mockito.isA(UUID.class));
+        Mockito.doAnswer(this::deleteMock).when(repository)
+                .delete(Mockito.isA(Subscription.class));
 
         Mockito.doReturn(Optional.of(artSubLinker)).when(lookUp).getService(ArtifactSubscriptionLinker.class);
         Mockito.doReturn(Optional.of(repSubLinker)).when(lookUp).getService(RepresentationArtifactLinker.class);
@@ -295,9 +293,9 @@ public class SubscriptionServiceTest {
         return obj;
     }
 
-    private Answer<?> deleteByIdMock(final InvocationOnMock invocation) {
-        final var obj = (UUID) invocation.getArgument(0);
-        subscriptionList.removeIf(x -> x.getId().equals(obj));
+    private Answer<?> deleteMock(final InvocationOnMock invocation) {
+        final var obj = (Subscription) invocation.getArgument(0);
+        subscriptionList.removeIf(x -> x.getId().equals(obj.getId()));
         return null;
     }
 
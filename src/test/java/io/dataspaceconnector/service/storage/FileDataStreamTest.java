@@ -0,0 +1,70 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.storage;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FileDataStreamTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @SneakyThrows
+    void transferRange_partOfFile_writeOnlyRange() {
+        /* ARRANGE */
+        final var file = Files.write(directory.resolve("data"), new byte[]{0, 1, 2, 3, 4, 5});
+        final var output = new ByteArrayOutputStream();
+
+        /* ACT */
+        try (var stream = new FileDataStream(FileChannel.open(file, StandardOpenOption.READ))) {
+            final var result = stream.transferRange(2, 3, output);
+
+            /* ASSERT */
+            assertEquals(3, result);
+            assertEquals(6, stream.size());
+        }
+        assertArrayEquals(new byte[]{2, 3, 4}, output.toByteArray());
+    }
+
+    @Test
+    @SneakyThrows
+    void transferRange_rangeBeyondEndOfFile_writeUntilEnd() {
+        /* ARRANGE */
+        final var file = Files.write(directory.resolve("data"), new byte[]{0, 1, 2});
+        final var output = new ByteArrayOutputStream();
+
+        /* ACT */
+        try (var stream = new FileDataStream(FileChannel.open(file, StandardOpenOption.READ))) {
+            final var result = stream.transferRange(1, 10, output);
+
+            /* ASSERT */
+            assertEquals(2, result);
+        }
+        assertArrayEquals(new byte[]{1, 2}, output.toByteArray());
+    }
+}
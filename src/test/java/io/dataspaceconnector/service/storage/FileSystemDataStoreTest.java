@@ -0,0 +1,211 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.storage;
+
+import io.dataspaceconnector.model.artifact.LocalData;
+import io.dataspaceconnector.repository.DataRepository;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+
+class FileSystemDataStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private final DataRepository dataRepository = Mockito.mock(DataRepository.class);
+
+    @Test
+    @SneakyThrows
+    void write_data_storeInFileAndSetHandle() {
+        /* ARRANGE */
+        final var store = new FileSystemDataStore(directory.toString(), dataRepository);
+        final var data = getLocalData();
+        final var value = "data".getBytes(StandardCharsets.UTF_8);
+
+        /* ACT */
+        store.write(data, new ByteArrayInputStream(value));
+
+        /* ASSERT */
+        assertNotNull(data.getHandle());
+        assertNull(data.getValue());
+        assertArrayEquals(value, Files.readAllBytes(directory.resolve(data.getHandle())));
+        verify(dataRepository).setLocalDataHandle(1L, data.getHandle());
+    }
+
+    @Test
+    @SneakyThrows
+    void write_replaceData_keepPreviousFileUntilCollected() {
+        /* ARRANGE */
+        final var store = new FileSystemDataStore(directory.toString(), dataRepository);
+        final var data = getLocalData();
+        store.write(data, new ByteArrayInputStream(new byte[]{1, 2, 3}));
+        final var previous = data.getHandle();
+
+        /* ACT */
+        store.write(data, new ByteArrayInputStream(new byte[]{4, 5}));
+
+        /* ASSERT */
+        assertTrue(Files.exists(directory.resolve(previous)));
+        Files.setLastModifiedTime(directory.resolve(previous),
+                FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+        Mockito.when(dataRepository.findAllHandles()).thenReturn(Set.of(data.getHandle()));
+        store.collectGarbage();
+        assertFalse(Files.exists(directory.resolve(previous)));
+        assertTrue(Files.exists(directory.resolve(data.getHandle())));
+    }
+
+    @Test
+    @SneakyThrows
+    void write_emptyData_removeHandle() {
+        /* ARRANGE */
+        final var store = new FileSystemDataStore(directory.toString(), dataRepository);
+        final var data = getLocalData();
+        store.write(data, new ByteArrayInputStream(new byte[]{1, 2, 3}));
+
+        /* ACT */
+        store.write(data, InputStream.nullInputStream());
+
+        /* ASSERT */
+        assertNull(data.getHandle());
+        try (var files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+        verify(dataRepository).setLocalDataHandle(1L, null);
+    }
+
+    @Test
+    @SneakyThrows
+    void write_sameContentTwice_shareFile() {
+        /* ARRANGE */
+        final var store = new FileSystemDataStore(directory.toString(), dataRepository);
+        final var first = getLocalData();
+        final var second = getLocalData();
+        ReflectionTestUtils.setField(second, "id", 2L);
+
+        /* ACT */
+        store.write(first, new ByteArrayInputStream(new byte[]{1, 2, 3}));
+        store.write(second, new ByteArrayInputStream(new byte[]{1, 2, 3}));
+
+        /* ASSERT */
+        assertEquals(first.getHandle(), second.getHandle());
+        try (var files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void write_contentOfUnreferencedOldFile_keepFileForNewReference() {
+        /* ARRANGE */
+        final var store = new FileSystemDataStore(directory.toString(), dataRepository);
+        final var data = getLocalData();
+        store.write(data, new ByteArrayInputStream(new byte[]{1, 2, 3}));
+        final var file = directory.resolve(data.getHandle());
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+        final var other = getLocalData();
+        ReflectionTestUtils.setField(other, "id", 2L);
+
+        /* ACT */
+        store.write(other, new ByteArrayInputStream(new byte[]{1, 2, 3}));
+        // The new reference has not been committed when the garbage is collected.
+        Mockito.when(dataRepository.findAllHandles()).thenReturn(Set.of());
+        store.collectGarbage();
+
+        /* ASSERT */
+        assertTrue(Files.exists(file));
+    }
+
+    @Test
+    @SneakyThrows
+    void collectGarbage_unreferencedOldFile_deleteFile() {
+        /* ARRANGE */
+        final var store = new FileSystemDataStore(directory.toString(), dataRepository);
+        final var referenced = Files.write(directory.resolve("referenced"), new byte[]{1});
+        final var unreferenced = Files.write(directory.resolve("unreferenced"), new byte[]{1});
+        final var recent = Files.write(directory.resolve("recent"), new byte[]{1});
+        final var old = FileTime.from(Instant.now().minus(Duration.ofDays(1)));
+        Files.setLastModifiedTime(referenced, old);
+        Files.setLastModifiedTime(unreferenced, old);
+        Mockito.when(dataRepository.findAllHandles()).thenReturn(Set.of("referenced"));
+
+        /* ACT */
+        store.collectGarbage();
+
+        /* ASSERT */
+        assertTrue(Files.exists(referenced));
+        assertTrue(Files.exists(recent));
+        assertFalse(Files.exists(unreferenced));
+    }
+
+    @Test
+    @SneakyThrows
+    void read_storedData_returnData() {
+        /* ARRANGE */
+        final var store = new FileSystemDataStore(directory.toString(), dataRepository);
+        final var data = getLocalData();
+        final var value = "data".getBytes(StandardCharsets.UTF_8);
+        store.write(data, new ByteArrayInputStream(value));
+
+        /* ACT */
+        try (var result = store.read(data)) {
+            /* ASSERT */
+            assertArrayEquals(value, result.readAllBytes());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void read_dataInDatabase_returnValue() {
+        /* ARRANGE */
+        final var store = new FileSystemDataStore(directory.toString(), dataRepository);
+        final var data = getLocalData();
+        final var value = "data".getBytes(StandardCharsets.UTF_8);
+        data.setValue(value);
+
+        /* ACT */
+        final var result = store.read(data);
+
+        /* ASSERT */
+        assertArrayEquals(value, result.readAllBytes());
+    }
+
+    private LocalData getLocalData() {
+        final var data = new LocalData();
+        ReflectionTestUtils.setField(data, "id", 1L);
+        return data;
+    }
+}
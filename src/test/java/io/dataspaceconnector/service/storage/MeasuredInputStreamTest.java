@@ -0,0 +1,59 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.storage;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MeasuredInputStreamTest {
+
+    @Test
+    @SneakyThrows
+    void read_wholeStream_computeSizeAndChecksum() {
+        /* ARRANGE */
+        final var data = new byte[]{0, 1, 2, 3, 4, 5, 6, 7};
+        final var expected = new CRC32C();
+        expected.update(data, 0, data.length);
+
+        /* ACT */
+        final var stream = new MeasuredInputStream(new ByteArrayInputStream(data));
+        stream.read();
+        stream.transferTo(OutputStream.nullOutputStream());
+
+        /* ASSERT */
+        assertEquals(data.length, stream.getByteSize());
+        assertEquals(expected.getValue(), stream.getCheckSum());
+    }
+
+    @Test
+    @SneakyThrows
+    void read_emptyStream_sizeAndChecksumZero() {
+        /* ACT */
+        final var stream = new MeasuredInputStream(InputStream.nullInputStream());
+        stream.readAllBytes();
+
+        /* ASSERT */
+        assertEquals(0, stream.getByteSize());
+        assertEquals(0, stream.getCheckSum());
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.dataspaceconnector.common.exception.ResourceNotFoundException;
+import io.dataspaceconnector.repository.ArtifactRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.QueryTimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+
+class ArtifactAccessCounterTest {
+
+    private final ArtifactRepository artifactRepository = Mockito.mock(ArtifactRepository.class);
+
+    private final ArtifactAccessCounter counter = new ArtifactAccessCounter(artifactRepository);
+
+    @Test
+    void increment_concurrentAccesses_countAll() throws InterruptedException {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        final var executor = Executors.newFixedThreadPool(8);
+
+        /* ACT */
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> counter.increment(artifactId));
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        /* ASSERT */
+        assertEquals(1000, counter.getPending(artifactId));
+    }
+
+    @Test
+    void flush_pendingAccesses_storeDeltaOnce() {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        Mockito.when(artifactRepository.incrementAccessCounter(artifactId, 3)).thenReturn(1);
+        counter.increment(artifactId);
+        counter.increment(artifactId);
+        counter.increment(artifactId);
+
+        /* ACT */
+        counter.flush();
+        counter.flush();
+
+        /* ASSERT */
+        Mockito.verify(artifactRepository, Mockito.times(1))
+                .incrementAccessCounter(any(), anyLong());
+        assertEquals(0, counter.getPending(artifactId));
+    }
+
+    @Test
+    void flush_storeFails_keepPendingAccesses() {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        Mockito.when(artifactRepository.incrementAccessCounter(artifactId, 1))
+                .thenThrow(new QueryTimeoutException("timeout"));
+        counter.increment(artifactId);
+
+        /* ACT */
+        counter.flush();
+
+        /* ASSERT */
+        assertEquals(1, counter.getPending(artifactId));
+    }
+
+    @Test
+    void getAccessNumber_pendingAccesses_addToStoredCounter() {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        Mockito.when(artifactRepository.findNumAccessed(artifactId)).thenReturn(5L);
+        counter.increment(artifactId);
+
+        /* ACT */
+        final var result = counter.getAccessNumber(artifactId);
+
+        /* ASSERT */
+        assertEquals(6, result);
+    }
+
+    @Test
+    void getAccessNumber_unknownArtifact_throwResourceNotFoundException() {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+
+        /* ACT && ASSERT */
+        assertThrows(ResourceNotFoundException.class, () -> counter.getAccessNumber(artifactId));
+    }
+
+    @Test
+    void tryReserve_parallelAccesses_allowExactlyMax() throws InterruptedException {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        Mockito.when(artifactRepository.findNumAccessed(artifactId)).thenReturn(0L);
+        final var allowed = new AtomicInteger();
+        final var executor = Executors.newFixedThreadPool(8);
+
+        /* ACT */
+        for (int i = 0; i < 100; i++) {
+            executor.execute(() -> {
+                try (var access = counter.open(artifactId)) {
+                    if (counter.tryReserve(artifactId, 5)) {
+                        allowed.incrementAndGet();
+                        access.complete();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        /* ASSERT */
+        assertEquals(5, allowed.get());
+        assertEquals(5, counter.getPending(artifactId));
+    }
+
+    @Test
+    void tryReserve_limitCheckedTwice_reserveOnce() {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        Mockito.when(artifactRepository.findNumAccessed(artifactId)).thenReturn(4L);
+
+        /* ACT */
+        try (var access = counter.open(artifactId)) {
+            assertTrue(counter.tryReserve(artifactId, 5));
+            assertTrue(counter.tryReserve(artifactId, 5));
+            access.complete();
+        }
+
+        /* ASSERT */
+        assertEquals(1, counter.getPending(artifactId));
+    }
+
+    @Test
+    void close_accessNotCompleted_releaseReservation() {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        Mockito.when(artifactRepository.findNumAccessed(artifactId)).thenReturn(0L);
+
+        /* ACT */
+        try (var access = counter.open(artifactId)) {
+            assertTrue(counter.tryReserve(artifactId, 1));
+        }
+
+        /* ASSERT */
+        assertEquals(0, counter.getPending(artifactId));
+        assertTrue(counter.tryReserve(artifactId, 1));
+    }
+
+    @Test
+    void tryReserve_noAccess_checkOnly() {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        Mockito.when(artifactRepository.findNumAccessed(artifactId)).thenReturn(1L);
+
+        /* ACT && ASSERT */
+        assertTrue(counter.tryReserve(artifactId, 2));
+        assertFalse(counter.tryReserve(artifactId, 1));
+        assertEquals(0, counter.getPending(artifactId));
+    }
+}
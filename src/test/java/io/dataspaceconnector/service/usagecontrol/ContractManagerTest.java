@@ -39,6 +39,7 @@ import io.dataspaceconnector.model.artifact.Artifact;
 import io.dataspaceconnector.model.artifact.ArtifactImpl;
 import io.dataspaceconnector.service.EntityDependencyResolver;
 import io.dataspaceconnector.service.EntityResolver;
+import io.dataspaceconnector.service.cache.DeserializationCache;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -51,7 +52,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
-@SpringBootTest(classes = {ContractManager.class})
+@SpringBootTest(classes = {ContractManager.class, DeserializationCache.class})
 class ContractManagerTest {
 
     @Autowired
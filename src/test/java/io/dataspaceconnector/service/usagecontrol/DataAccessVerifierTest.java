@@ -28,11 +28,14 @@ import de.fraunhofer.iais.eis.util.TypedLiteral;
 import de.fraunhofer.iais.eis.util.Util;
 import ids.messaging.util.IdsMessageUtils;
 import io.dataspaceconnector.common.exception.PolicyRestrictionException;
+import io.dataspaceconnector.common.ids.DeserializationService;
 import io.dataspaceconnector.common.net.SelfLinkHelper;
 import io.dataspaceconnector.config.ConnectorConfig;
+import io.dataspaceconnector.model.agreement.Agreement;
 import io.dataspaceconnector.model.artifact.Artifact;
 import io.dataspaceconnector.model.artifact.ArtifactImpl;
 import io.dataspaceconnector.service.EntityResolver;
+import io.dataspaceconnector.service.cache.DeserializationCache;
 import io.dataspaceconnector.common.usagecontrol.AccessVerificationInput;
 import io.dataspaceconnector.common.usagecontrol.VerificationResult;
 import org.junit.jupiter.api.Test;
@@ -51,7 +54,8 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 
-@SpringBootTest(classes = {DataAccessVerifier.class})
+@SpringBootTest(classes = {DataAccessVerifier.class, PolicyCompiler.class,
+        DeserializationCache.class})
 public class DataAccessVerifierTest {
 
     @MockBean
@@ -66,6 +70,9 @@ public class DataAccessVerifierTest {
     @MockBean
     private SelfLinkHelper selfLinkHelper;
 
+    @MockBean
+    private DeserializationService deserializationService;
+
     @Autowired
     private DataAccessVerifier verifier;
 
@@ -80,8 +87,9 @@ public class DataAccessVerifierTest {
         final var agreement = getContractAgreement();
         final var input = new AccessVerificationInput(agreement.getId(), artifact);
 
-        when(entityResolver.getContractAgreementsByTarget(any())).thenReturn(List.of(agreement));
-        doNothing().when(ruleValidator).validatePolicy(any(), any(), any(), any(), any(), any());
+        when(entityResolver.getAgreementsByTarget(any())).thenReturn(List.of(new Agreement()));
+        when(deserializationService.getContractAgreement(any())).thenReturn(agreement);
+        doNothing().when(ruleValidator).validateDecision(any(), any(), any(), any(), any());
 
         /* ACT */
         final var result = verifier.verify(input);
@@ -97,9 +105,10 @@ public class DataAccessVerifierTest {
         final var agreement = getContractAgreement();
         final var input = new AccessVerificationInput(agreement.getId(), artifact);
 
-        when(entityResolver.getContractAgreementsByTarget(any())).thenReturn(List.of(agreement));
+        when(entityResolver.getAgreementsByTarget(any())).thenReturn(List.of(new Agreement()));
+        when(deserializationService.getContractAgreement(any())).thenReturn(agreement);
         doThrow(PolicyRestrictionException.class)
-                .when(ruleValidator).validatePolicy(any(), any(), any(), any(), any(), any());
+                .when(ruleValidator).validateDecision(any(), any(), any(), any(), any());
         when(connectorConfig.isAllowUnsupported()).thenReturn(false);
 
         /* ACT */
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import de.fraunhofer.iais.eis.Action;
+import de.fraunhofer.iais.eis.BinaryOperator;
+import de.fraunhofer.iais.eis.ConstraintBuilder;
+import de.fraunhofer.iais.eis.ContractAgreement;
+import de.fraunhofer.iais.eis.DutyBuilder;
+import de.fraunhofer.iais.eis.LeftOperand;
+import de.fraunhofer.iais.eis.Permission;
+import de.fraunhofer.iais.eis.PermissionBuilder;
+import de.fraunhofer.iais.eis.util.RdfResource;
+import de.fraunhofer.iais.eis.util.Util;
+import io.dataspaceconnector.model.agreement.Agreement;
+import io.dataspaceconnector.model.agreement.DeletionDeadline;
+import io.dataspaceconnector.model.artifact.ArtifactImpl;
+import io.dataspaceconnector.repository.DeletionDeadlineRepository;
+import io.dataspaceconnector.service.cache.DeserializationCache;
+import io.dataspaceconnector.service.resource.base.EntityChangedEvent;
+import io.dataspaceconnector.service.resource.type.AgreementService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+class DeletionDeadlineIndexTest {
+
+    private final DeletionDeadlineRepository deadlineRepo =
+            Mockito.mock(DeletionDeadlineRepository.class);
+
+    private final AgreementService agreementService = Mockito.mock(AgreementService.class);
+
+    private final DeserializationCache deserializationCache =
+            Mockito.mock(DeserializationCache.class);
+
+    private final DeletionDeadlineIndex index =
+            new DeletionDeadlineIndex(deadlineRepo, agreementService, deserializationCache);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void handleEntityChange_agreementWithDeletionDuty_storeDeadline() {
+        /* ARRANGE */
+        final var agreement = getAgreement();
+        final var target = URI.create("https://provider/api/artifacts/1");
+        mockRules(agreement, getDeletionRule(target, "2050-07-11T00:00:00Z"));
+
+        /* ACT */
+        index.handleEntityChange(new EntityChangedEvent(agreement));
+
+        /* ASSERT */
+        final var captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(deadlineRepo).deleteByAgreement(agreement.getId());
+        Mockito.verify(deadlineRepo).saveAll(captor.capture());
+        final var deadlines = (List<DeletionDeadline>) captor.getValue();
+        assertEquals(1, deadlines.size());
+        assertEquals(agreement.getId(), deadlines.get(0).getAgreementId());
+        assertEquals(target, deadlines.get(0).getTarget());
+        assertEquals(ZonedDateTime.parse("2050-07-11T00:00:00Z"), deadlines.get(0).getDeadline());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void handleEntityChange_agreementWithoutDeletionDuty_markIndexed() {
+        /* ARRANGE */
+        final var agreement = getAgreement();
+        mockRules(agreement, new PermissionBuilder()._action_(Util.asList(Action.USE)).build());
+
+        /* ACT */
+        index.handleEntityChange(new EntityChangedEvent(agreement));
+
+        /* ASSERT */
+        final var captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(deadlineRepo).saveAll(captor.capture());
+        final var deadlines = (List<DeletionDeadline>) captor.getValue();
+        assertEquals(1, deadlines.size());
+        assertNull(deadlines.get(0).getDeadline());
+    }
+
+    @Test
+    void handleEntityChange_agreementRemoved_removeDeadlines() {
+        /* ARRANGE */
+        final var agreement = getAgreement();
+
+        /* ACT */
+        index.handleEntityChange(new EntityChangedEvent(agreement, true));
+
+        /* ASSERT */
+        Mockito.verify(deadlineRepo).deleteByAgreement(agreement.getId());
+        Mockito.verify(deadlineRepo, Mockito.never()).saveAll(any());
+    }
+
+    @Test
+    void handleEntityChange_artifactChanged_markDeadlinesDue() {
+        /* ARRANGE */
+        final var remoteId = URI.create("https://provider/api/artifacts/1");
+        final var artifact = new ArtifactImpl();
+        ReflectionTestUtils.setField(artifact, "remoteId", remoteId);
+
+        /* ACT */
+        index.handleEntityChange(new EntityChangedEvent(artifact));
+
+        /* ASSERT */
+        Mockito.verify(deadlineRepo).markDue(remoteId);
+    }
+
+    @Test
+    void getDue_afterDeadline_continueAfterIt() {
+        /* ARRANGE */
+        final var now = ZonedDateTime.parse("2050-07-11T00:00:00Z");
+        final var last = new DeletionDeadline(UUID.randomUUID(),
+                URI.create("https://provider/api/artifacts/1"),
+                ZonedDateTime.parse("2020-07-11T00:00:00Z"));
+        ReflectionTestUtils.setField(last, "id", 7L);
+
+        /* ACT */
+        index.getDue(now, last);
+
+        /* ASSERT */
+        Mockito.verify(deadlineRepo).findDueAfter(eq(now), eq(last.getDeadline()), eq(7L), any());
+        Mockito.verify(deadlineRepo, Mockito.never()).findDue(any(), any());
+    }
+
+    @Test
+    void indexAll_unindexedAgreements_indexEach() {
+        /* ARRANGE */
+        final var agreement = getAgreement();
+        mockRules(agreement, new PermissionBuilder()._action_(Util.asList(Action.USE)).build());
+        Mockito.when(deadlineRepo.findUnindexedAgreements(any()))
+                .thenReturn(List.of(agreement.getId()))
+                .thenReturn(List.of());
+        Mockito.when(agreementService.get(agreement.getId())).thenReturn(agreement);
+
+        /* ACT */
+        index.indexAll();
+
+        /* ASSERT */
+        Mockito.verify(deadlineRepo, Mockito.times(1)).saveAll(any());
+    }
+
+    private void mockRules(final Agreement agreement, final Permission permission) {
+        final var idsAgreement = Mockito.mock(ContractAgreement.class);
+        Mockito.doReturn(new ArrayList<>(List.of(permission))).when(idsAgreement).getPermission();
+        Mockito.when(deserializationCache.getContractAgreement(agreement))
+                .thenReturn(idsAgreement);
+    }
+
+    private Permission getDeletionRule(final URI target, final String date) {
+        return new PermissionBuilder()
+                ._action_(Util.asList(Action.USE))
+                ._target_(target)
+                ._postDuty_(Util.asList(new DutyBuilder()
+                        ._action_(Util.asList(Action.DELETE))
+                        ._constraint_(Util.asList(new ConstraintBuilder()
+                                ._leftOperand_(LeftOperand.POLICY_EVALUATION_TIME)
+                                ._operator_(BinaryOperator.TEMPORAL_EQUALS)
+                                ._rightOperand_(new RdfResource(date,
+                                        URI.create("xsd:dateTimeStamp")))
+                                .build()))
+                        .build()))
+                .build();
+    }
+
+    private Agreement getAgreement() {
+        final var agreement = new Agreement();
+        ReflectionTestUtils.setField(agreement, "id", UUID.randomUUID());
+        return agreement;
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import io.dataspaceconnector.common.exception.PolicyExecutionException;
+import io.dataspaceconnector.common.ids.message.ClearingHouseService;
+import io.dataspaceconnector.model.agreement.PendingDuty;
+import io.dataspaceconnector.repository.PendingDutyRepository;
+import io.dataspaceconnector.service.message.builder.type.NotificationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+class DutyOutboxTest {
+
+    private final PendingDutyRepository dutyRepo = Mockito.mock(PendingDutyRepository.class);
+
+    private final ClearingHouseService clearingHouseSvc =
+            Mockito.mock(ClearingHouseService.class);
+
+    private final NotificationService notificationSvc = Mockito.mock(NotificationService.class);
+
+    private DutyOutbox outbox;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void init() {
+        outbox = new DutyOutbox(dutyRepo, clearingHouseSvc, notificationSvc,
+                Mockito.mock(ObjectProvider.class), 1000, 100, 4, 1000, 60_000, 3);
+    }
+
+    @AfterEach
+    void shutdown() {
+        outbox.shutdown();
+    }
+
+    @Test
+    void addLog_validInput_storeDueDuty() {
+        /* ARRANGE */
+        final var agreementId = URI.create("https://connector/api/agreements/1");
+
+        /* ACT */
+        outbox.addLog(agreementId, "log");
+
+        /* ASSERT */
+        final var captor = ArgumentCaptor.forClass(PendingDuty.class);
+        Mockito.verify(dutyRepo).save(captor.capture());
+        assertEquals(PendingDuty.Type.USAGE_LOGGING, captor.getValue().getType());
+        assertEquals(agreementId, captor.getValue().getRecipient());
+        assertEquals("log", captor.getValue().getLogItem());
+        Mockito.verify(clearingHouseSvc, Mockito.never()).sendToClearingHouse(any(), any());
+    }
+
+    @Test
+    void deliver_dueDuties_sendAndRemoveBatch() {
+        /* ARRANGE */
+        final var agreementId = URI.create("https://connector/api/agreements/1");
+        final var endpoint = URI.create("https://consumer/api/ids/data");
+        final var logDuty = getDuty(1L, PendingDuty.Type.USAGE_LOGGING, agreementId, 0);
+        final var notification = getDuty(2L, PendingDuty.Type.USAGE_NOTIFICATION, endpoint, 0);
+        Mockito.when(dutyRepo.claimDue(any(), any(), any()))
+                .thenReturn(List.of(logDuty, notification))
+                .thenReturn(List.of());
+
+        /* ACT */
+        outbox.deliver();
+
+        /* ASSERT */
+        Mockito.verify(clearingHouseSvc).sendToClearingHouse(agreementId, "log");
+        Mockito.verify(notificationSvc).sendMessage(endpoint, "log");
+        Mockito.verify(dutyRepo).deleteAllByIdInBatch(List.of(1L, 2L));
+        Mockito.verify(dutyRepo, Mockito.never()).postpone(any(), any());
+    }
+
+    @Test
+    void deliver_deliveryFails_postponeWithBackoff() {
+        /* ARRANGE */
+        final var endpoint = URI.create("https://consumer/api/ids/data");
+        final var duty = getDuty(1L, PendingDuty.Type.USAGE_NOTIFICATION, endpoint, 1);
+        Mockito.when(dutyRepo.claimDue(any(), any(), any()))
+                .thenReturn(List.of(duty))
+                .thenReturn(List.of());
+        Mockito.doThrow(new PolicyExecutionException("failed"))
+                .when(notificationSvc).sendMessage(endpoint, "log");
+
+        /* ACT */
+        final var before = ZonedDateTime.now();
+        outbox.deliver();
+        final var after = ZonedDateTime.now();
+
+        /* ASSERT */
+        final var captor = ArgumentCaptor.forClass(ZonedDateTime.class);
+        Mockito.verify(dutyRepo).postpone(eq(1L), captor.capture());
+        assertFalse(captor.getValue().isBefore(before.plusSeconds(2)));
+        assertFalse(captor.getValue().isAfter(after.plusSeconds(2)));
+        Mockito.verify(dutyRepo, Mockito.never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    void deliver_wholeBatchFails_stopUntilNextRun() {
+        /* ARRANGE */
+        final var endpoint = URI.create("https://consumer/api/ids/data");
+        final var first = getDuty(1L, PendingDuty.Type.USAGE_NOTIFICATION, endpoint, 0);
+        final var second = getDuty(2L, PendingDuty.Type.USAGE_NOTIFICATION, endpoint, 0);
+        Mockito.when(dutyRepo.claimDue(any(), any(), any()))
+                .thenReturn(List.of(first))
+                .thenReturn(List.of(second))
+                .thenReturn(List.of());
+        Mockito.doThrow(new PolicyExecutionException("failed"))
+                .when(notificationSvc).sendMessage(endpoint, "log");
+
+        /* ACT */
+        outbox.deliver();
+
+        /* ASSERT */
+        Mockito.verify(dutyRepo, Mockito.times(1)).claimDue(any(), any(), any());
+        Mockito.verify(dutyRepo).postpone(eq(1L), any());
+        Mockito.verify(notificationSvc, Mockito.times(1)).sendMessage(any(), any());
+    }
+
+    @Test
+    void deliver_dueDuties_claimUntilDeliveryTimedOut() {
+        /* ARRANGE */
+        Mockito.when(dutyRepo.claimDue(any(), any(), any())).thenReturn(List.of());
+
+        /* ACT */
+        outbox.deliver();
+
+        /* ASSERT */
+        final var now = ArgumentCaptor.forClass(ZonedDateTime.class);
+        final var until = ArgumentCaptor.forClass(ZonedDateTime.class);
+        Mockito.verify(dutyRepo).claimDue(now.capture(), until.capture(), any());
+        assertTrue(until.getValue().isAfter(now.getValue()));
+    }
+
+    @Test
+    void deliver_lastAttemptFails_dropDuty() {
+        /* ARRANGE */
+        final var endpoint = URI.create("https://consumer/api/ids/data");
+        final var duty = getDuty(1L, PendingDuty.Type.USAGE_NOTIFICATION, endpoint, 2);
+        Mockito.when(dutyRepo.claimDue(any(), any(), any()))
+                .thenReturn(List.of(duty))
+                .thenReturn(List.of());
+        Mockito.doThrow(new PolicyExecutionException("failed"))
+                .when(notificationSvc).sendMessage(endpoint, "log");
+
+        /* ACT */
+        outbox.deliver();
+
+        /* ASSERT */
+        Mockito.verify(dutyRepo, Mockito.never()).postpone(any(), any());
+        Mockito.verify(dutyRepo).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    void getBackoff_manyAttempts_doubleUpToMaximum() {
+        /* ACT && ASSERT */
+        assertEquals(Duration.ofSeconds(1), outbox.getBackoff(0));
+        assertEquals(Duration.ofSeconds(8), outbox.getBackoff(3));
+        assertEquals(Duration.ofMinutes(1), outbox.getBackoff(10));
+        assertEquals(Duration.ofMinutes(1), outbox.getBackoff(1000));
+    }
+
+    private PendingDuty getDuty(final Long id, final PendingDuty.Type type, final URI recipient,
+                                final int attempts) {
+        final var duty = new PendingDuty(type, recipient, "log", ZonedDateTime.now());
+        ReflectionTestUtils.setField(duty, "id", id);
+        ReflectionTestUtils.setField(duty, "attempts", attempts);
+        return duty;
+    }
+}
@@ -77,6 +77,9 @@ public class PolicyExecutionServiceTest {
     @MockBean
     private ProcessCreationRequestService requestService;
 
+    @MockBean
+    private DutyOutbox dutyOutbox;
+
     @Autowired
     private PolicyExecutionService policyExecutionService;
 
@@ -132,38 +135,35 @@ public class PolicyExecutionServiceTest {
     }
 
     @Test
-    public void logDataAccess_clearingHouseUriPresent_sendLogMessageToClearingHouse() {
+    public void logDataAccess_validInput_storeLogMessageForClearingHouse() {
         /* ARRANGE */
         final var target = URI.create("https://target.com");
+        final var agreementId = URI.create("https://agreement.com/api/agreements/" + agreementID);
         final var connectorId = URI.create("https://connector.com");
 
-        when(connectorConfig.getClearingHouse()).thenReturn(chUri);
-        doNothing().when(logMessageService).sendMessage(any(), any());
         when(connectorService.getConnectorId()).thenReturn(connectorId);
 
         /* ACT */
-        policyExecutionService.logDataAccess(target, URI.create("https://agreement.com/api/agreements/" + agreementID));
+        policyExecutionService.logDataAccess(target, agreementId);
 
         /* ASSERT */
-        verify(logMessageService, times(1))
-                .sendMessage(eq(URI.create(chUri + "/" + chLogPath + "/" + agreementID)), any());
+        verify(dutyOutbox, times(1)).addLog(eq(agreementId), any());
+        verify(logMessageService, never()).sendMessage(any(), any());
     }
 
     @Test
-    public void reportDataAccess_sendNotificationMessage() {
+    public void reportDataAccess_storeNotificationMessage() {
         /* ARRANGE */
         final var notificationUri = "https://localhost:8080/api/ids/data";
         final var rule = getRule(notificationUri);
         final var target = URI.create("https://target.com");
 
-        doNothing().when(notificationService).sendMessage(any(), any());
-
         /* ACT */
         policyExecutionService.reportDataAccess(rule, target);
 
         /* ASSERT */
-        verify(notificationService, times(1))
-                .sendMessage(eq(URI.create(notificationUri)), any());
+        verify(dutyOutbox, times(1)).addNotification(eq(URI.create(notificationUri)), any());
+        verify(notificationService, never()).sendMessage(any(), any());
     }
 
     /***********************************************************************************************
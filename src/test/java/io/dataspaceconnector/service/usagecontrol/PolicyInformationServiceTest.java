@@ -17,6 +17,7 @@ package io.dataspaceconnector.service.usagecontrol;
 
 import io.dataspaceconnector.model.artifact.Artifact;
 import io.dataspaceconnector.model.artifact.ArtifactImpl;
+import io.dataspaceconnector.repository.ArtifactRepository;
 import io.dataspaceconnector.service.resource.type.ArtifactService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,12 +33,18 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.when;
 
-@SpringBootTest(classes = {PolicyInformationService.class})
+@SpringBootTest(classes = {PolicyInformationService.class, ArtifactAccessCounter.class})
 public class PolicyInformationServiceTest {
 
     @MockBean
     private ArtifactService artifactService;
 
+    @MockBean
+    private ArtifactRepository artifactRepository;
+
+    @Autowired
+    private ArtifactAccessCounter accessCounter;
+
     @Autowired
     private PolicyInformationService policyInformationService;
 
@@ -66,7 +73,7 @@ public class PolicyInformationServiceTest {
         final var artifact = getArtifact();
         final var targetUri = URI.create("https://localhost:8080/api/artifacts" + artifact.getId());
 
-        when(artifactService.get(artifact.getId())).thenReturn(artifact);
+        when(artifactRepository.findNumAccessed(artifact.getId())).thenReturn(numAccessed);
 
         /* ACT */
         final var result = policyInformationService.getAccessNumber(targetUri);
@@ -75,6 +82,23 @@ public class PolicyInformationServiceTest {
         assertEquals(numAccessed, result);
     }
 
+    @Test
+    public void getAccessNumber_accessesNotStored_includePendingAccesses() {
+        /* ARRANGE */
+        final var artifact = getArtifact();
+        final var targetUri = URI.create("https://localhost:8080/api/artifacts" + artifact.getId());
+
+        when(artifactRepository.findNumAccessed(artifact.getId())).thenReturn(numAccessed);
+        accessCounter.increment(artifact.getId());
+        accessCounter.increment(artifact.getId());
+
+        /* ACT */
+        final var result = policyInformationService.getAccessNumber(targetUri);
+
+        /* ASSERT */
+        assertEquals(numAccessed + 2, result);
+    }
+
     /***********************************************************************************************
      * Utilities.                                                                                  *
      **********************************************************************************************/
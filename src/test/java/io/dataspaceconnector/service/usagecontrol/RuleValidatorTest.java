@@ -30,6 +30,7 @@ import io.dataspaceconnector.common.exception.PolicyRestrictionException;
 import io.dataspaceconnector.model.pattern.SecurityRestrictionDesc;
 import io.dataspaceconnector.common.ids.DeserializationService;
 import io.dataspaceconnector.service.EntityDependencyResolver;
+import io.dataspaceconnector.service.cache.DeserializationCache;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -43,11 +44,13 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 
 
-@SpringBootTest(classes = { RuleValidator.class })
+@SpringBootTest(classes = { RuleValidator.class, DeserializationCache.class })
 class RuleValidatorTest {
 
     @MockBean
@@ -154,7 +157,7 @@ class RuleValidatorTest {
         final var target = URI.create("https://target");
         final var agreementId = URI.create("https://target");
 
-        Mockito.when(informationService.getAccessNumber(eq(target))).thenReturn(0L);
+        Mockito.when(informationService.reserveAccess(eq(target), eq(5L))).thenReturn(true);
 
         /* ACT && ASSERT */
         assertDoesNotThrow(() -> validator.validatePolicy( PolicyPattern.N_TIMES_USAGE, rule, target, recipient, Optional.empty(),agreementId));
@@ -175,7 +178,7 @@ class RuleValidatorTest {
         final var target = URI.create("https://target");
         final var agreementId = URI.create("https://target");
 
-        Mockito.when(informationService.getAccessNumber(eq(target))).thenReturn(6L);
+        Mockito.when(informationService.reserveAccess(eq(target), eq(5L))).thenReturn(false);
 
         /* ACT && ASSERT */
         final var result = assertThrows(PolicyRestrictionException.class, () -> validator.validatePolicy(PolicyPattern.N_TIMES_USAGE, rule, target, recipient, Optional.empty(), agreementId));
@@ -240,4 +243,79 @@ class RuleValidatorTest {
                 PolicyPattern.SECURITY_PROFILE_RESTRICTED_USAGE, rule, target, issuer,
                 Optional.of(profile), agreementId));
     }
+
+    @Test
+    public void validateDecision_N_TIMES_USAGE_failsOnExceededUsage() {
+        /* ARRANGE */
+        final var rule = new PermissionBuilder()
+                ._action_(List.of(Action.USE))
+                ._constraint_(Util.asList(new ConstraintBuilder()
+                                                  ._leftOperand_(LeftOperand.COUNT)
+                                                  ._operator_(BinaryOperator.EQ)
+                                                  ._rightOperand_(new RdfResource("5"))
+                                                  .build()))
+                .build();
+        final var decision = PolicyDecision.compile(rule);
+        final var target = URI.create("https://target");
+        final var agreementId = URI.create("https://target");
+
+        Mockito.when(informationService.reserveAccess(eq(target), eq(5L))).thenReturn(false);
+
+        /* ACT && ASSERT */
+        assertEquals(PolicyPattern.N_TIMES_USAGE, decision.getPattern());
+        assertEquals(5, decision.getMaxAccess());
+        final var result = assertThrows(PolicyRestrictionException.class, () -> validator.validateDecision(decision, target, null, Optional.empty(), agreementId));
+        assertEquals(ErrorMessage.DATA_ACCESS_NUMBER_REACHED.toString(), result.getMessage());
+    }
+
+    @Test
+    public void validateDecision_USAGE_DURING_INTERVAL_notATimeFail() {
+        /* ARRANGE */
+        final var rule = new PermissionBuilder()
+                ._action_(Util.asList(Action.USE))
+                ._constraint_(Util.asList(new ConstraintBuilder()
+                                                  ._leftOperand_(LeftOperand.POLICY_EVALUATION_TIME)
+                                                  ._operator_(BinaryOperator.AFTER)
+                                                  ._rightOperand_(new RdfResource("some long long time ago",
+                                                                                  URI.create("xsd:dateTimeStamp")))
+                                                  .build(), new ConstraintBuilder()
+                                                  ._leftOperand_(LeftOperand.POLICY_EVALUATION_TIME)
+                                                  ._operator_(BinaryOperator.BEFORE)
+                                                  ._rightOperand_(new RdfResource("2029-05-07T17:05:45.678Z", URI.create("xsd:dateTimeStamp")))
+                                                  .build()))
+                .build();
+        final var decision = PolicyDecision.compile(rule);
+        final var target = URI.create("https://target");
+        final var agreementId = URI.create("https://target");
+
+        /* ACT && ASSERT */
+        assertFalse(decision.isCompiled());
+        final var result = assertThrows(PolicyRestrictionException.class, () -> validator.validateDecision(decision, target, null, Optional.empty(), agreementId));
+        assertEquals(ErrorMessage.DATA_ACCESS_INVALID_INTERVAL.toString(), result.getMessage());
+    }
+
+    @Test
+    public void validateDecision_USAGE_DURING_INTERVAL_doNothing() {
+        /* ARRANGE */
+        final var rule = new PermissionBuilder()
+                ._action_(Util.asList(Action.USE))
+                ._constraint_(Util.asList(new ConstraintBuilder()
+                                                  ._leftOperand_(LeftOperand.POLICY_EVALUATION_TIME)
+                                                  ._operator_(BinaryOperator.AFTER)
+                                                  ._rightOperand_(new RdfResource("2009-05-07T17:05:45.678Z",
+                                                                                  URI.create("xsd:dateTimeStamp")))
+                                                  .build(), new ConstraintBuilder()
+                                                  ._leftOperand_(LeftOperand.POLICY_EVALUATION_TIME)
+                                                  ._operator_(BinaryOperator.BEFORE)
+                                                  ._rightOperand_(new RdfResource("2029-05-07T17:05:45.678Z", URI.create("xsd:dateTimeStamp")))
+                                                  .build()))
+                .build();
+        final var decision = PolicyDecision.compile(rule);
+        final var target = URI.create("https://target");
+        final var agreementId = URI.create("https://target");
+
+        /* ACT && ASSERT */
+        assertTrue(decision.isCompiled());
+        assertDoesNotThrow(() -> validator.validateDecision(decision, target, null, Optional.empty(), agreementId));
+    }
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2022 sovity GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import io.dataspaceconnector.common.ids.policy.UsageControlFramework;
+import io.dataspaceconnector.config.ConnectorConfig;
+import io.dataspaceconnector.model.agreement.DeletionDeadline;
+import io.dataspaceconnector.service.resource.type.ArtifactService;
+import io.dataspaceconnector.service.storage.LocalDataStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+
+class ScheduledDataRemovalTest {
+
+    private final ConnectorConfig connectorConfig = Mockito.mock(ConnectorConfig.class);
+
+    private final DeletionDeadlineIndex deadlineIndex = Mockito.mock(DeletionDeadlineIndex.class);
+
+    private final ArtifactService artifactService = Mockito.mock(ArtifactService.class);
+
+    private final LocalDataStore localDataStore = Mockito.mock(LocalDataStore.class);
+
+    private ScheduledDataRemoval dataRemoval;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void init() {
+        Mockito.when(connectorConfig.getUcFramework()).thenReturn(UsageControlFramework.INTERNAL);
+        dataRemoval = new ScheduledDataRemoval(connectorConfig, deadlineIndex, artifactService,
+                localDataStore, Mockito.mock(ObjectProvider.class), 4);
+    }
+
+    @AfterEach
+    void shutdown() {
+        dataRemoval.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void schedule_deadlinesOfSameArtifact_removeDataOnceAndMarkPageDone() throws IOException {
+        /* ARRANGE */
+        final var target = URI.create("https://provider/api/artifacts/1");
+        final var artifactId = UUID.randomUUID();
+        final var page = List.of(getDeadline(1L, target), getDeadline(2L, target));
+        Mockito.when(deadlineIndex.getDue(any(), any())).thenReturn(page).thenReturn(List.of());
+        Mockito.when(artifactService.identifyByRemoteId(target))
+                .thenReturn(Optional.of(artifactId));
+
+        /* ACT */
+        dataRemoval.schedule();
+
+        /* ASSERT */
+        Mockito.verify(artifactService, Mockito.times(1)).setData(eq(artifactId), any());
+        final var captor = ArgumentCaptor.forClass(Collection.class);
+        Mockito.verify(deadlineIndex).markDone(captor.capture());
+        assertEquals(2, captor.getValue().size());
+        Mockito.verify(localDataStore).collectGarbage();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void schedule_removalFails_continueWithLaterPages() throws IOException {
+        /* ARRANGE */
+        final var removable = URI.create("https://provider/api/artifacts/1");
+        final var failing = URI.create("https://provider/api/artifacts/2");
+        final var failingId = UUID.randomUUID();
+        final var page = List.of(getDeadline(1L, removable), getDeadline(2L, failing));
+        final var laterPage = List.of(getDeadline(3L, removable));
+        Mockito.when(deadlineIndex.getDue(any(), isNull())).thenReturn(page);
+        Mockito.when(deadlineIndex.getDue(any(), eq(page.get(1)))).thenReturn(laterPage);
+        Mockito.when(deadlineIndex.getDue(any(), eq(laterPage.get(0)))).thenReturn(List.of());
+        Mockito.when(artifactService.identifyByRemoteId(removable)).thenReturn(Optional.empty());
+        Mockito.when(artifactService.identifyByRemoteId(failing))
+                .thenReturn(Optional.of(failingId));
+        Mockito.when(artifactService.setData(eq(failingId), any()))
+                .thenThrow(new IOException("failed"));
+
+        /* ACT */
+        dataRemoval.schedule();
+
+        /* ASSERT */
+        final var captor = ArgumentCaptor.forClass(Collection.class);
+        Mockito.verify(deadlineIndex, Mockito.times(2)).markDone(captor.capture());
+        assertEquals(List.of(page.get(0)), List.copyOf(captor.getAllValues().get(0)));
+        assertEquals(laterPage, List.copyOf(captor.getAllValues().get(1)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void schedule_afterShutdown_keepDeadlinesDue() throws IOException {
+        /* ARRANGE */
+        final var target = URI.create("https://provider/api/artifacts/1");
+        final var page = List.of(getDeadline(1L, target));
+        Mockito.when(deadlineIndex.getDue(any(), any())).thenReturn(page).thenReturn(List.of());
+        dataRemoval.shutdown();
+
+        /* ACT */
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> dataRemoval.schedule());
+
+        /* ASSERT */
+        final var captor = ArgumentCaptor.forClass(Collection.class);
+        Mockito.verify(deadlineIndex).markDone(captor.capture());
+        assertTrue(captor.getValue().isEmpty());
+        Mockito.verify(artifactService, Mockito.never()).setData(any(), any());
+    }
+
+    @Test
+    void schedule_otherFramework_skipScan() {
+        /* ARRANGE */
+        Mockito.when(connectorConfig.getUcFramework()).thenReturn(UsageControlFramework.MY_DATA);
+
+        /* ACT */
+        dataRemoval.schedule();
+
+        /* ASSERT */
+        Mockito.verify(deadlineIndex, Mockito.never()).getDue(any(), any());
+    }
+
+    private DeletionDeadline getDeadline(final Long id, final URI target) {
+        final var deadline = new DeletionDeadline(UUID.randomUUID(), target,
+                ZonedDateTime.parse("2020-07-11T00:00:00Z"));
+        ReflectionTestUtils.setField(deadline, "id", id);
+        return deadline;
+    }
+}